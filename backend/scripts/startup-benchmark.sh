@@ -0,0 +1,112 @@
+#!/usr/bin/env bash
+#
+# Startup benchmark: cold start time and time-to-first-request of the backend in each startup mode.
+#
+#   baseline    java -jar on the fat jar, default profile
+#   profile     java -jar with the fast-start Spring profile (lazy beans, no springdoc)
+#   aot         fast-start profile on the Spring AOT bean graph, plain jars on the class path
+#   fast-start  aot plus the AppCDS archive from the training run
+#
+# Build once with the fast-start Maven profile; its fat jar still runs the baseline, AOT is off unless enabled:
+#   mvn -Pfast-start -DskipTests package
+#   scripts/startup-benchmark.sh [runs] [modes...]
+#
+# Every run starts a fresh JVM against the database from SPRING_DATASOURCE_URL (migrations already applied)
+# and measures from launch:
+#   started     Spring's "process running for", up to the end of context refresh
+#   ready       /actuator/health answers 200
+#   first       a login and an authenticated GET /api/projects have completed (time-to-first-request)
+# Prints the median of each over the runs.
+#
+# Environment: SPRING_DATASOURCE_URL/USERNAME/PASSWORD, PORT (default 8080),
+#              BENCH_EMAIL/BENCH_PASSWORD (default: a demo user), JAVA_OPTS (added to every mode)
+
+set -euo pipefail
+
+cd "$(dirname "$0")/.."
+
+RUNS=${1:-5}
+shift || true
+MODES=${*:-baseline profile aot fast-start}
+PORT=${PORT:-8080}
+EMAIL=${BENCH_EMAIL:-john.doe@example.com}
+PASSWORD=${BENCH_PASSWORD:-password123}
+BASE=http://localhost:$PORT
+
+JAR=$(ls target/minipgmt-backend-*.jar | grep -v -- '-app.jar' | head -1)
+APP_JAR=$(ls target/fast-start/minipgmt-backend-*-app.jar 2>/dev/null | head -1 || true)
+ARCHIVE=target/fast-start/app.jsa
+CLASSPATH="$APP_JAR:target/fast-start/lib/*"
+MAIN=com.minipgmt.MiniPgmtApplication
+LOG=$(mktemp)
+trap 'rm -f "$LOG"; [ -n "${PID:-}" ] && kill "$PID" 2>/dev/null || true' EXIT
+
+if [ -z "$APP_JAR" ] || [ ! -f "$ARCHIVE" ]; then
+    echo "target/fast-start is missing; build with: mvn -Pfast-start -DskipTests package" >&2
+    exit 1
+fi
+
+command_for() {
+    local common="${JAVA_OPTS:-} -Dserver.port=$PORT -Dlogging.level.root=WARN -Dlogging.level.com.minipgmt=WARN -Dlogging.level.com.minipgmt.MiniPgmtApplication=INFO"
+    case $1 in
+        baseline)   echo "java $common -jar $JAR" ;;
+        profile)    echo "java $common -jar $JAR --spring.profiles.active=fast-start" ;;
+        aot)        echo "java $common -Dspring.aot.enabled=true -cp $CLASSPATH $MAIN --spring.profiles.active=fast-start" ;;
+        fast-start) echo "java $common -XX:SharedArchiveFile=$ARCHIVE -Xlog:cds=error -Dspring.aot.enabled=true -cp $CLASSPATH $MAIN --spring.profiles.active=fast-start" ;;
+        *)          echo "unknown mode: $1" >&2; exit 1 ;;
+    esac
+}
+
+now_ms() {
+    echo $(( $(date +%s%N) / 1000000 ))
+}
+
+median() {
+    sort -n | awk '{ v[NR] = $1 } END { print (NR % 2) ? v[(NR + 1) / 2] : int((v[NR / 2] + v[NR / 2 + 1]) / 2) }'
+}
+
+# one cold start; prints "started_ms ready_ms first_ms"
+run_once() {
+    local start ready first token started
+    start=$(now_ms)
+    # shellcheck disable=SC2046
+    set -f
+    $(command_for "$1") > "$LOG" 2>&1 &
+    set +f
+    PID=$!
+
+    until [ "$(curl -s -o /dev/null -w '%{http_code}' "$BASE/actuator/health")" = 200 ]; do
+        if ! kill -0 "$PID" 2>/dev/null; then
+            echo "$1 failed to start:" >&2
+            tail -20 "$LOG" >&2
+            exit 1
+        fi
+        sleep 0.05
+    done
+    ready=$(now_ms)
+
+    token=$(curl -sf -X POST "$BASE/api/auth/login" -H 'Content-Type: application/json' \
+        -d "{\"email\":\"$EMAIL\",\"password\":\"$PASSWORD\"}" | sed -n 's/.*"accessToken":"\([^"]*\)".*/\1/p')
+    curl -sf -o /dev/null -H "Authorization: Bearer $token" "$BASE/api/projects"
+    first=$(now_ms)
+
+    started=$(sed -n 's/.*process running for \([0-9.]*\).*/\1/p' "$LOG" | head -1)
+    kill "$PID"
+    wait "$PID" 2>/dev/null || true
+    PID=
+
+    awk -v s="$started" -v r=$((ready - start)) -v f=$((first - start)) 'BEGIN { printf "%d %d %d\n", s * 1000, r, f }'
+}
+
+printf '| mode | started (ms) | ready (ms) | first request (ms) |\n|---|---|---|---|\n'
+for mode in $MODES; do
+    results=$(mktemp)
+    for _ in $(seq "$RUNS"); do
+        run_once "$mode" >> "$results"
+    done
+    printf '| %s | %s | %s | %s |\n' "$mode" \
+        "$(cut -d' ' -f1 "$results" | median)" \
+        "$(cut -d' ' -f2 "$results" | median)" \
+        "$(cut -d' ' -f3 "$results" | median)"
+    rm -f "$results"
+done
@@ -0,0 +1,109 @@
+package com.minipgmt.benchmark;
+
+import com.minipgmt.domain.Issue;
+import com.minipgmt.domain.Project;
+import com.minipgmt.domain.User;
+
+import java.math.BigDecimal;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Random;
+import java.util.UUID;
+
+/**
+ * Deterministic in-memory project used by the benchmarks.
+ * Follows the hierarchy rules: epics contain stories/tasks/bugs, top-level
+ * stories/tasks/bugs contain subtasks.
+ */
+final class BenchmarkData {
+
+    final Project project;
+    final List<User> users = new ArrayList<>();
+    final List<Issue> issues = new ArrayList<>();
+    final List<Issue> epics = new ArrayList<>();
+    final Map<UUID, Issue> issuesById = new HashMap<>();
+    final Map<UUID, List<Issue>> childrenByParentId = new HashMap<>();
+    final Map<String, Issue> issuesByKey = new HashMap<>();
+
+    private final Random random = new Random(42);
+    private int issueNumber = 0;
+
+    /**
+     * @param groups number of epics, and also of top-level stories; each epic gets 5 children
+     *               and each top-level story 3 subtasks, so a project has 10 issues per group
+     */
+    BenchmarkData(int groups) {
+        for (int i = 0; i < 20; i++) {
+            User user = User.builder()
+                    .name("User " + i)
+                    .email("user" + i + "@example.com")
+                    .passwordHash("hash")
+                    .avatarUrl("https://api.dicebear.com/7.x/avataaars/svg?seed=" + i)
+                    .role(User.UserRole.MEMBER)
+                    .isActive(true)
+                    .build();
+            user.setId(new UUID(1L, i));
+            users.add(user);
+        }
+
+        project = Project.builder()
+                .key("BENCH")
+                .name("Benchmark Project")
+                .health(Project.ProjectHealth.ON_TRACK)
+                .createdBy(users.get(0))
+                .build();
+        project.setId(new UUID(2L, 0L));
+
+        for (int g = 0; g < groups; g++) {
+            Issue epic = newIssue(Issue.IssueType.EPIC, null);
+            epics.add(epic);
+            for (int c = 0; c < 5; c++) {
+                newIssue(c % 3 == 0 ? Issue.IssueType.BUG : Issue.IssueType.STORY, epic);
+            }
+
+            Issue story = newIssue(Issue.IssueType.STORY, null);
+            for (int s = 0; s < 3; s++) {
+                newIssue(Issue.IssueType.SUBTASK, story);
+            }
+        }
+    }
+
+    List<Issue> childrenOf(UUID parentId) {
+        return childrenByParentId.getOrDefault(parentId, Collections.emptyList());
+    }
+
+    private Issue newIssue(Issue.IssueType type, Issue parent) {
+        issueNumber++;
+        Issue issue = Issue.builder()
+                .key(project.getKey() + "-" + issueNumber)
+                .title("Benchmark issue " + issueNumber + " with a realistic length title")
+                .description("<p>Description for issue " + issueNumber + " with <strong>rich</strong> text.</p>")
+                .type(type)
+                .priority(Issue.IssuePriority.values()[random.nextInt(Issue.IssuePriority.values().length)])
+                .status(random.nextInt(4) == 0 ? "done" : "todo")
+                .project(project)
+                .parentIssue(parent)
+                .assignee(users.get(random.nextInt(users.size())))
+                .reporter(users.get(random.nextInt(users.size())))
+                .storyPoints(random.nextInt(13))
+                .dueDate(LocalDate.of(2026, 1, 1).plusDays(random.nextInt(365)))
+                .estimateHours(BigDecimal.valueOf(random.nextInt(40)))
+                .build();
+        issue.setId(new UUID(3L, issueNumber));
+        issue.setCreatedAt(LocalDateTime.of(2026, 1, 1, 9, 0).plusMinutes(issueNumber));
+        issue.setUpdatedAt(issue.getCreatedAt());
+
+        issues.add(issue);
+        issuesById.put(issue.getId(), issue);
+        issuesByKey.put(issue.getKey(), issue);
+        if (parent != null) {
+            childrenByParentId.computeIfAbsent(parent.getId(), id -> new ArrayList<>()).add(issue);
+        }
+        return issue;
+    }
+}
@@ -0,0 +1,81 @@
+package com.minipgmt.benchmark;
+
+import com.fasterxml.jackson.annotation.JsonInclude;
+import com.fasterxml.jackson.databind.DeserializationFeature;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.SerializationFeature;
+import com.minipgmt.domain.Issue;
+import com.minipgmt.dto.IssueDto;
+import com.minipgmt.dto.UserSummaryDto;
+import org.openjdk.jmh.annotations.*;
+import org.springframework.http.converter.json.Jackson2ObjectMapperBuilder;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Jackson serialization of IssueDto lists, configured like application.yml
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+public class IssueDtoSerializationBenchmark {
+
+    @Param({"100", "1000", "10000"})
+    public int size;
+
+    private ObjectMapper objectMapper;
+    private List<IssueDto> issues;
+
+    @Setup
+    public void setUp() {
+        objectMapper = Jackson2ObjectMapperBuilder.json()
+                .serializationInclusion(JsonInclude.Include.NON_NULL)
+                .featuresToDisable(SerializationFeature.WRITE_DATES_AS_TIMESTAMPS,
+                        DeserializationFeature.FAIL_ON_UNKNOWN_PROPERTIES)
+                .build();
+
+        BenchmarkData data = new BenchmarkData(size / 10 + 1);
+        issues = new ArrayList<>(size);
+        for (Issue issue : data.issues.subList(0, size)) {
+            issues.add(IssueDto.builder()
+                    .id(issue.getId())
+                    .key(issue.getKey())
+                    .title(issue.getTitle())
+                    .description(issue.getDescription())
+                    .type(issue.getType().name().toLowerCase())
+                    .priority(issue.getPriority().name().toLowerCase())
+                    .status(issue.getStatus())
+                    .projectKey(issue.getProject().getKey())
+                    .parentIssueId(issue.getParentIssue() != null ? issue.getParentIssue().getId() : null)
+                    .parentIssueKey(issue.getParentIssue() != null ? issue.getParentIssue().getKey() : null)
+                    .assignee(toSummary(issue.getAssignee()))
+                    .reporter(toSummary(issue.getReporter()))
+                    .storyPoints(issue.getStoryPoints())
+                    .dueDate(issue.getDueDate())
+                    .estimateHours(issue.getEstimateHours())
+                    .loggedHours(issue.getLoggedHours())
+                    .commentCount(0L)
+                    .attachmentCount(0L)
+                    .createdAt(issue.getCreatedAt())
+                    .updatedAt(issue.getUpdatedAt())
+                    .build());
+        }
+    }
+
+    @Benchmark
+    public byte[] serialize() throws Exception {
+        return objectMapper.writeValueAsBytes(issues);
+    }
+
+    private UserSummaryDto toSummary(com.minipgmt.domain.User user) {
+        return UserSummaryDto.builder()
+                .id(user.getId())
+                .name(user.getName())
+                .email(user.getEmail())
+                .avatarUrl(user.getAvatarUrl())
+                .role(user.getRole().name().toLowerCase())
+                .build();
+    }
+}
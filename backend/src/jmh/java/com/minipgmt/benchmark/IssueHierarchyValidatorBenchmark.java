@@ -0,0 +1,69 @@
+package com.minipgmt.benchmark;
+
+import com.minipgmt.domain.Issue;
+import com.minipgmt.domain.Issue.IssueType;
+import com.minipgmt.repository.IssueRepository;
+import com.minipgmt.service.IssueHierarchyValidator;
+import org.openjdk.jmh.annotations.*;
+import org.openjdk.jmh.infra.Blackhole;
+
+import java.util.Map;
+import java.util.Optional;
+import java.util.UUID;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * IssueHierarchyValidator rule checks against an in-memory issue store
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+public class IssueHierarchyValidatorBenchmark {
+
+    private static final IssueType[][] VALID_PAIRS = {
+            {IssueType.STORY, IssueType.EPIC},
+            {IssueType.TASK, IssueType.EPIC},
+            {IssueType.BUG, IssueType.EPIC},
+            {IssueType.SUBTASK, IssueType.STORY},
+            {IssueType.SUBTASK, IssueType.TASK},
+            {IssueType.SUBTASK, IssueType.BUG}
+    };
+
+    private IssueHierarchyValidator validator;
+    private UUID storyId;
+    private UUID epicId;
+    private UUID unrelatedIssueId;
+
+    @Setup
+    public void setUp() {
+        BenchmarkData data = new BenchmarkData(10);
+        Issue epic = data.epics.get(0);
+        epicId = epic.getId();
+        storyId = data.childrenOf(epicId).get(0).getId();
+        unrelatedIssueId = data.epics.get(1).getId();
+
+        IssueRepository issueRepository = InMemoryRepositories.of(IssueRepository.class, Map.of(
+                "findById", args -> Optional.ofNullable(data.issuesById.get((UUID) args[0]))
+        ));
+        validator = new IssueHierarchyValidator(issueRepository);
+    }
+
+    @Benchmark
+    public void parentChildRules(Blackhole blackhole) {
+        for (IssueType[] pair : VALID_PAIRS) {
+            validator.validateParentChildRelationship(pair[0], pair[1]);
+        }
+        blackhole.consume(validator.canHaveChildren(IssueType.STORY));
+    }
+
+    @Benchmark
+    public void circularReferenceWalk() {
+        // Walks story -> epic -> root before concluding there is no cycle
+        validator.validateCircularReference(unrelatedIssueId, storyId);
+    }
+
+    @Benchmark
+    public void hierarchyDepth() {
+        validator.validateHierarchyDepth(epicId);
+    }
+}
@@ -0,0 +1,85 @@
+package com.minipgmt.benchmark;
+
+import com.minipgmt.dto.IssueDto;
+import com.minipgmt.event.DomainEventPublisher;
+import com.minipgmt.repository.IssueLinkRepository;
+import com.minipgmt.repository.IssueRepository;
+import com.minipgmt.repository.OutboxEventRepository;
+import com.minipgmt.repository.ProjectRepository;
+import com.minipgmt.repository.SprintRepository;
+import com.minipgmt.repository.UserRepository;
+import com.minipgmt.service.BoardRankService;
+import com.minipgmt.service.ChangeFeedService;
+import com.minipgmt.service.DependencyGraphService;
+import com.minipgmt.service.IssueHierarchyValidator;
+import com.minipgmt.service.IssueService;
+import com.minipgmt.service.ProgressRollupService;
+import org.openjdk.jmh.annotations.*;
+
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.UUID;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * IssueService entity-to-DTO mapping.
+ * getIssuesByProject exercises mapToDto (subtasks grouped from one child query), getSubtasks exercises
+ * mapToDtoWithoutSubtasks. Repositories are in-memory, so only mapping cost is measured.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+public class IssueMappingBenchmark {
+
+    @Param({"10", "100"})
+    public int groups;
+
+    private IssueService issueService;
+    private String projectKey;
+    private String epicKey;
+
+    @Setup
+    public void setUp() {
+        BenchmarkData data = new BenchmarkData(groups);
+        projectKey = data.project.getKey();
+        epicKey = data.epics.get(0).getKey();
+
+        IssueRepository issueRepository = InMemoryRepositories.of(IssueRepository.class, Map.of(
+                "findByProjectIdWithDetails", args -> data.issues,
+                "findChildrenByParentProjectId", args -> data.issues.stream()
+                        .filter(issue -> issue.getParentIssue() != null)
+                        .toList(),
+                "findEpicProgressByProjectId", args -> List.of(),
+                "findByParentIssueId", args -> data.childrenOf((UUID) args[0]),
+                "findByKey", args -> Optional.ofNullable(data.issuesByKey.get((String) args[0])),
+                "findById", args -> Optional.ofNullable(data.issuesById.get((UUID) args[0]))
+        ));
+        ProjectRepository projectRepository = InMemoryRepositories.of(ProjectRepository.class, Map.of(
+                "findByKey", args -> Optional.of(data.project)
+        ));
+
+        issueService = new IssueService(
+                issueRepository,
+                projectRepository,
+                InMemoryRepositories.of(UserRepository.class, Map.of()),
+                InMemoryRepositories.of(SprintRepository.class, Map.of()),
+                new IssueHierarchyValidator(issueRepository),
+                new ProgressRollupService(issueRepository),
+                new DependencyGraphService(InMemoryRepositories.of(IssueLinkRepository.class, Map.of())),
+                new BoardRankService(issueRepository, null),
+                new ChangeFeedService(issueRepository),
+                new DomainEventPublisher(InMemoryRepositories.of(OutboxEventRepository.class, Map.of()))
+        );
+    }
+
+    @Benchmark
+    public List<IssueDto> mapProjectIssues() {
+        return issueService.getIssuesByProject(projectKey);
+    }
+
+    @Benchmark
+    public List<IssueDto> mapEpicChildren() {
+        return issueService.getSubtasks(epicKey);
+    }
+}
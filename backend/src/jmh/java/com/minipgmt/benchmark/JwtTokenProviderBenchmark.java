@@ -0,0 +1,64 @@
+package com.minipgmt.benchmark;
+
+import com.minipgmt.domain.User;
+import com.minipgmt.security.JwtTokenProvider;
+import com.minipgmt.security.UserPrincipal;
+import io.jsonwebtoken.Claims;
+import org.openjdk.jmh.annotations.*;
+import org.springframework.security.authentication.UsernamePasswordAuthenticationToken;
+import org.springframework.security.core.Authentication;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import java.util.UUID;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * JWT signing and verification as done on login and by the authentication filter
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+public class JwtTokenProviderBenchmark {
+
+    private JwtTokenProvider tokenProvider;
+    private Authentication authentication;
+    private String accessToken;
+    private UUID sessionId;
+
+    @Setup
+    public void setUp() {
+        tokenProvider = new JwtTokenProvider();
+        ReflectionTestUtils.setField(tokenProvider, "jwtSecret",
+                "benchmark-secret-key-that-is-long-enough-for-hs512-signing-0123456789");
+        ReflectionTestUtils.setField(tokenProvider, "jwtExpirationMs", 900000L);
+        tokenProvider.init();
+
+        User user = User.builder()
+                .name("Bench User")
+                .email("bench@example.com")
+                .passwordHash("hash")
+                .role(User.UserRole.MEMBER)
+                .isActive(true)
+                .build();
+        user.setId(UUID.randomUUID());
+        UserPrincipal principal = UserPrincipal.create(user);
+        authentication = new UsernamePasswordAuthenticationToken(principal, null, principal.getAuthorities());
+        sessionId = UUID.randomUUID();
+        accessToken = tokenProvider.generateAccessToken(authentication, sessionId);
+    }
+
+    @Benchmark
+    public String sign() {
+        return tokenProvider.generateAccessToken(authentication, sessionId);
+    }
+
+    @Benchmark
+    public UUID verify() {
+        // Mirrors JwtAuthenticationFilter: parse once, then read the session and the subject
+        Claims claims = tokenProvider.parseToken(accessToken);
+        if (claims == null || JwtTokenProvider.getSessionId(claims) == null) {
+            throw new IllegalStateException("Token rejected");
+        }
+        return UUID.fromString(claims.getSubject());
+    }
+}
@@ -0,0 +1,78 @@
+package com.minipgmt.loadtest;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+
+import java.io.IOException;
+import java.net.URI;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.time.Duration;
+import java.util.Map;
+
+/**
+ * Minimal JSON client for the MiniPGMT REST API
+ */
+public class ApiClient {
+
+    private static final Duration REQUEST_TIMEOUT = Duration.ofSeconds(60);
+
+    private final HttpClient httpClient;
+    private final ObjectMapper objectMapper = new ObjectMapper();
+    private final String baseUrl;
+
+    public ApiClient(String baseUrl, int concurrency) {
+        this.baseUrl = baseUrl;
+        this.httpClient = HttpClient.newBuilder()
+                .version(HttpClient.Version.HTTP_1_1)
+                .connectTimeout(Duration.ofSeconds(10))
+                .executor(java.util.concurrent.Executors.newFixedThreadPool(Math.max(2, concurrency / 4)))
+                .build();
+    }
+
+    /**
+     * Log in and return the access token
+     */
+    public String login(String email, String password) throws IOException, InterruptedException {
+        HttpResponse<String> response = post(null, "/api/auth/login", Map.of("email", email, "password", password));
+        if (response.statusCode() != 200) {
+            throw new IllegalStateException("Login failed for " + email + ": HTTP " + response.statusCode());
+        }
+        return objectMapper.readTree(response.body()).path("accessToken").asText();
+    }
+
+    public HttpResponse<String> get(String token, String path) throws IOException, InterruptedException {
+        return send(request(token, path).GET().build());
+    }
+
+    public HttpResponse<String> post(String token, String path, Object body) throws IOException, InterruptedException {
+        return send(request(token, path).POST(json(body)).build());
+    }
+
+    public HttpResponse<String> put(String token, String path, Object body) throws IOException, InterruptedException {
+        return send(request(token, path).PUT(json(body)).build());
+    }
+
+    public JsonNode readTree(String body) throws IOException {
+        return objectMapper.readTree(body);
+    }
+
+    private HttpRequest.Builder request(String token, String path) {
+        HttpRequest.Builder builder = HttpRequest.newBuilder(URI.create(baseUrl + path))
+                .timeout(REQUEST_TIMEOUT)
+                .header("Content-Type", "application/json");
+        if (token != null) {
+            builder.header("Authorization", "Bearer " + token);
+        }
+        return builder;
+    }
+
+    private HttpRequest.BodyPublisher json(Object body) throws IOException {
+        return HttpRequest.BodyPublishers.ofByteArray(objectMapper.writeValueAsBytes(body));
+    }
+
+    private HttpResponse<String> send(HttpRequest request) throws IOException, InterruptedException {
+        return httpClient.send(request, HttpResponse.BodyHandlers.ofString());
+    }
+}
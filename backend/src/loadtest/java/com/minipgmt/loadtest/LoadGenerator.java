@@ -0,0 +1,91 @@
+package com.minipgmt.loadtest;
+
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.function.LongSupplier;
+
+/**
+ * Closed-loop load generator: each client thread issues its next request as soon as the previous one completes
+ */
+@Slf4j
+@RequiredArgsConstructor
+public class LoadGenerator {
+
+    private final ScenarioContext context;
+    /** Cumulative count of SQL statements executed by the application */
+    private final LongSupplier sqlStatementCounter;
+
+    /**
+     * Warm up, then measure the scenario for the configured duration
+     */
+    public ScenarioResult run(Scenario scenario, int concurrency, int warmupSeconds, int durationSeconds) throws Exception {
+        if (warmupSeconds > 0) {
+            log.info("{}: warming up for {} s", scenario, warmupSeconds);
+            drive(scenario, concurrency, warmupSeconds);
+        }
+
+        log.info("{}: measuring {} clients for {} s", scenario, concurrency, durationSeconds);
+        long statementsBefore = sqlStatementCounter.getAsLong();
+        long start = System.nanoTime();
+        Recording recording = drive(scenario, concurrency, durationSeconds);
+        double seconds = (System.nanoTime() - start) / 1e9;
+        long statements = sqlStatementCounter.getAsLong() - statementsBefore;
+
+        return ScenarioResult.of(scenario.name().toLowerCase(), concurrency, seconds,
+                recording.latencies(), recording.errors(), statements);
+    }
+
+    private Recording drive(Scenario scenario, int concurrency, int seconds) throws Exception {
+        long deadline = System.nanoTime() + seconds * 1_000_000_000L;
+        LongAdder errors = new LongAdder();
+        ExecutorService clients = Executors.newFixedThreadPool(concurrency);
+        try {
+            List<Future<long[]>> workers = new ArrayList<>(concurrency);
+            for (int i = 0; i < concurrency; i++) {
+                workers.add(clients.submit(() -> {
+                    long[] latencies = new long[1024];
+                    int count = 0;
+                    while (System.nanoTime() < deadline) {
+                        long begin = System.nanoTime();
+                        int status;
+                        try {
+                            status = scenario.execute(context);
+                        } catch (Exception e) {
+                            status = -1;
+                        }
+                        if (count == latencies.length) {
+                            latencies = Arrays.copyOf(latencies, count * 2);
+                        }
+                        latencies[count++] = System.nanoTime() - begin;
+                        if (status < 200 || status >= 300) {
+                            errors.increment();
+                        }
+                    }
+                    return Arrays.copyOf(latencies, count);
+                }));
+            }
+
+            long[] all = new long[0];
+            for (Future<long[]> worker : workers) {
+                long[] latencies = worker.get();
+                int offset = all.length;
+                all = Arrays.copyOf(all, offset + latencies.length);
+                System.arraycopy(latencies, 0, all, offset, latencies.length);
+            }
+            return new Recording(all, errors.sum());
+        } finally {
+            clients.shutdownNow();
+        }
+    }
+
+    private record Recording(long[] latencies, long errors) {
+    }
+}
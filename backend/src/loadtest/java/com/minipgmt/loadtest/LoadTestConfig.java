@@ -0,0 +1,48 @@
+package com.minipgmt.loadtest;
+
+import lombok.Builder;
+import lombok.Value;
+
+import java.nio.file.Path;
+import java.util.Arrays;
+import java.util.List;
+
+/**
+ * Load test settings, read from -Dloadtest.* system properties
+ */
+@Value
+@Builder
+public class LoadTestConfig {
+
+    int concurrency;
+    int durationSeconds;
+    int warmupSeconds;
+    List<String> scenarios;
+    int seedIssuesPerProject;
+    /** External database to run against; blank starts an embedded PostgreSQL */
+    String jdbcUrl;
+    String username;
+    String password;
+    Path report;
+
+    public static LoadTestConfig fromSystemProperties() {
+        return LoadTestConfig.builder()
+                .concurrency(Integer.getInteger("loadtest.concurrency", 32))
+                .durationSeconds(Integer.getInteger("loadtest.duration", 20))
+                .warmupSeconds(Integer.getInteger("loadtest.warmup", 5))
+                .scenarios(Arrays.stream(System.getProperty("loadtest.scenarios", "board,create,status,login,mixed").split(","))
+                        .map(String::trim)
+                        .filter(s -> !s.isEmpty())
+                        .toList())
+                .seedIssuesPerProject(Integer.getInteger("loadtest.seed-issues", 500))
+                .jdbcUrl(System.getProperty("loadtest.jdbc-url", "").trim())
+                .username(System.getProperty("loadtest.username", "minipgmt_user"))
+                .password(System.getProperty("loadtest.password", "minipgmt_pass"))
+                .report(Path.of(System.getProperty("loadtest.report", "target/loadtest-report.md")))
+                .build();
+    }
+
+    public boolean useEmbeddedDatabase() {
+        return jdbcUrl == null || jdbcUrl.isEmpty();
+    }
+}
@@ -0,0 +1,91 @@
+package com.minipgmt.loadtest;
+
+import com.minipgmt.MiniPgmtApplication;
+import io.zonky.test.db.postgres.embedded.EmbeddedPostgres;
+import lombok.Getter;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.SpringApplication;
+import org.springframework.boot.web.context.WebServerApplicationContext;
+import org.springframework.context.ConfigurableApplicationContext;
+import org.springframework.jdbc.core.JdbcTemplate;
+
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * PostgreSQL (embedded unless loadtest.jdbc-url is set) plus the application booted in-process on a random port
+ */
+@Slf4j
+@Getter
+public class LoadTestEnvironment implements AutoCloseable {
+
+    private final EmbeddedPostgres embeddedPostgres;
+    private final ConfigurableApplicationContext context;
+    private final String baseUrl;
+
+    private LoadTestEnvironment(EmbeddedPostgres embeddedPostgres, ConfigurableApplicationContext context) {
+        this.embeddedPostgres = embeddedPostgres;
+        this.context = context;
+        this.baseUrl = "http://localhost:" + ((WebServerApplicationContext) context).getWebServer().getPort();
+    }
+
+    /**
+     * Start the database and the application; extra arguments are passed to the application
+     */
+    public static LoadTestEnvironment start(LoadTestConfig config, String[] args) throws Exception {
+        EmbeddedPostgres embeddedPostgres = null;
+        String jdbcUrl = config.getJdbcUrl();
+        String username = config.getUsername();
+        String password = config.getPassword();
+        if (config.useEmbeddedDatabase()) {
+            log.info("Starting embedded PostgreSQL");
+            embeddedPostgres = EmbeddedPostgres.builder().start();
+            jdbcUrl = embeddedPostgres.getJdbcUrl("postgres", "postgres");
+            username = "postgres";
+            password = "postgres";
+        }
+
+        // Passed as command-line arguments so they take precedence over application.yml
+        Map<String, Object> properties = new LinkedHashMap<>();
+        properties.put("spring.datasource.url", jdbcUrl);
+        properties.put("spring.datasource.username", username);
+        properties.put("spring.datasource.password", password);
+        properties.put("server.port", 0);
+        properties.put("spring.jpa.properties.hibernate.generate_statistics", true);
+        // every virtual user comes from one address and logs in far above the per-address limit
+        properties.put("app.rate-limit.enabled", false);
+        properties.put("logging.level.root", "WARN");
+        properties.put("logging.level.com.minipgmt", "WARN");
+        properties.put("logging.level.com.minipgmt.loadtest", "INFO");
+        properties.put("logging.level.org.springframework.web", "WARN");
+        properties.put("logging.level.org.springframework.security", "WARN");
+        properties.put("logging.level.org.hibernate.SQL", "WARN");
+        properties.put("logging.level.org.hibernate.type.descriptor.sql.BasicBinder", "WARN");
+        properties.put("logging.level.org.hibernate.engine.internal.StatisticalLoggingSessionEventListener", "OFF");
+
+        // DevTools would restart main() in a new class loader and run everything twice
+        System.setProperty("spring.devtools.restart.enabled", "false");
+
+        List<String> applicationArgs = new ArrayList<>();
+        properties.forEach((name, value) -> applicationArgs.add("--" + name + "=" + value));
+        applicationArgs.addAll(List.of(args));
+
+        ConfigurableApplicationContext context = SpringApplication.run(MiniPgmtApplication.class,
+                applicationArgs.toArray(String[]::new));
+        return new LoadTestEnvironment(embeddedPostgres, context);
+    }
+
+    public JdbcTemplate getJdbcTemplate() {
+        return context.getBean(JdbcTemplate.class);
+    }
+
+    @Override
+    public void close() throws Exception {
+        context.close();
+        if (embeddedPostgres != null) {
+            embeddedPostgres.close();
+        }
+    }
+}
@@ -0,0 +1,86 @@
+package com.minipgmt.loadtest;
+
+import com.minipgmt.service.BoardRankService;
+import com.minipgmt.service.ChangeFeedService;
+import com.minipgmt.service.ProgressRollupService;
+import jakarta.persistence.EntityManagerFactory;
+import lombok.extern.slf4j.Slf4j;
+import org.hibernate.SessionFactory;
+import org.hibernate.stat.Statistics;
+
+import java.nio.file.Files;
+import java.time.OffsetDateTime;
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * End-to-end load test entry point.
+ *
+ * Starts a {@link LoadTestEnvironment}, seeds issues, logs in the demo users and runs each
+ * configured scenario in turn.
+ * SQL statement counts come from Hibernate statistics, so they include statements run by background
+ * jobs (outbox relay, notification fan-out) triggered while the scenario was running.
+ * Extra program arguments are passed to the application, e.g. --spring.profiles.active=virtual-threads.
+ */
+@Slf4j
+public class LoadTestRunner {
+
+    public static void main(String[] args) throws Exception {
+        LoadTestConfig config = LoadTestConfig.fromSystemProperties();
+
+        try (LoadTestEnvironment environment = LoadTestEnvironment.start(config, args)) {
+            Statistics statistics = environment.getContext().getBean(EntityManagerFactory.class)
+                    .unwrap(SessionFactory.class)
+                    .getStatistics();
+
+            List<String> issueKeys = new LoadTestSeeder(environment.getJdbcTemplate())
+                    .seed(config.getSeedIssuesPerProject());
+            // the seeder writes with plain JDBC, bypassing the incremental progress rollups, change sequences and board ranks
+            environment.getContext().getBean(ProgressRollupService.class).rebuild();
+            environment.getContext().getBean(ChangeFeedService.class).rebuild();
+            environment.getContext().getBean(BoardRankService.class).rebalance();
+            List<String> projectKeys = environment.getJdbcTemplate()
+                    .queryForList("SELECT key FROM projects ORDER BY key", String.class);
+
+            ApiClient client = new ApiClient(environment.getBaseUrl(), config.getConcurrency());
+            List<String> tokens = new ArrayList<>();
+            for (String email : ScenarioContext.DEMO_USERS) {
+                tokens.add(client.login(email, ScenarioContext.DEMO_PASSWORD));
+            }
+
+            ScenarioContext scenarioContext = new ScenarioContext(client, tokens, projectKeys, issueKeys);
+            LoadGenerator generator = new LoadGenerator(scenarioContext, statistics::getPrepareStatementCount);
+
+            List<ScenarioResult> results = new ArrayList<>();
+            for (String name : config.getScenarios()) {
+                ScenarioResult result = generator.run(Scenario.fromName(name), config.getConcurrency(),
+                        config.getWarmupSeconds(), config.getDurationSeconds());
+                log.info(result.toMarkdownRow());
+                results.add(result);
+            }
+
+            String report = report(config, args, results);
+            System.out.println(report);
+            Files.createDirectories(config.getReport().toAbsolutePath().getParent());
+            Files.writeString(config.getReport(), report);
+            log.info("Report written to {}", config.getReport());
+        }
+        System.exit(0);
+    }
+
+    private static String report(LoadTestConfig config, String[] args, List<ScenarioResult> results) {
+        StringBuilder report = new StringBuilder()
+                .append("# MiniPGMT load test\n\n")
+                .append("- Run: ").append(OffsetDateTime.now()).append('\n')
+                .append("- Java: ").append(Runtime.version()).append(", CPUs: ")
+                .append(Runtime.getRuntime().availableProcessors()).append('\n')
+                .append("- Database: ").append(config.useEmbeddedDatabase() ? "embedded PostgreSQL" : config.getJdbcUrl()).append('\n')
+                .append("- Clients: ").append(config.getConcurrency())
+                .append(", warm-up ").append(config.getWarmupSeconds()).append(" s")
+                .append(", measured ").append(config.getDurationSeconds()).append(" s per scenario\n")
+                .append("- Application arguments: ").append(args.length == 0 ? "(none)" : String.join(" ", args)).append("\n\n")
+                .append(ScenarioResult.markdownHeader()).append('\n');
+        results.forEach(result -> report.append(result.toMarkdownRow()).append('\n'));
+        return report.toString();
+    }
+}
@@ -0,0 +1,99 @@
+package com.minipgmt.loadtest;
+
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.jdbc.core.JdbcTemplate;
+
+import java.sql.Date;
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.Random;
+import java.util.UUID;
+
+/**
+ * Seeds each project with a realistic issue hierarchy on top of the V2 demo data.
+ * Every block of ten issues is one epic with three children (story, task, bug)
+ * and one top-level story with five subtasks. Seeding tops projects up to the requested size,
+ * so repeated calls with growing sizes extend the same dataset.
+ */
+@Slf4j
+@RequiredArgsConstructor
+public class LoadTestSeeder {
+
+    private static final String INSERT_ISSUE = """
+            INSERT INTO issues (id, key, title, description, type, priority, status, project_id,
+                                parent_issue_id, assignee_id, reporter_id, story_points, due_date,
+                                estimate_hours, created_at, updated_at)
+            VALUES (?, ?, ?, ?, ?, ?, ?, ?, ?, ?, ?, ?, ?, ?, now(), now())
+            """;
+    private static final String[] PRIORITIES = {"LOWEST", "LOW", "MEDIUM", "HIGH", "HIGHEST"};
+    private static final String[] STATUSES = {"TODO", "IN_PROGRESS", "IN_REVIEW", "DONE"};
+
+    private final JdbcTemplate jdbcTemplate;
+
+    /**
+     * Seed issues up to the given count per project and return the keys of all issues
+     */
+    public List<String> seed(int issuesPerProject) {
+        List<Map<String, Object>> projects = jdbcTemplate.queryForList("SELECT id, key FROM projects ORDER BY key");
+        for (Map<String, Object> project : projects) {
+            UUID projectId = (UUID) project.get("id");
+            String projectKey = (String) project.get("key");
+            Integer existing = jdbcTemplate.queryForObject(
+                    "SELECT count(*) FROM issues WHERE project_id = ? AND key LIKE ?", Integer.class,
+                    projectId, projectKey + "-S%");
+            if (existing >= issuesPerProject) {
+                log.info("Project {} already has {} seeded issues", projectKey, existing);
+                continue;
+            }
+            List<UUID> members = jdbcTemplate.queryForList(
+                    "SELECT user_id FROM project_members WHERE project_id = ? ORDER BY user_id", UUID.class, projectId);
+            List<Object[]> rows = buildIssues(new Random(42 + existing), projectId, projectKey, members,
+                    existing, issuesPerProject - existing);
+            jdbcTemplate.batchUpdate(INSERT_ISSUE, rows);
+            log.info("Seeded {} issues into {}", rows.size(), projectKey);
+        }
+        return jdbcTemplate.queryForList("SELECT key FROM issues ORDER BY key", String.class);
+    }
+
+    private List<Object[]> buildIssues(Random random, UUID projectId, String projectKey, List<UUID> members,
+                                       int sequence, int count) {
+        List<Object[]> rows = new ArrayList<>(count);
+        while (rows.size() < count) {
+            UUID epicId = UUID.randomUUID();
+            rows.add(row(random, epicId, projectKey + "-S" + ++sequence, "EPIC", projectId, null, members));
+            for (String type : new String[]{"STORY", "TASK", "BUG"}) {
+                rows.add(row(random, UUID.randomUUID(), projectKey + "-S" + ++sequence, type, projectId, epicId, members));
+            }
+            UUID storyId = UUID.randomUUID();
+            rows.add(row(random, storyId, projectKey + "-S" + ++sequence, "STORY", projectId, null, members));
+            for (int i = 0; i < 5; i++) {
+                rows.add(row(random, UUID.randomUUID(), projectKey + "-S" + ++sequence, "SUBTASK", projectId, storyId, members));
+            }
+        }
+        return rows.subList(0, count);
+    }
+
+    private Object[] row(Random random, UUID id, String key, String type, UUID projectId, UUID parentId, List<UUID> members) {
+        UUID reporter = members.get(random.nextInt(members.size()));
+        UUID assignee = random.nextInt(5) == 0 ? null : members.get(random.nextInt(members.size()));
+        return new Object[]{
+                id,
+                key,
+                type.charAt(0) + type.substring(1).toLowerCase() + " " + key,
+                "Seeded by the load test",
+                type,
+                PRIORITIES[random.nextInt(PRIORITIES.length)],
+                STATUSES[random.nextInt(STATUSES.length)],
+                projectId,
+                parentId,
+                assignee,
+                reporter,
+                "EPIC".equals(type) ? null : 1 + random.nextInt(8),
+                random.nextBoolean() ? Date.valueOf(LocalDate.now().plusDays(random.nextInt(60) - 15)) : null,
+                "SUBTASK".equals(type) ? 1 + random.nextInt(16) : null
+        };
+    }
+}
@@ -0,0 +1,74 @@
+package com.minipgmt.loadtest;
+
+import java.util.Map;
+import java.util.concurrent.ThreadLocalRandom;
+
+/**
+ * Traffic scenarios. Each call performs one HTTP request and returns its status code.
+ */
+public enum Scenario {
+
+    /** Kanban board load: all issues of a project */
+    BOARD {
+        @Override
+        int execute(ScenarioContext ctx) throws Exception {
+            return ctx.getClient().get(ctx.randomToken(), "/api/issues?projectKey=" + ctx.randomProjectKey()).statusCode();
+        }
+    },
+
+    /** Issue creation */
+    CREATE {
+        @Override
+        int execute(ScenarioContext ctx) throws Exception {
+            Map<String, Object> issue = Map.of(
+                    "projectKey", ctx.randomProjectKey(),
+                    "key", ctx.nextIssueKey(),
+                    "title", "Load test issue",
+                    "type", ThreadLocalRandom.current().nextBoolean() ? "task" : "story",
+                    "priority", "medium",
+                    "storyPoints", ThreadLocalRandom.current().nextInt(1, 9)
+            );
+            return ctx.getClient().post(ctx.randomToken(), "/api/issues", issue).statusCode();
+        }
+    },
+
+    /** Drag-and-drop on the board: status-only update */
+    STATUS {
+        @Override
+        int execute(ScenarioContext ctx) throws Exception {
+            return ctx.getClient().put(ctx.randomToken(), "/api/issues/" + ctx.randomIssueKey(),
+                    Map.of("status", ctx.randomStatus())).statusCode();
+        }
+    },
+
+    /** Password login (BCrypt verification + token issue) */
+    LOGIN {
+        @Override
+        int execute(ScenarioContext ctx) throws Exception {
+            return ctx.getClient().post(null, "/api/auth/login",
+                    Map.of("email", ctx.randomUser(), "password", ScenarioContext.DEMO_PASSWORD)).statusCode();
+        }
+    },
+
+    /** Weighted mix: 50% board, 30% status, 15% create, 5% login */
+    MIXED {
+        @Override
+        int execute(ScenarioContext ctx) throws Exception {
+            int roll = ThreadLocalRandom.current().nextInt(100);
+            if (roll < 50) {
+                return BOARD.execute(ctx);
+            } else if (roll < 80) {
+                return STATUS.execute(ctx);
+            } else if (roll < 95) {
+                return CREATE.execute(ctx);
+            }
+            return LOGIN.execute(ctx);
+        }
+    };
+
+    abstract int execute(ScenarioContext ctx) throws Exception;
+
+    static Scenario fromName(String name) {
+        return valueOf(name.trim().toUpperCase());
+    }
+}
@@ -0,0 +1,68 @@
+package com.minipgmt.loadtest;
+
+import lombok.Getter;
+
+import java.util.List;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * Shared state the scenarios draw from: logged-in users, projects and seeded issue keys
+ */
+@Getter
+public class ScenarioContext {
+
+    static final List<String> DEMO_USERS = List.of(
+            "john.doe@example.com",
+            "jane.smith@example.com",
+            "mike.johnson@example.com",
+            "sarah.williams@example.com",
+            "tom.brown@example.com"
+    );
+    static final String DEMO_PASSWORD = "password123";
+
+    private static final String[] STATUSES = {"TODO", "IN_PROGRESS", "IN_REVIEW", "DONE"};
+
+    private final ApiClient client;
+    private final List<String> tokens;
+    private final List<String> projectKeys;
+    private final List<String> issueKeys;
+    /** Random per-run prefix so repeated runs against the same database do not collide */
+    private final String runPrefix = "LT" + Integer.toString(ThreadLocalRandom.current().nextInt(36 * 36 * 36, 36 * 36 * 36 * 36), 36).toUpperCase();
+    private final AtomicLong createdKeys = new AtomicLong();
+
+    public ScenarioContext(ApiClient client, List<String> tokens, List<String> projectKeys, List<String> issueKeys) {
+        this.client = client;
+        this.tokens = tokens;
+        this.projectKeys = projectKeys;
+        this.issueKeys = issueKeys;
+    }
+
+    String randomToken() {
+        return tokens.get(ThreadLocalRandom.current().nextInt(tokens.size()));
+    }
+
+    String randomProjectKey() {
+        return projectKeys.get(ThreadLocalRandom.current().nextInt(projectKeys.size()));
+    }
+
+    String randomIssueKey() {
+        return issueKeys.get(ThreadLocalRandom.current().nextInt(issueKeys.size()));
+    }
+
+    String randomUser() {
+        return DEMO_USERS.get(ThreadLocalRandom.current().nextInt(DEMO_USERS.size()));
+    }
+
+    String randomStatus() {
+        return STATUSES[ThreadLocalRandom.current().nextInt(STATUSES.length)];
+    }
+
+    /**
+     * Unique issue key for creates. Explicit keys keep the count+1 key generator's
+     * collisions under concurrency out of the measurement.
+     */
+    String nextIssueKey() {
+        return runPrefix + "-" + Long.toString(createdKeys.incrementAndGet(), 36).toUpperCase();
+    }
+}
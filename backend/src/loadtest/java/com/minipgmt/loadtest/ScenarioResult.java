@@ -0,0 +1,55 @@
+package com.minipgmt.loadtest;
+
+import lombok.Value;
+
+import java.util.Arrays;
+
+/**
+ * Measured outcome of one scenario run
+ */
+@Value
+public class ScenarioResult {
+
+    String scenario;
+    int concurrency;
+    double seconds;
+    long requests;
+    long errors;
+    long p50Nanos;
+    long p99Nanos;
+    long sqlStatements;
+
+    static ScenarioResult of(String scenario, int concurrency, double seconds, long[] latencies, long errors, long sqlStatements) {
+        long[] sorted = latencies.clone();
+        Arrays.sort(sorted);
+        return new ScenarioResult(scenario, concurrency, seconds, sorted.length, errors,
+                percentile(sorted, 0.50), percentile(sorted, 0.99), sqlStatements);
+    }
+
+    public double getThroughput() {
+        return (requests - errors) / seconds;
+    }
+
+    public double getStatementsPerRequest() {
+        return requests == 0 ? 0 : (double) sqlStatements / requests;
+    }
+
+    String toMarkdownRow() {
+        return String.format("| %s | %d | %.1f req/s | %.1f ms | %.1f ms | %d | %d | %.1f |",
+                scenario, concurrency, getThroughput(), p50Nanos / 1e6, p99Nanos / 1e6,
+                errors, sqlStatements, getStatementsPerRequest());
+    }
+
+    static String markdownHeader() {
+        return "| Scenario | Clients | Throughput | p50 | p99 | Errors | SQL statements | SQL / request |\n"
+                + "|----------|--------:|-----------:|----:|----:|-------:|---------------:|--------------:|";
+    }
+
+    private static long percentile(long[] sorted, double quantile) {
+        if (sorted.length == 0) {
+            return 0;
+        }
+        int index = (int) Math.ceil(quantile * sorted.length) - 1;
+        return sorted[Math.max(0, Math.min(index, sorted.length - 1))];
+    }
+}
@@ -0,0 +1,84 @@
+package com.minipgmt.loadtest;
+
+import com.minipgmt.metrics.SqlBudgetResponseAdvice;
+import lombok.extern.slf4j.Slf4j;
+
+import java.net.http.HttpResponse;
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * SQL statement budget check (N+1 regression guard).
+ *
+ * Grows the seeded dataset step by step and, at every size, calls the budgeted read endpoints and
+ * compares the X-SQL-Statements response header with X-SQL-Budget. Exits with status 1 if any
+ * request exceeds its budget, or if a budgeted endpoint's statement count grows with the dataset.
+ *
+ * Run: mvn -Ploadtest verify -DskipTests -Dloadtest.main=com.minipgmt.loadtest.StatementBudgetCheck
+ * Sizes (issues per project) come from -Dloadtest.budget-sizes, default 50,500,2000.
+ */
+@Slf4j
+public class StatementBudgetCheck {
+
+    public static void main(String[] args) throws Exception {
+        LoadTestConfig config = LoadTestConfig.fromSystemProperties();
+        List<Integer> sizes = new ArrayList<>();
+        for (String size : System.getProperty("loadtest.budget-sizes", "50,500,2000").split(",")) {
+            sizes.add(Integer.parseInt(size.trim()));
+        }
+
+        List<String> violations = new ArrayList<>();
+        try (LoadTestEnvironment environment = LoadTestEnvironment.start(config, args)) {
+            ApiClient client = new ApiClient(environment.getBaseUrl(), 1);
+            String token = client.login(ScenarioContext.DEMO_USERS.get(0), ScenarioContext.DEMO_PASSWORD);
+            List<String> projectKeys = environment.getJdbcTemplate()
+                    .queryForList("SELECT key FROM projects ORDER BY key", String.class);
+            List<String> paths = new ArrayList<>();
+            for (String projectKey : projectKeys) {
+                paths.add("/api/issues?projectKey=" + projectKey);
+            }
+
+            System.out.println("| Issues per project | Request | SQL statements | Budget |");
+            System.out.println("|-------------------:|---------|---------------:|-------:|");
+            long[] previous = new long[paths.size()];
+            for (int step = 0; step < sizes.size(); step++) {
+                int size = sizes.get(step);
+                new LoadTestSeeder(environment.getJdbcTemplate()).seed(size);
+                for (int i = 0; i < paths.size(); i++) {
+                    String path = paths.get(i);
+                    HttpResponse<String> response = client.get(token, path);
+                    if (response.statusCode() != 200) {
+                        violations.add(path + " returned HTTP " + response.statusCode());
+                        continue;
+                    }
+                    long statements = header(response, SqlBudgetResponseAdvice.STATEMENTS_HEADER);
+                    long budget = header(response, SqlBudgetResponseAdvice.BUDGET_HEADER);
+                    System.out.printf("| %d | %s | %d | %s |%n", size, path, statements, budget > 0 ? budget : "-");
+
+                    if (statements < 0) {
+                        violations.add(path + ": no " + SqlBudgetResponseAdvice.STATEMENTS_HEADER
+                                + " header (is app.sql-budget.enabled set?)");
+                    } else if (budget > 0 && statements > budget) {
+                        violations.add(String.format("%s at %d issues/project: %d statements, budget %d",
+                                path, size, statements, budget));
+                    } else if (budget > 0 && step > 0 && statements > previous[i]) {
+                        violations.add(String.format("%s grew from %d to %d statements between %d and %d issues/project",
+                                path, previous[i], statements, sizes.get(step - 1), size));
+                    }
+                    previous[i] = statements;
+                }
+            }
+        }
+
+        if (violations.isEmpty()) {
+            log.info("All requests within their SQL statement budgets");
+            System.exit(0);
+        }
+        violations.forEach(violation -> log.error("Budget violation: {}", violation));
+        System.exit(1);
+    }
+
+    private static long header(HttpResponse<?> response, String name) {
+        return response.headers().firstValue(name).map(Long::parseLong).orElse(-1L);
+    }
+}
@@ -0,0 +1,60 @@
+package com.minipgmt.config;
+
+import com.minipgmt.metrics.ConnectionHoldListener;
+import com.minipgmt.metrics.StatementCountingListener;
+import lombok.Getter;
+import lombok.Setter;
+import net.ttddyy.dsproxy.support.ProxyDataSource;
+import net.ttddyy.dsproxy.support.ProxyDataSourceBuilder;
+import org.springframework.beans.factory.config.BeanPostProcessor;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.boot.context.properties.EnableConfigurationProperties;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+
+import javax.sql.DataSource;
+import java.util.HashMap;
+import java.util.Map;
+
+/**
+ * DataSource Proxy Configuration
+ * Wraps the DataSource so every JDBC execution and connection hold is measured per request and per transaction
+ */
+@Configuration
+@EnableConfigurationProperties(DataSourceProxyConfig.SqlBudgetProperties.class)
+public class DataSourceProxyConfig {
+
+    @Bean
+    public static BeanPostProcessor dataSourceProxyPostProcessor() {
+        return new BeanPostProcessor() {
+            @Override
+            public Object postProcessAfterInitialization(Object bean, String beanName) {
+                if (bean instanceof DataSource dataSource && !(bean instanceof ProxyDataSource)) {
+                    return ProxyDataSourceBuilder.create(dataSource)
+                            .name(beanName)
+                            .listener(new StatementCountingListener())
+                            .listener(new ConnectionHoldListener())
+                            .build();
+                }
+                return bean;
+            }
+        };
+    }
+
+    /**
+     * Per-endpoint SQL statement budgets (app.sql-budget.*).
+     * Endpoints are keyed like the metric tag, e.g. "[GET /api/issues]".
+     */
+    @ConfigurationProperties(prefix = "app.sql-budget")
+    @Getter
+    @Setter
+    public static class SqlBudgetProperties {
+        private boolean enabled = false;
+        private int defaultBudget = 0; // 0 = no budget
+        private Map<String, Integer> budgets = new HashMap<>();
+
+        public int budgetFor(String endpoint) {
+            return budgets.getOrDefault(endpoint, defaultBudget);
+        }
+    }
+}
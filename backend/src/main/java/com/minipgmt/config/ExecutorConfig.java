@@ -0,0 +1,77 @@
+package com.minipgmt.config;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.scheduling.annotation.EnableAsync;
+import org.springframework.scheduling.concurrent.ThreadPoolTaskExecutor;
+
+import java.util.concurrent.ThreadPoolExecutor;
+
+/**
+ * Executor Configuration
+ * Bounded thread pools for work that fans out from a request thread.
+ * {@code @Async} methods use Spring Boot's applicationTaskExecutor, which runs on virtual
+ * threads when the virtual-threads profile is active on Java 21.
+ */
+@Configuration
+@EnableAsync
+public class ExecutorConfig {
+
+    /**
+     * Runs dashboard panel queries concurrently.
+     * Every task holds a JDBC connection while it runs, so the pool size also caps how much
+     * of the Hikari pool dashboards can take. When the queue is full the request thread runs
+     * the query itself instead of failing.
+     */
+    @Bean
+    public ThreadPoolTaskExecutor dashboardExecutor(
+            @Value("${app.dashboard.pool-size:3}") int poolSize,
+            @Value("${app.dashboard.queue-capacity:50}") int queueCapacity
+    ) {
+        ThreadPoolTaskExecutor executor = new ThreadPoolTaskExecutor();
+        executor.setCorePoolSize(poolSize);
+        executor.setMaxPoolSize(poolSize);
+        executor.setQueueCapacity(queueCapacity);
+        executor.setThreadNamePrefix("dashboard-");
+        executor.setRejectedExecutionHandler(new ThreadPoolExecutor.CallerRunsPolicy());
+        executor.initialize();
+        return executor;
+    }
+
+    /**
+     * Generates attachment thumbnails off the request path.
+     * ThumbnailService only claims as many jobs as there are idle workers, so the queue never
+     * holds more than one batch; the rest wait in thumbnail_jobs.
+     */
+    @Bean
+    public ThreadPoolTaskExecutor thumbnailExecutor(@Value("${app.thumbnails.pool-size:2}") int poolSize) {
+        ThreadPoolTaskExecutor executor = new ThreadPoolTaskExecutor();
+        executor.setCorePoolSize(poolSize);
+        executor.setMaxPoolSize(poolSize);
+        executor.setQueueCapacity(poolSize);
+        executor.setThreadNamePrefix("thumbnail-");
+        executor.initialize();
+        return executor;
+    }
+
+    /**
+     * Computes BCrypt password hashes for logins and registrations.
+     * Hashing is CPU-bound, so the pool defaults to half the processors and leaves the rest to other
+     * requests. A full queue rejects new work at once instead of letting a login burst pile up.
+     */
+    @Bean
+    public ThreadPoolTaskExecutor passwordHashExecutor(
+            @Value("${app.password-hashing.pool-size:0}") int poolSize,
+            @Value("${app.password-hashing.queue-capacity:20}") int queueCapacity
+    ) {
+        int threads = poolSize > 0 ? poolSize : Math.max(1, Runtime.getRuntime().availableProcessors() / 2);
+        ThreadPoolTaskExecutor executor = new ThreadPoolTaskExecutor();
+        executor.setCorePoolSize(threads);
+        executor.setMaxPoolSize(threads);
+        executor.setQueueCapacity(queueCapacity);
+        executor.setThreadNamePrefix("password-hash-");
+        executor.initialize();
+        return executor;
+    }
+}
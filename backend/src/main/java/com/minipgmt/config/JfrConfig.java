@@ -0,0 +1,33 @@
+package com.minipgmt.config;
+
+import lombok.Getter;
+import lombok.Setter;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.boot.context.properties.EnableConfigurationProperties;
+import org.springframework.context.annotation.Configuration;
+
+import java.nio.file.Path;
+import java.time.Duration;
+
+/**
+ * JFR Configuration
+ * Bounds for the recording controlled through /actuator/jfr
+ */
+@Configuration
+@EnableConfigurationProperties(JfrConfig.JfrProperties.class)
+public class JfrConfig {
+
+    /**
+     * JFR recording settings (app.jfr.*)
+     */
+    @ConfigurationProperties(prefix = "app.jfr")
+    @Getter
+    @Setter
+    public static class JfrProperties {
+        private boolean continuous = false; // start a recording when the application is ready
+        private String settings = "default"; // "default" is the low-overhead JDK configuration, "profile" samples more
+        private Duration maxAge = Duration.ofHours(1);
+        private int maxSizeMb = 64;
+        private Path dumpDirectory = Path.of(System.getProperty("java.io.tmpdir"), "minipgmt-jfr");
+    }
+}
@@ -0,0 +1,31 @@
+package com.minipgmt.config;
+
+import jakarta.persistence.EntityManagerFactory;
+import org.springframework.boot.LazyInitializationExcludeFilter;
+import org.springframework.boot.autoconfigure.flyway.FlywayMigrationInitializer;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.orm.jpa.AbstractEntityManagerFactoryBean;
+
+import javax.sql.DataSource;
+
+/**
+ * Lazy Initialization Configuration
+ * Keeps the database stack eager when spring.main.lazy-initialization is on (fast-start profile).
+ *
+ * Otherwise Flyway and Hibernate's schema validation would run inside the first request, after the
+ * instance already reported healthy, and a bad migration would fail requests instead of the start.
+ * Boot already keeps @Scheduled beans eager.
+ */
+@Configuration
+public class LazyInitializationConfig {
+
+    @Bean
+    static LazyInitializationExcludeFilter eagerDatabaseBeans() {
+        return LazyInitializationExcludeFilter.forBeanTypes(
+                DataSource.class,
+                FlywayMigrationInitializer.class,
+                EntityManagerFactory.class,
+                AbstractEntityManagerFactoryBean.class);
+    }
+}
@@ -0,0 +1,88 @@
+package com.minipgmt.config;
+
+import com.minipgmt.web.LocalRateLimiter;
+import com.minipgmt.web.RateLimiter;
+import com.minipgmt.web.RedisRateLimiter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import lombok.Getter;
+import lombok.Setter;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.boot.context.properties.EnableConfigurationProperties;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.data.redis.core.StringRedisTemplate;
+
+import java.util.HashMap;
+import java.util.Map;
+
+/**
+ * Rate Limit Configuration
+ * Chooses where the per-user, per-endpoint-class token buckets of
+ * {@link com.minipgmt.web.RateLimitFilter} are kept
+ */
+@Configuration
+@EnableConfigurationProperties(RateLimitConfig.RateLimitProperties.class)
+public class RateLimitConfig {
+
+    @Bean
+    public RateLimiter rateLimiter(
+            RateLimitProperties properties,
+            ObjectProvider<StringRedisTemplate> redisTemplate,
+            MeterRegistry meterRegistry
+    ) {
+        LocalRateLimiter local = new LocalRateLimiter(properties.getEvictionIntervalMs());
+        Gauge.builder("app.ratelimit.buckets", local, LocalRateLimiter::size)
+                .description("Rate limit buckets held in memory")
+                .register(meterRegistry);
+
+        if (properties.getStore() == Store.LOCAL) {
+            return local;
+        }
+        return new RedisRateLimiter(redisTemplate.getObject(), local,
+                properties.getRedisKeyPrefix(), properties.getRedisRetryMs(), meterRegistry);
+    }
+
+    public enum Store {
+        LOCAL,
+        REDIS
+    }
+
+    /**
+     * Rate limit settings (app.rate-limit.*)
+     */
+    @ConfigurationProperties(prefix = "app.rate-limit")
+    @Getter
+    @Setter
+    public static class RateLimitProperties {
+        private boolean enabled = true;
+        private Store store = Store.LOCAL;
+        private double requestsPerSecond = 20;
+        private int burst = 40;
+        private Map<String, LimitProperties> limits = new HashMap<>();
+        private long evictionIntervalMs = 60000;
+        private String redisKeyPrefix = "ratelimit:";
+        private long redisRetryMs = 5000;
+
+        /**
+         * The limit of an endpoint class, falling back to the defaults for unset values
+         */
+        public RateLimiter.Limit limitFor(String endpointClass) {
+            LimitProperties override = limits.get(endpointClass);
+            if (override == null) {
+                return RateLimiter.Limit.of(requestsPerSecond, burst);
+            }
+            return RateLimiter.Limit.of(
+                    override.getRequestsPerSecond() > 0 ? override.getRequestsPerSecond() : requestsPerSecond,
+                    override.getBurst() > 0 ? override.getBurst() : burst);
+        }
+    }
+
+    @Getter
+    @Setter
+    public static class LimitProperties {
+        private double requestsPerSecond;
+        private int burst;
+    }
+}
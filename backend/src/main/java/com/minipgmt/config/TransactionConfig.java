@@ -0,0 +1,55 @@
+package com.minipgmt.config;
+
+import com.minipgmt.metrics.SlowTransactionRecorder;
+import com.minipgmt.metrics.TracingJpaTransactionManager;
+import io.micrometer.core.instrument.MeterRegistry;
+import lombok.Getter;
+import lombok.Setter;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.boot.autoconfigure.transaction.TransactionManagerCustomizers;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.boot.context.properties.EnableConfigurationProperties;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.TransactionManager;
+
+import java.time.Duration;
+
+/**
+ * Transaction Configuration
+ * Replaces Boot's JpaTransactionManager with one that traces transaction duration and connection hold time
+ */
+@Configuration
+@EnableConfigurationProperties(TransactionConfig.TracingProperties.class)
+public class TransactionConfig {
+
+    @Bean
+    public SlowTransactionRecorder slowTransactionRecorder(TracingProperties properties) {
+        return new SlowTransactionRecorder(properties.getSlowTransactionSamples());
+    }
+
+    @Bean
+    public PlatformTransactionManager transactionManager(
+            MeterRegistry meterRegistry,
+            SlowTransactionRecorder slowTransactionRecorder,
+            TracingProperties properties,
+            ObjectProvider<TransactionManagerCustomizers> customizers
+    ) {
+        TracingJpaTransactionManager transactionManager = new TracingJpaTransactionManager(
+                meterRegistry, slowTransactionRecorder, properties.getSlowTransactionThreshold());
+        customizers.ifAvailable(c -> c.customize((TransactionManager) transactionManager));
+        return transactionManager;
+    }
+
+    /**
+     * Transaction tracing settings (app.tracing.*)
+     */
+    @ConfigurationProperties(prefix = "app.tracing")
+    @Getter
+    @Setter
+    public static class TracingProperties {
+        private Duration slowTransactionThreshold = Duration.ofMillis(200); // 0 = keep no samples
+        private int slowTransactionSamples = 100;
+    }
+}
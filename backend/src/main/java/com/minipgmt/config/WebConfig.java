@@ -0,0 +1,75 @@
+package com.minipgmt.config;
+
+import com.minipgmt.web.BulkheadInterceptor;
+import lombok.Getter;
+import lombok.Setter;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.boot.context.properties.EnableConfigurationProperties;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.web.servlet.config.annotation.InterceptorRegistry;
+import org.springframework.web.servlet.config.annotation.WebMvcConfigurer;
+
+import java.util.HashMap;
+import java.util.Map;
+
+/**
+ * Web MVC Configuration
+ * Registers request interceptors for the API
+ */
+@Configuration
+@EnableConfigurationProperties(WebConfig.BulkheadProperties.class)
+public class WebConfig implements WebMvcConfigurer {
+
+    /**
+     * Attachment uploads and downloads stream the body between the socket and a file for as long as the
+     * transfer takes, without a database connection, so they stay out of the pool-sized bulkheads.
+     * The patterns also cover the attachment list and the upload status reads on the same paths.
+     */
+    private static final String[] ATTACHMENT_TRANSFERS = {
+            "/api/issues/*/attachments",
+            "/api/attachments/uploads/*",
+            "/api/attachments/*/content"
+    };
+
+    private final BulkheadProperties bulkheadProperties;
+    private final int connectionPoolSize;
+
+    public WebConfig(
+            BulkheadProperties bulkheadProperties,
+            @Value("${spring.datasource.hikari.maximum-pool-size:10}") int connectionPoolSize
+    ) {
+        this.bulkheadProperties = bulkheadProperties;
+        this.connectionPoolSize = connectionPoolSize;
+    }
+
+    @Override
+    public void addInterceptors(InterceptorRegistry registry) {
+        if (bulkheadProperties.isEnabled()) {
+            int totalPermits = bulkheadProperties.getTotalPermits() > 0
+                    ? bulkheadProperties.getTotalPermits()
+                    : connectionPoolSize;
+            int defaultPermits = bulkheadProperties.getDefaultPermits() > 0
+                    ? bulkheadProperties.getDefaultPermits()
+                    : Math.max(1, totalPermits / 2);
+            registry.addInterceptor(new BulkheadInterceptor(totalPermits, defaultPermits,
+                            bulkheadProperties.getPermits(), bulkheadProperties.getMaxWaitMs()))
+                    .addPathPatterns("/api/**")
+                    .excludePathPatterns(ATTACHMENT_TRANSFERS);
+        }
+    }
+
+    /**
+     * Bulkhead settings (app.bulkhead.*)
+     */
+    @ConfigurationProperties(prefix = "app.bulkhead")
+    @Getter
+    @Setter
+    public static class BulkheadProperties {
+        private boolean enabled = false;
+        private int totalPermits = 0; // 0 = size of the Hikari pool
+        private int defaultPermits = 0; // 0 = half of totalPermits
+        private long maxWaitMs = 2000;
+        private Map<String, Integer> permits = new HashMap<>();
+    }
+}
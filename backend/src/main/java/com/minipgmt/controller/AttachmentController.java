@@ -0,0 +1,301 @@
+package com.minipgmt.controller;
+
+import com.minipgmt.dto.AttachmentDto;
+import com.minipgmt.dto.AttachmentUploadDto;
+import com.minipgmt.security.UserPrincipal;
+import com.minipgmt.service.AttachmentService;
+import com.minipgmt.service.AttachmentService.AttachmentContent;
+import io.swagger.v3.oas.annotations.Operation;
+import io.swagger.v3.oas.annotations.security.SecurityRequirement;
+import io.swagger.v3.oas.annotations.tags.Tag;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+import jakarta.validation.Valid;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.http.ContentDisposition;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpRange;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
+import org.springframework.http.ResponseEntity;
+import org.springframework.security.core.annotation.AuthenticationPrincipal;
+import org.springframework.web.bind.annotation.*;
+import org.springframework.web.multipart.MultipartFile;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.nio.channels.Channels;
+import java.nio.channels.FileChannel;
+import java.nio.channels.WritableByteChannel;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.List;
+import java.util.Optional;
+import java.util.UUID;
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
+
+/**
+ * Attachment Controller
+ * REST endpoints for uploading and downloading issue attachments.
+ *
+ * Downloads support single byte ranges and are sent without copying through the heap: with Tomcat's
+ * sendfile the kernel copies the file to the socket, otherwise FileChannel.transferTo feeds the
+ * response stream.
+ */
+@RestController
+@RequestMapping("/api")
+@RequiredArgsConstructor
+@Slf4j
+@Tag(name = "Attachments", description = "Issue attachment endpoints")
+@SecurityRequirement(name = "Bearer Authentication")
+public class AttachmentController {
+
+    private static final Pattern CONTENT_RANGE = Pattern.compile("bytes (\\d+)-(\\d+)/(\\d+)");
+
+    // Tomcat request attributes (org.apache.catalina.Globals) handing the body to sendfile
+    private static final String SENDFILE_SUPPORT = "org.apache.tomcat.sendfile.support";
+    private static final String SENDFILE_FILENAME = "org.apache.tomcat.sendfile.filename";
+    private static final String SENDFILE_START = "org.apache.tomcat.sendfile.start";
+    private static final String SENDFILE_END = "org.apache.tomcat.sendfile.end";
+    private static final long SENDFILE_MIN_SIZE = 48 * 1024; // Tomcat's DefaultServlet threshold
+
+    private static final String CACHE_FOREVER = "private, max-age=31536000, immutable";
+
+    private final AttachmentService attachmentService;
+
+    /**
+     * Get attachments of an issue
+     */
+    @GetMapping("/issues/{key}/attachments")
+    @Operation(summary = "Get attachments", description = "Get attachments of an issue")
+    public ResponseEntity<List<AttachmentDto>> getAttachments(@PathVariable String key) {
+        return ResponseEntity.ok(attachmentService.getAttachments(key));
+    }
+
+    /**
+     * Attach a file sent as a multipart form (limited by spring.servlet.multipart.max-file-size)
+     */
+    @PostMapping(value = "/issues/{key}/attachments", consumes = MediaType.MULTIPART_FORM_DATA_VALUE)
+    @Operation(summary = "Upload attachment (form)", description = "Attach a file sent as the multipart part 'file'")
+    public ResponseEntity<AttachmentDto> uploadForm(
+            @PathVariable String key,
+            @RequestParam("file") MultipartFile file,
+            @AuthenticationPrincipal UserPrincipal currentUser
+    ) throws IOException {
+        log.info("Uploading attachment {} to issue: {}", file.getOriginalFilename(), key);
+        try (InputStream content = file.getInputStream()) {
+            AttachmentDto created = attachmentService.upload(
+                    key, file.getOriginalFilename(), file.getContentType(), content, currentUser.getId());
+            return ResponseEntity.status(HttpStatus.CREATED).body(created);
+        }
+    }
+
+    /**
+     * Attach a file sent as the raw request body (limited by app.attachments.max-size-mb)
+     */
+    @PostMapping(value = "/issues/{key}/attachments", consumes = "!" + MediaType.MULTIPART_FORM_DATA_VALUE)
+    @Operation(summary = "Upload attachment", description = "Attach the request body; its Content-Type becomes the attachment's")
+    public ResponseEntity<AttachmentDto> upload(
+            @PathVariable String key,
+            @RequestParam String filename,
+            HttpServletRequest request,
+            @AuthenticationPrincipal UserPrincipal currentUser
+    ) throws IOException {
+        log.info("Uploading attachment {} to issue: {}", filename, key);
+        AttachmentDto created = attachmentService.upload(
+                key, filename, request.getContentType(), request.getInputStream(), currentUser.getId());
+        return ResponseEntity.status(HttpStatus.CREATED).body(created);
+    }
+
+    /**
+     * Start a resumable upload
+     */
+    @PostMapping("/issues/{key}/attachments/uploads")
+    @Operation(summary = "Start resumable upload", description = "Announce a file; its bytes follow in chunks PUT to the returned upload")
+    public ResponseEntity<AttachmentUploadDto> createUpload(
+            @PathVariable String key,
+            @Valid @RequestBody AttachmentUploadDto uploadDto,
+            @AuthenticationPrincipal UserPrincipal currentUser
+    ) {
+        AttachmentUploadDto created = attachmentService.createUpload(key, uploadDto, currentUser.getId());
+        return ResponseEntity.status(HttpStatus.CREATED).body(created);
+    }
+
+    /**
+     * Get a resumable upload
+     */
+    @GetMapping("/attachments/uploads/{id}")
+    @Operation(summary = "Get resumable upload", description = "Bytes received so far, i.e. where to resume")
+    public ResponseEntity<AttachmentUploadDto> getUpload(
+            @PathVariable UUID id,
+            @AuthenticationPrincipal UserPrincipal currentUser
+    ) {
+        return ResponseEntity.ok(attachmentService.getUpload(id, currentUser.getId()));
+    }
+
+    /**
+     * Send a chunk of a resumable upload
+     */
+    @PutMapping("/attachments/uploads/{id}")
+    @Operation(summary = "Send upload chunk",
+            description = "Body holds the bytes given by Content-Range: bytes start-end/total; start must equal received. " +
+                    "409 returns the offset to resume from")
+    public ResponseEntity<AttachmentUploadDto> appendChunk(
+            @PathVariable UUID id,
+            @RequestHeader(HttpHeaders.CONTENT_RANGE) String contentRange,
+            HttpServletRequest request,
+            @AuthenticationPrincipal UserPrincipal currentUser
+    ) throws IOException {
+        Matcher range = CONTENT_RANGE.matcher(contentRange.trim());
+        if (!range.matches()) {
+            throw new RuntimeException("Content-Range must look like 'bytes start-end/total'");
+        }
+        long start = Long.parseLong(range.group(1));
+        long end = Long.parseLong(range.group(2)) + 1; // Content-Range ends are inclusive
+        long total = Long.parseLong(range.group(3));
+
+        AttachmentUploadDto upload = attachmentService.appendChunk(
+                id, start, end, total, request.getInputStream(), currentUser.getId());
+        return upload.getAttachment() != null
+                ? ResponseEntity.status(HttpStatus.CREATED).body(upload)
+                : ResponseEntity.ok(upload);
+    }
+
+    /**
+     * Download an attachment, or a byte range of it
+     */
+    @GetMapping("/attachments/{id}/content")
+    @Operation(summary = "Download attachment",
+            description = "Supports a single Range, If-Range and If-None-Match; the ETag is the content's SHA-256")
+    public void download(@PathVariable UUID id, HttpServletRequest request, HttpServletResponse response)
+            throws IOException {
+        AttachmentContent content = attachmentService.getContent(id);
+        String etag = content.sha256() != null ? "\"" + content.sha256() + "\"" : null;
+        long size = content.size();
+
+        response.setHeader(HttpHeaders.ACCEPT_RANGES, "bytes");
+        if (etag != null) {
+            // content never changes under an attachment id
+            response.setHeader(HttpHeaders.ETAG, etag);
+            response.setHeader(HttpHeaders.CACHE_CONTROL, CACHE_FOREVER);
+            String ifNoneMatch = request.getHeader(HttpHeaders.IF_NONE_MATCH);
+            if (ifNoneMatch != null && (ifNoneMatch.contains(etag) || ifNoneMatch.trim().equals("*"))) {
+                response.setStatus(HttpStatus.NOT_MODIFIED.value());
+                return;
+            }
+        }
+
+        long start = 0;
+        long end = size - 1;
+        boolean partial = false;
+        String rangeHeader = request.getHeader(HttpHeaders.RANGE);
+        String ifRange = request.getHeader(HttpHeaders.IF_RANGE);
+        if (rangeHeader != null && size > 0 && (ifRange == null || ifRange.trim().equals(etag))) {
+            List<HttpRange> ranges;
+            try {
+                ranges = HttpRange.parseRanges(rangeHeader);
+            } catch (IllegalArgumentException e) {
+                ranges = List.of(); // a malformed Range is ignored
+            }
+            // several ranges would need a multipart/byteranges body; the whole file is sent instead
+            if (ranges.size() == 1) {
+                start = ranges.get(0).getRangeStart(size);
+                end = ranges.get(0).getRangeEnd(size);
+                if (start > end) {
+                    response.setStatus(HttpStatus.REQUESTED_RANGE_NOT_SATISFIABLE.value());
+                    response.setHeader(HttpHeaders.CONTENT_RANGE, "bytes */" + size);
+                    return;
+                }
+                partial = true;
+            }
+        }
+
+        long length = end - start + 1;
+        response.setStatus(partial ? HttpStatus.PARTIAL_CONTENT.value() : HttpStatus.OK.value());
+        if (partial) {
+            response.setHeader(HttpHeaders.CONTENT_RANGE, "bytes " + start + "-" + end + "/" + size);
+        }
+        response.setContentType(content.mimeType() != null ? content.mimeType() : MediaType.APPLICATION_OCTET_STREAM_VALUE);
+        response.setHeader(HttpHeaders.CONTENT_DISPOSITION,
+                ContentDisposition.attachment().filename(content.filename(), StandardCharsets.UTF_8).build().toString());
+        response.setContentLengthLong(length);
+        if (length == 0 || "HEAD".equals(request.getMethod())) {
+            return;
+        }
+
+        sendFile(content.path(), start, end, request, response);
+    }
+
+    /**
+     * Get the thumbnail of an image attachment
+     */
+    @GetMapping("/attachments/{id}/thumbnail")
+    @Operation(summary = "Get attachment thumbnail",
+            description = "JPEG thumbnail of an image attachment; 404 until it was generated or when the file is no image")
+    public void thumbnail(@PathVariable UUID id, HttpServletRequest request, HttpServletResponse response)
+            throws IOException {
+        Optional<AttachmentContent> thumbnail = attachmentService.getThumbnail(id);
+        if (thumbnail.isEmpty()) {
+            response.setStatus(HttpStatus.NOT_FOUND.value());
+            return;
+        }
+
+        AttachmentContent content = thumbnail.get();
+        String etag = "\"" + content.sha256() + "-thumbnail\"";
+        response.setHeader(HttpHeaders.ETAG, etag);
+        response.setHeader(HttpHeaders.CACHE_CONTROL, CACHE_FOREVER);
+        String ifNoneMatch = request.getHeader(HttpHeaders.IF_NONE_MATCH);
+        if (ifNoneMatch != null && (ifNoneMatch.contains(etag) || ifNoneMatch.trim().equals("*"))) {
+            response.setStatus(HttpStatus.NOT_MODIFIED.value());
+            return;
+        }
+
+        response.setContentType(content.mimeType());
+        response.setContentLengthLong(content.size());
+        if (content.size() > 0 && !"HEAD".equals(request.getMethod())) {
+            sendFile(content.path(), 0, content.size() - 1, request, response);
+        }
+    }
+
+    /**
+     * Send bytes [start, end] of a file as the response body, through sendfile where Tomcat offers it
+     */
+    private void sendFile(Path path, long start, long end, HttpServletRequest request, HttpServletResponse response)
+            throws IOException {
+        if (end - start + 1 >= SENDFILE_MIN_SIZE && Boolean.TRUE.equals(request.getAttribute(SENDFILE_SUPPORT))) {
+            request.setAttribute(SENDFILE_FILENAME, path.toString());
+            request.setAttribute(SENDFILE_START, start);
+            request.setAttribute(SENDFILE_END, end + 1);
+            return;
+        }
+
+        try (FileChannel file = FileChannel.open(path, StandardOpenOption.READ)) {
+            WritableByteChannel out = Channels.newChannel(response.getOutputStream());
+            long position = start;
+            while (position <= end) {
+                long sent = file.transferTo(position, end + 1 - position, out);
+                if (sent <= 0) {
+                    throw new IOException(path.getFileName() + " is shorter than its recorded size");
+                }
+                position += sent;
+            }
+        }
+    }
+
+    /**
+     * Delete an attachment
+     */
+    @DeleteMapping("/attachments/{id}")
+    @Operation(summary = "Delete attachment", description = "Delete one of your attachments")
+    public ResponseEntity<Void> deleteAttachment(
+            @PathVariable UUID id,
+            @AuthenticationPrincipal UserPrincipal currentUser
+    ) {
+        log.info("Deleting attachment: {}", id);
+        attachmentService.deleteAttachment(id, currentUser.getId());
+        return ResponseEntity.noContent().build();
+    }
+}
@@ -3,9 +3,11 @@ package com.minipgmt.controller;
 import com.minipgmt.dto.AuthRequest;
 import com.minipgmt.dto.AuthResponse;
 import com.minipgmt.dto.RegisterRequest;
+import com.minipgmt.security.JwtAuthenticationFilter;
 import com.minipgmt.service.AuthService;
 import io.swagger.v3.oas.annotations.Operation;
 import io.swagger.v3.oas.annotations.tags.Tag;
+import jakarta.servlet.http.HttpServletRequest;
 import jakarta.validation.Valid;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
@@ -65,13 +67,16 @@ public class AuthController {
     }
 
     /**
-     * Logout user (client-side token removal)
+     * Logout user: revoke the session, so its refresh token and access tokens stop working
      */
     @PostMapping("/logout")
-    @Operation(summary = "User logout", description = "Logout user (client should remove tokens)")
-    public ResponseEntity<Map<String, String>> logout() {
-        // In a stateless JWT setup, logout is handled client-side
-        // Server can optionally add token to blacklist (not implemented here)
+    @Operation(summary = "User logout", description = "Revoke the session of the bearer token, or of the refresh token in the body")
+    public ResponseEntity<Map<String, String>> logout(
+            HttpServletRequest httpRequest,
+            @RequestBody(required = false) Map<String, String> request
+    ) {
+        authService.logout(JwtAuthenticationFilter.getJwtFromRequest(httpRequest),
+                request != null ? request.get("refreshToken") : null);
         return ResponseEntity.ok(Map.of("message", "Logged out successfully"));
     }
 }
@@ -0,0 +1,89 @@
+package com.minipgmt.controller;
+
+import com.minipgmt.dto.CommentDto;
+import com.minipgmt.dto.CursorPageDto;
+import com.minipgmt.security.UserPrincipal;
+import com.minipgmt.service.CommentService;
+import io.swagger.v3.oas.annotations.Operation;
+import io.swagger.v3.oas.annotations.security.SecurityRequirement;
+import io.swagger.v3.oas.annotations.tags.Tag;
+import jakarta.validation.Valid;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.ResponseEntity;
+import org.springframework.security.core.annotation.AuthenticationPrincipal;
+import org.springframework.web.bind.annotation.*;
+
+import java.util.UUID;
+
+/**
+ * Comment Controller
+ * REST endpoints for issue comments
+ */
+@RestController
+@RequestMapping("/api")
+@RequiredArgsConstructor
+@Slf4j
+@Tag(name = "Comments", description = "Issue comment endpoints")
+@SecurityRequirement(name = "Bearer Authentication")
+public class CommentController {
+
+    private final CommentService commentService;
+
+    /**
+     * Get comments of an issue
+     */
+    @GetMapping("/issues/{key}/comments")
+    @Operation(summary = "Get comments", description = "Get a keyset-paginated page of an issue's comments, oldest first")
+    public ResponseEntity<CursorPageDto<CommentDto>> getComments(
+            @PathVariable String key,
+            @RequestParam(required = false) String cursor,
+            @RequestParam(defaultValue = "20") int limit
+    ) {
+        return ResponseEntity.ok(commentService.getComments(key, cursor, limit));
+    }
+
+    /**
+     * Comment on an issue
+     */
+    @PostMapping("/issues/{key}/comments")
+    @Operation(summary = "Add comment", description = "Comment on an issue")
+    public ResponseEntity<CommentDto> addComment(
+            @PathVariable String key,
+            @Valid @RequestBody CommentDto commentDto,
+            @AuthenticationPrincipal UserPrincipal currentUser
+    ) {
+        log.info("Adding comment to issue: {} by user: {}", key, currentUser.getEmail());
+        CommentDto created = commentService.addComment(key, commentDto, currentUser.getId());
+        return ResponseEntity.status(HttpStatus.CREATED).body(created);
+    }
+
+    /**
+     * Edit a comment
+     */
+    @PutMapping("/comments/{id}")
+    @Operation(summary = "Edit comment", description = "Edit one of your comments")
+    public ResponseEntity<CommentDto> updateComment(
+            @PathVariable UUID id,
+            @Valid @RequestBody CommentDto commentDto,
+            @AuthenticationPrincipal UserPrincipal currentUser
+    ) {
+        log.info("Updating comment: {}", id);
+        return ResponseEntity.ok(commentService.updateComment(id, commentDto, currentUser.getId()));
+    }
+
+    /**
+     * Delete a comment
+     */
+    @DeleteMapping("/comments/{id}")
+    @Operation(summary = "Delete comment", description = "Delete one of your comments")
+    public ResponseEntity<Void> deleteComment(
+            @PathVariable UUID id,
+            @AuthenticationPrincipal UserPrincipal currentUser
+    ) {
+        log.info("Deleting comment: {}", id);
+        commentService.deleteComment(id, currentUser.getId());
+        return ResponseEntity.noContent().build();
+    }
+}
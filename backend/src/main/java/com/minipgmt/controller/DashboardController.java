@@ -0,0 +1,40 @@
+package com.minipgmt.controller;
+
+import com.minipgmt.dto.DashboardDto;
+import com.minipgmt.security.UserPrincipal;
+import com.minipgmt.service.DashboardService;
+import io.swagger.v3.oas.annotations.Operation;
+import io.swagger.v3.oas.annotations.security.SecurityRequirement;
+import io.swagger.v3.oas.annotations.tags.Tag;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.http.ResponseEntity;
+import org.springframework.security.core.annotation.AuthenticationPrincipal;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RestController;
+
+/**
+ * Dashboard Controller
+ * REST endpoint for the dashboard page
+ */
+@RestController
+@RequestMapping("/api/dashboard")
+@RequiredArgsConstructor
+@Slf4j
+@Tag(name = "Dashboard", description = "Dashboard aggregate endpoint")
+@SecurityRequirement(name = "Bearer Authentication")
+public class DashboardController {
+
+    private final DashboardService dashboardService;
+
+    /**
+     * Get dashboard for current user
+     */
+    @GetMapping
+    @Operation(summary = "Get dashboard", description = "Project health, team workload and critical issues in one call")
+    public ResponseEntity<DashboardDto> getDashboard(@AuthenticationPrincipal UserPrincipal currentUser) {
+        DashboardDto dashboard = dashboardService.getDashboard(currentUser.getId());
+        return ResponseEntity.ok(dashboard);
+    }
+}
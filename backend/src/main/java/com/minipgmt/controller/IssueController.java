@@ -1,6 +1,8 @@
 package com.minipgmt.controller;
 
+import com.minipgmt.dto.BoardMoveDto;
 import com.minipgmt.dto.IssueDto;
+import com.minipgmt.dto.IssueTreeNodeDto;
 import com.minipgmt.security.UserPrincipal;
 import com.minipgmt.service.IssueService;
 import io.swagger.v3.oas.annotations.Operation;
@@ -99,6 +101,16 @@ public class IssueController {
         return ResponseEntity.ok(updated);
     }
 
+    /**
+     * Move issue on the board
+     */
+    @PutMapping("/{key}/move")
+    @Operation(summary = "Move issue on the board", description = "Reorder an issue within its column or move it to another status; writes only the moved issue")
+    public ResponseEntity<BoardMoveDto> moveIssue(@PathVariable String key, @RequestBody BoardMoveDto moveDto) {
+        log.info("Moving issue: {} to {} after {} before {}", key, moveDto.getStatus(), moveDto.getAfterKey(), moveDto.getBeforeKey());
+        return ResponseEntity.ok(issueService.moveIssue(key, moveDto));
+    }
+
     /**
      * Delete issue
      */
@@ -120,4 +132,14 @@ public class IssueController {
         List<IssueDto> subtasks = issueService.getSubtasks(key);
         return ResponseEntity.ok(subtasks);
     }
+
+    /**
+     * Get issue tree
+     */
+    @GetMapping("/{key}/tree")
+    @Operation(summary = "Get issue tree", description = "Get an issue with all of its descendants")
+    public ResponseEntity<IssueTreeNodeDto> getIssueTree(@PathVariable String key) {
+        IssueTreeNodeDto tree = issueService.getIssueTree(key);
+        return ResponseEntity.ok(tree);
+    }
 }
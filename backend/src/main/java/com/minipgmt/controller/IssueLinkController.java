@@ -0,0 +1,82 @@
+package com.minipgmt.controller;
+
+import com.minipgmt.dto.BlockedStateDto;
+import com.minipgmt.dto.CriticalPathDto;
+import com.minipgmt.dto.IssueLinkDto;
+import com.minipgmt.service.IssueLinkService;
+import io.swagger.v3.oas.annotations.Operation;
+import io.swagger.v3.oas.annotations.security.SecurityRequirement;
+import io.swagger.v3.oas.annotations.tags.Tag;
+import jakarta.validation.Valid;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.*;
+
+import java.util.List;
+import java.util.UUID;
+
+/**
+ * Issue Link Controller
+ * REST endpoints for issue links and dependencies
+ */
+@RestController
+@RequestMapping("/api/issues/{key}")
+@RequiredArgsConstructor
+@Slf4j
+@Tag(name = "Issue Links", description = "Issue links and dependency endpoints")
+@SecurityRequirement(name = "Bearer Authentication")
+public class IssueLinkController {
+
+    private final IssueLinkService issueLinkService;
+
+    /**
+     * Get links of an issue
+     */
+    @GetMapping("/links")
+    @Operation(summary = "Get issue links", description = "Get links from and to an issue")
+    public ResponseEntity<List<IssueLinkDto>> getLinks(@PathVariable String key) {
+        return ResponseEntity.ok(issueLinkService.getLinks(key));
+    }
+
+    /**
+     * Link an issue to another issue
+     */
+    @PostMapping("/links")
+    @Operation(summary = "Create issue link", description = "Link this issue to a target issue; dependency cycles are rejected")
+    public ResponseEntity<IssueLinkDto> createLink(@PathVariable String key, @Valid @RequestBody IssueLinkDto linkDto) {
+        log.info("Linking issue: {} {} {}", key, linkDto.getType(), linkDto.getTargetIssueKey());
+        IssueLinkDto created = issueLinkService.createLink(key, linkDto);
+        return ResponseEntity.status(HttpStatus.CREATED).body(created);
+    }
+
+    /**
+     * Delete an issue link
+     */
+    @DeleteMapping("/links/{linkId}")
+    @Operation(summary = "Delete issue link", description = "Delete a link from or to this issue")
+    public ResponseEntity<Void> deleteLink(@PathVariable String key, @PathVariable UUID linkId) {
+        log.info("Deleting issue link: {}", linkId);
+        issueLinkService.deleteLink(key, linkId);
+        return ResponseEntity.noContent().build();
+    }
+
+    /**
+     * Get blocked state of an issue
+     */
+    @GetMapping("/blocked")
+    @Operation(summary = "Get blocked state", description = "Unfinished issues blocking this issue, directly and transitively")
+    public ResponseEntity<BlockedStateDto> getBlockedState(@PathVariable String key) {
+        return ResponseEntity.ok(issueLinkService.getBlockedState(key));
+    }
+
+    /**
+     * Get critical path of an epic
+     */
+    @GetMapping("/critical-path")
+    @Operation(summary = "Get epic critical path", description = "Longest chain of remaining story points among the issues of an epic")
+    public ResponseEntity<CriticalPathDto> getCriticalPath(@PathVariable String key) {
+        return ResponseEntity.ok(issueLinkService.getCriticalPath(key));
+    }
+}
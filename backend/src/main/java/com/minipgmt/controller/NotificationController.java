@@ -0,0 +1,79 @@
+package com.minipgmt.controller;
+
+import com.minipgmt.dto.CursorPageDto;
+import com.minipgmt.dto.NotificationDto;
+import com.minipgmt.security.UserPrincipal;
+import com.minipgmt.service.NotificationService;
+import io.swagger.v3.oas.annotations.Operation;
+import io.swagger.v3.oas.annotations.security.SecurityRequirement;
+import io.swagger.v3.oas.annotations.tags.Tag;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.http.ResponseEntity;
+import org.springframework.security.core.annotation.AuthenticationPrincipal;
+import org.springframework.web.bind.annotation.*;
+
+import java.util.Map;
+import java.util.UUID;
+
+/**
+ * Notification Controller
+ * REST endpoints for the current user's notifications
+ */
+@RestController
+@RequestMapping("/api/notifications")
+@RequiredArgsConstructor
+@Slf4j
+@Tag(name = "Notifications", description = "User notification endpoints")
+@SecurityRequirement(name = "Bearer Authentication")
+public class NotificationController {
+
+    private final NotificationService notificationService;
+
+    /**
+     * Get notifications for current user
+     */
+    @GetMapping
+    @Operation(summary = "Get notifications", description = "Get a keyset-paginated page of notifications, newest first")
+    public ResponseEntity<CursorPageDto<NotificationDto>> getNotifications(
+            @AuthenticationPrincipal UserPrincipal currentUser,
+            @RequestParam(required = false) String cursor,
+            @RequestParam(defaultValue = "20") int limit
+    ) {
+        CursorPageDto<NotificationDto> page = notificationService.getNotifications(currentUser.getId(), cursor, limit);
+        return ResponseEntity.ok(page);
+    }
+
+    /**
+     * Get unread notification count for current user
+     */
+    @GetMapping("/unread-count")
+    @Operation(summary = "Get unread count", description = "Get number of unread notifications")
+    public ResponseEntity<Map<String, Long>> getUnreadCount(@AuthenticationPrincipal UserPrincipal currentUser) {
+        long count = notificationService.getUnreadCount(currentUser.getId());
+        return ResponseEntity.ok(Map.of("unreadCount", count));
+    }
+
+    /**
+     * Mark a notification as read
+     */
+    @PostMapping("/{id}/read")
+    @Operation(summary = "Mark notification read", description = "Mark a single notification as read")
+    public ResponseEntity<Void> markRead(
+            @PathVariable UUID id,
+            @AuthenticationPrincipal UserPrincipal currentUser
+    ) {
+        notificationService.markRead(id, currentUser.getId());
+        return ResponseEntity.noContent().build();
+    }
+
+    /**
+     * Mark all notifications as read
+     */
+    @PostMapping("/read-all")
+    @Operation(summary = "Mark all notifications read", description = "Mark every notification of the current user as read")
+    public ResponseEntity<Void> markAllRead(@AuthenticationPrincipal UserPrincipal currentUser) {
+        notificationService.markAllRead(currentUser.getId());
+        return ResponseEntity.noContent().build();
+    }
+}
@@ -1,7 +1,11 @@
 package com.minipgmt.controller;
 
+import com.minipgmt.dto.ChangeFeedDto;
+import com.minipgmt.dto.IssueTreeNodeDto;
 import com.minipgmt.dto.ProjectDto;
+import com.minipgmt.dto.WorkloadDto;
 import com.minipgmt.security.UserPrincipal;
+import com.minipgmt.service.IssueService;
 import com.minipgmt.service.ProjectService;
 import io.swagger.v3.oas.annotations.Operation;
 import io.swagger.v3.oas.annotations.security.SecurityRequirement;
@@ -29,6 +33,7 @@ import java.util.List;
 public class ProjectController {
 
     private final ProjectService projectService;
+    private final IssueService issueService;
 
     /**
      * Get all projects
@@ -50,6 +55,41 @@ public class ProjectController {
         return ResponseEntity.ok(project);
     }
 
+    /**
+     * Get team workload of a project
+     */
+    @GetMapping("/{key}/workload")
+    @Operation(summary = "Get project workload", description = "Open issues, open story points and overdue issues per member")
+    public ResponseEntity<List<WorkloadDto>> getWorkload(@PathVariable String key) {
+        List<WorkloadDto> workload = projectService.getWorkload(key);
+        return ResponseEntity.ok(workload);
+    }
+
+    /**
+     * Get issue hierarchy of a project
+     */
+    @GetMapping("/{key}/hierarchy")
+    @Operation(summary = "Get project hierarchy", description = "Top-level issues of a project with all of their descendants")
+    public ResponseEntity<List<IssueTreeNodeDto>> getHierarchy(@PathVariable String key) {
+        List<IssueTreeNodeDto> hierarchy = issueService.getProjectHierarchy(key);
+        return ResponseEntity.ok(hierarchy);
+    }
+
+    /**
+     * Get issue changes of a project since a change number
+     */
+    @GetMapping("/{key}/changes")
+    @Operation(summary = "Get project changes",
+            description = "Issues created, changed or deleted after change number since; poll again with the returned changeSeq")
+    public ResponseEntity<ChangeFeedDto> getChanges(
+            @PathVariable String key,
+            @RequestParam(defaultValue = "0") long since,
+            @RequestParam(defaultValue = "200") int limit
+    ) {
+        ChangeFeedDto changes = issueService.getChanges(key, since, limit);
+        return ResponseEntity.ok(changes);
+    }
+
     /**
      * Get projects by current user
      */
@@ -0,0 +1,102 @@
+package com.minipgmt.controller;
+
+import com.minipgmt.dto.TimeLogDto;
+import com.minipgmt.dto.TimesheetDto;
+import com.minipgmt.security.UserPrincipal;
+import com.minipgmt.service.TimeLogService;
+import io.swagger.v3.oas.annotations.Operation;
+import io.swagger.v3.oas.annotations.security.SecurityRequirement;
+import io.swagger.v3.oas.annotations.tags.Tag;
+import jakarta.validation.Valid;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.format.annotation.DateTimeFormat;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.ResponseEntity;
+import org.springframework.security.core.annotation.AuthenticationPrincipal;
+import org.springframework.web.bind.annotation.*;
+
+import java.time.LocalDate;
+import java.util.List;
+import java.util.UUID;
+
+/**
+ * Time Log Controller
+ * REST endpoints for time tracking
+ */
+@RestController
+@RequestMapping("/api/time-logs")
+@RequiredArgsConstructor
+@Slf4j
+@Tag(name = "Time Logs", description = "Time tracking endpoints")
+@SecurityRequirement(name = "Bearer Authentication")
+public class TimeLogController {
+
+    private final TimeLogService timeLogService;
+
+    /**
+     * Get time logs by issue
+     */
+    @GetMapping
+    @Operation(summary = "Get time logs", description = "Get time logs by issue key")
+    public ResponseEntity<List<TimeLogDto>> getTimeLogsByIssue(@RequestParam String issueKey) {
+        List<TimeLogDto> timeLogs = timeLogService.getTimeLogsByIssue(issueKey);
+        return ResponseEntity.ok(timeLogs);
+    }
+
+    /**
+     * Log time against an issue
+     */
+    @PostMapping
+    @Operation(summary = "Log time", description = "Log hours spent on an issue")
+    public ResponseEntity<TimeLogDto> logTime(
+            @Valid @RequestBody TimeLogDto timeLogDto,
+            @AuthenticationPrincipal UserPrincipal currentUser
+    ) {
+        log.info("Logging time on issue: {} by user: {}", timeLogDto.getIssueKey(), currentUser.getEmail());
+        TimeLogDto created = timeLogService.logTime(timeLogDto, currentUser.getId());
+        return ResponseEntity.status(HttpStatus.CREATED).body(created);
+    }
+
+    /**
+     * Delete time log
+     */
+    @DeleteMapping("/{id}")
+    @Operation(summary = "Delete time log", description = "Delete one of your time logs")
+    public ResponseEntity<Void> deleteTimeLog(
+            @PathVariable UUID id,
+            @AuthenticationPrincipal UserPrincipal currentUser
+    ) {
+        log.info("Deleting time log: {}", id);
+        timeLogService.deleteTimeLog(id, currentUser.getId());
+        return ResponseEntity.noContent().build();
+    }
+
+    /**
+     * Get weekly timesheet of current user
+     */
+    @GetMapping("/timesheet")
+    @Operation(summary = "Get weekly timesheet", description = "Hours per day and issue for the week containing the given date")
+    public ResponseEntity<TimesheetDto> getWeeklyTimesheet(
+            @AuthenticationPrincipal UserPrincipal currentUser,
+            @RequestParam(required = false) @DateTimeFormat(iso = DateTimeFormat.ISO.DATE) LocalDate date
+    ) {
+        TimesheetDto timesheet = timeLogService.getWeeklyTimesheet(
+                currentUser.getId(), date != null ? date : LocalDate.now());
+        return ResponseEntity.ok(timesheet);
+    }
+
+    /**
+     * Get weekly totals of current user
+     */
+    @GetMapping("/weekly-totals")
+    @Operation(summary = "Get weekly totals", description = "Total hours per week in a date range")
+    public ResponseEntity<List<TimesheetDto.WeekTotalDto>> getWeeklyTotals(
+            @AuthenticationPrincipal UserPrincipal currentUser,
+            @RequestParam @DateTimeFormat(iso = DateTimeFormat.ISO.DATE) LocalDate from,
+            @RequestParam @DateTimeFormat(iso = DateTimeFormat.ISO.DATE) LocalDate to
+    ) {
+        List<TimesheetDto.WeekTotalDto> totals = timeLogService.getWeeklyTotals(currentUser.getId(), from, to);
+        return ResponseEntity.ok(totals);
+    }
+}
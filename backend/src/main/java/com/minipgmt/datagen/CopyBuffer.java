@@ -0,0 +1,72 @@
+package com.minipgmt.datagen;
+
+import org.postgresql.PGConnection;
+
+import java.io.IOException;
+import java.io.StringReader;
+import java.sql.Connection;
+import java.sql.SQLException;
+
+/**
+ * Accumulates rows in PostgreSQL COPY text format and streams them into a table
+ */
+class CopyBuffer {
+
+    private final String copySql;
+    private final StringBuilder rows = new StringBuilder(1 << 16);
+    private long rowCount;
+    private boolean firstColumn = true;
+
+    CopyBuffer(String table, String columns) {
+        this.copySql = "COPY " + table + " (" + columns + ") FROM STDIN";
+    }
+
+    CopyBuffer add(Object value) {
+        if (!firstColumn) {
+            rows.append('\t');
+        }
+        firstColumn = false;
+        if (value == null) {
+            rows.append("\\N");
+        } else {
+            String text = value.toString();
+            for (int i = 0; i < text.length(); i++) {
+                char c = text.charAt(i);
+                switch (c) {
+                    case '\\' -> rows.append("\\\\");
+                    case '\t' -> rows.append("\\t");
+                    case '\n' -> rows.append("\\n");
+                    case '\r' -> rows.append("\\r");
+                    default -> rows.append(c);
+                }
+            }
+        }
+        return this;
+    }
+
+    CopyBuffer endRow() {
+        rows.append('\n');
+        firstColumn = true;
+        rowCount++;
+        return this;
+    }
+
+    long getRowCount() {
+        return rowCount;
+    }
+
+    /**
+     * COPY the buffered rows through the given connection and clear the buffer
+     */
+    long flush(Connection connection) throws SQLException, IOException {
+        if (rows.isEmpty()) {
+            return 0;
+        }
+        long copied = connection.unwrap(PGConnection.class)
+                .getCopyAPI()
+                .copyIn(copySql, new StringReader(rows.toString()));
+        rows.setLength(0);
+        rowCount = 0;
+        return copied;
+    }
+}
@@ -0,0 +1,447 @@
+package com.minipgmt.datagen;
+
+import com.minipgmt.service.ChangeFeedService;
+import com.minipgmt.service.FractionalRank;
+import com.minipgmt.service.ProgressRollupService;
+import lombok.Getter;
+import lombok.RequiredArgsConstructor;
+import lombok.Setter;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.ApplicationArguments;
+import org.springframework.boot.ApplicationRunner;
+import org.springframework.boot.SpringApplication;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.boot.context.properties.EnableConfigurationProperties;
+import org.springframework.context.ConfigurableApplicationContext;
+import org.springframework.context.annotation.Profile;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Component;
+
+import javax.sql.DataSource;
+import java.math.BigDecimal;
+import java.sql.Connection;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Random;
+import java.util.Set;
+import java.util.UUID;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * Synthetic Dataset Generator
+ * Bulk-loads users, projects, sprints, issue hierarchies, comments and time logs through COPY.
+ *
+ * Run with the datagen profile, e.g.
+ * java -jar minipgmt-backend.jar --spring.profiles.active=datagen --app.datagen.issues=500000
+ *
+ * Output is fully determined by app.datagen.seed: every project draws from its own Random
+ * derived from the seed, so the dataset does not depend on thread scheduling.
+ * Hierarchies follow IssueHierarchyValidator: epics hold stories/tasks/bugs, and only
+ * top-level stories/tasks/bugs hold subtasks.
+ */
+@Component
+@Profile("datagen")
+@EnableConfigurationProperties(DataGenerator.DataGenProperties.class)
+@RequiredArgsConstructor
+@Slf4j
+public class DataGenerator implements ApplicationRunner {
+
+    /** BCrypt hash of 'password123', same as the demo users */
+    private static final String PASSWORD_HASH = "$2a$10$La4YC/5T/VfKWQQpdg.oau3jnUp0DbaKuVSm2LEZaQz7.jocE2tWu";
+    private static final String KEY_PREFIX = "GEN";
+
+    private static final String[] FIRST_NAMES = {"Alex", "Sam", "Jordan", "Taylor", "Morgan", "Casey", "Riley",
+            "Jamie", "Avery", "Quinn", "Harper", "Rowan", "Elliot", "Dana", "Kai", "Noor", "Lena", "Mateo"};
+    private static final String[] LAST_NAMES = {"Lee", "Garcia", "Nguyen", "Smith", "Patel", "Kim", "Müller",
+            "Rossi", "Silva", "Cohen", "Okafor", "Novak", "Berg", "Tanaka", "Dubois", "Khan", "Walsh", "Ortiz"};
+    private static final String[] AREAS = {"checkout", "search", "login", "billing", "reports", "notifications",
+            "profile", "dashboard", "export", "import", "permissions", "onboarding", "settings", "API", "mobile"};
+    private static final String[] VERBS = {"Implement", "Fix", "Refactor", "Improve", "Add tests for",
+            "Document", "Investigate", "Optimize", "Redesign", "Migrate"};
+    private static final String[] COMMENTS = {"Looks good to me.", "Can we split this into smaller pieces?",
+            "Blocked on the API change.", "Updated the estimate after investigation.", "Pushed a first draft.",
+            "Reproduced on staging.", "Needs design review.", "Moved to the next sprint.", "Done, please verify."};
+    private static final String[] STATUSES = {"TODO", "IN_PROGRESS", "IN_REVIEW", "DONE"};
+    private static final int[] STATUS_WEIGHTS = {35, 25, 10, 30};
+    private static final String[] PRIORITIES = {"LOWEST", "LOW", "MEDIUM", "HIGH", "HIGHEST"};
+    private static final int[] PRIORITY_WEIGHTS = {5, 20, 45, 22, 8};
+    private static final String[] CHILD_TYPES = {"STORY", "TASK", "BUG"};
+    private static final int[] STORY_POINTS = {1, 2, 3, 5, 8, 13};
+    private static final String[][] WORKFLOW = {
+            {"To Do", "TODO", "#9E9E9E"},
+            {"In Progress", "IN_PROGRESS", "#2196F3"},
+            {"In Review", "IN_REVIEW", "#9C27B0"},
+            {"Done", "DONE", "#4CAF50"}
+    };
+    private static final int SPRINT_DAYS = 14;
+
+    private final DataGenProperties properties;
+    private final DataSource dataSource;
+    private final JdbcTemplate jdbcTemplate;
+    private final ProgressRollupService progressRollups;
+    private final ChangeFeedService changeFeed;
+    private final ConfigurableApplicationContext applicationContext;
+
+    @Override
+    public void run(ApplicationArguments args) throws Exception {
+        if (Boolean.TRUE.equals(jdbcTemplate.queryForObject(
+                "SELECT EXISTS (SELECT 1 FROM projects WHERE key = ?)", Boolean.class, KEY_PREFIX + 1))) {
+            log.warn("Generated data already present (project {}1), skipping", KEY_PREFIX);
+        } else {
+            generate();
+        }
+
+        if (properties.isExitWhenDone()) {
+            System.exit(SpringApplication.exit(applicationContext, () -> 0));
+        }
+    }
+
+    /**
+     * Generate the full dataset
+     */
+    public void generate() throws Exception {
+        long start = System.nanoTime();
+        log.info("Generating {} users, {} projects, {} issues (seed {})",
+                properties.getUsers(), properties.getProjects(), properties.getIssues(), properties.getSeed());
+
+        UUID[] userIds = generateUsers();
+        List<GeneratedProject> projects = generateProjects(userIds);
+        generateIssues(projects);
+
+        log.info("Rebuilding progress rollups and change sequences");
+        progressRollups.rebuild();
+        changeFeed.rebuild();
+
+        log.info("Analyzing tables");
+        jdbcTemplate.execute("ANALYZE users, projects, project_members, workflow_statuses, sprints, issues, comments, time_logs");
+        log.info("Data generation finished in {} s", (System.nanoTime() - start) / 1_000_000_000L);
+    }
+
+    private UUID[] generateUsers() throws Exception {
+        Random random = new Random(properties.getSeed());
+        UUID[] userIds = new UUID[properties.getUsers()];
+        CopyBuffer users = new CopyBuffer("users",
+                "id, name, email, password_hash, role, is_active, created_at, updated_at");
+        LocalDateTime createdAt = properties.getBaseDate().atStartOfDay().minusYears(2);
+
+        try (Connection connection = dataSource.getConnection()) {
+            for (int i = 0; i < userIds.length; i++) {
+                userIds[i] = uuid(random);
+                int roll = random.nextInt(100);
+                users.add(userIds[i])
+                        .add(pick(random, FIRST_NAMES) + " " + pick(random, LAST_NAMES))
+                        .add("user" + (i + 1) + "@datagen.minipgmt.dev")
+                        .add(PASSWORD_HASH)
+                        .add(roll < 1 ? "ADMIN" : roll < 11 ? "VIEWER" : "MEMBER")
+                        .add(true)
+                        .add(createdAt)
+                        .add(createdAt)
+                        .endRow();
+                if (users.getRowCount() >= properties.getBatchSize()) {
+                    users.flush(connection);
+                }
+            }
+            users.flush(connection);
+        }
+        log.info("Loaded {} users", userIds.length);
+        return userIds;
+    }
+
+    private List<GeneratedProject> generateProjects(UUID[] userIds) throws Exception {
+        Random random = new Random(properties.getSeed() + 1);
+        List<GeneratedProject> projects = new ArrayList<>(properties.getProjects());
+        CopyBuffer projectRows = new CopyBuffer("projects",
+                "id, key, name, description, health, progress, due_date, created_by, created_at, updated_at");
+        CopyBuffer memberRows = new CopyBuffer("project_members", "project_id, user_id, role, joined_at");
+        CopyBuffer workflowRows = new CopyBuffer("workflow_statuses",
+                "id, project_id, name, category, position, color, created_at");
+        CopyBuffer sprintRows = new CopyBuffer("sprints",
+                "id, project_id, name, goal, start_date, end_date, status, created_by, created_at, updated_at");
+        LocalDate baseDate = properties.getBaseDate();
+        LocalDateTime createdAt = baseDate.atStartOfDay().minusYears(1);
+        int memberCount = Math.min(properties.getMembersPerProject(), userIds.length);
+
+        for (int p = 1; p <= properties.getProjects(); p++) {
+            Set<UUID> memberSet = new LinkedHashSet<>();
+            while (memberSet.size() < memberCount) {
+                memberSet.add(userIds[random.nextInt(userIds.length)]);
+            }
+            UUID[] members = memberSet.toArray(UUID[]::new);
+            UUID projectId = uuid(random);
+            String key = KEY_PREFIX + p;
+
+            projectRows.add(projectId)
+                    .add(key)
+                    .add(pick(random, AREAS) + " platform " + p)
+                    .add("Generated project " + p)
+                    .add(random.nextInt(10) < 7 ? "ON_TRACK" : random.nextBoolean() ? "AT_RISK" : "BEHIND")
+                    .add(0)
+                    .add(baseDate.plusDays(30 + random.nextInt(300)))
+                    .add(members[0])
+                    .add(createdAt)
+                    .add(createdAt)
+                    .endRow();
+
+            for (int m = 0; m < members.length; m++) {
+                memberRows.add(projectId)
+                        .add(members[m])
+                        .add(m == 0 ? "admin" : random.nextInt(10) == 0 ? "viewer" : "member")
+                        .add(createdAt)
+                        .endRow();
+            }
+
+            for (int w = 0; w < WORKFLOW.length; w++) {
+                workflowRows.add(uuid(random)).add(projectId).add(WORKFLOW[w][0]).add(WORKFLOW[w][1])
+                        .add(w + 1).add(WORKFLOW[w][2]).add(createdAt).endRow();
+            }
+
+            // Sprints run back to back; the one containing the base date is active
+            int sprintCount = properties.getSprintsPerProject();
+            UUID[] sprintIds = new UUID[sprintCount];
+            boolean[] sprintDone = new boolean[sprintCount];
+            LocalDate sprintStart = baseDate.minusDays((long) SPRINT_DAYS * (sprintCount * 2 / 3));
+            for (int s = 0; s < sprintCount; s++) {
+                LocalDate sprintEnd = sprintStart.plusDays(SPRINT_DAYS);
+                String status = sprintEnd.isBefore(baseDate) ? "COMPLETED"
+                        : sprintStart.isAfter(baseDate) ? "PLANNED" : "ACTIVE";
+                sprintIds[s] = uuid(random);
+                sprintDone[s] = "COMPLETED".equals(status);
+                sprintRows.add(sprintIds[s]).add(projectId).add("Sprint " + (s + 1))
+                        .add("Sprint goal " + (s + 1)).add(sprintStart).add(sprintEnd).add(status)
+                        .add(members[0]).add(createdAt).add(createdAt).endRow();
+                sprintStart = sprintEnd;
+            }
+
+            projects.add(new GeneratedProject(p, projectId, key, members, sprintIds, sprintDone));
+        }
+
+        try (Connection connection = dataSource.getConnection()) {
+            projectRows.flush(connection);
+            memberRows.flush(connection);
+            workflowRows.flush(connection);
+            sprintRows.flush(connection);
+        }
+        log.info("Loaded {} projects with members, workflows and sprints", projects.size());
+        return projects;
+    }
+
+    private void generateIssues(List<GeneratedProject> projects) throws Exception {
+        int threads = properties.getThreads() > 0
+                ? properties.getThreads()
+                : Math.min(4, Runtime.getRuntime().availableProcessors());
+        long issuesPerProject = properties.getIssues() / projects.size();
+        long remainder = properties.getIssues() % projects.size();
+        AtomicLong loadedIssues = new AtomicLong();
+        AtomicInteger completedProjects = new AtomicInteger();
+
+        ExecutorService executor = Executors.newFixedThreadPool(threads);
+        try {
+            List<Future<?>> tasks = new ArrayList<>();
+            for (GeneratedProject project : projects) {
+                int count = (int) (issuesPerProject + (project.index() <= remainder ? 1 : 0));
+                tasks.add(executor.submit(() -> {
+                    generateProjectIssues(project, count);
+                    long total = loadedIssues.addAndGet(count);
+                    int completed = completedProjects.incrementAndGet();
+                    if (completed % 50 == 0) {
+                        log.info("Loaded {} issues ({}/{} projects)", total, completed, projects.size());
+                    }
+                    return null;
+                }));
+            }
+            for (Future<?> task : tasks) {
+                task.get();
+            }
+        } finally {
+            executor.shutdownNow();
+        }
+        log.info("Loaded {} issues with comments and time logs", loadedIssues.get());
+    }
+
+    private void generateProjectIssues(GeneratedProject project, int count) throws Exception {
+        Random random = new Random(properties.getSeed() * 1_000_003L + project.index());
+        CopyBuffer issues = new CopyBuffer("issues",
+                "id, key, title, description, type, priority, status, project_id, sprint_id, parent_issue_id, "
+                        + "assignee_id, reporter_id, story_points, due_date, estimate_hours, logged_hours, board_rank, change_seq, comment_count, created_at, updated_at");
+        CopyBuffer comments = new CopyBuffer("comments", "id, issue_id, user_id, content, created_at, updated_at");
+        CopyBuffer timeLogs = new CopyBuffer("time_logs",
+                "id, issue_id, user_id, hours, description, logged_date, created_at");
+
+        try (Connection connection = dataSource.getConnection()) {
+            connection.setAutoCommit(false);
+            IssueWriter writer = new IssueWriter(random, project, count, issues, comments, timeLogs);
+            while (writer.count < count) {
+                if (random.nextInt(100) < 35) {
+                    // Epic with stories/tasks/bugs; children of an epic cannot have subtasks
+                    UUID epicId = writer.write("EPIC", null);
+                    int children = 3 + random.nextInt(6);
+                    for (int c = 0; c < children && writer.count < count; c++) {
+                        writer.write(pick(random, CHILD_TYPES), epicId);
+                    }
+                } else {
+                    // Top-level story/task/bug with subtasks
+                    UUID parentId = writer.write(pick(random, CHILD_TYPES), null);
+                    int subtasks = random.nextInt(6);
+                    for (int s = 0; s < subtasks && writer.count < count; s++) {
+                        writer.write("SUBTASK", parentId);
+                    }
+                }
+                if (issues.getRowCount() >= properties.getBatchSize()) {
+                    flushIssues(connection, issues, comments, timeLogs);
+                }
+            }
+            flushIssues(connection, issues, comments, timeLogs);
+            connection.commit();
+        }
+    }
+
+    private void flushIssues(Connection connection, CopyBuffer issues, CopyBuffer comments, CopyBuffer timeLogs)
+            throws Exception {
+        // Issues first: comments and time logs reference them
+        issues.flush(connection);
+        comments.flush(connection);
+        timeLogs.flush(connection);
+    }
+
+    /**
+     * Writes issues of one project together with their comments and time logs
+     */
+    private class IssueWriter {
+
+        private final Random random;
+        private final GeneratedProject project;
+        private final int total;
+        private final CopyBuffer issues;
+        private final CopyBuffer comments;
+        private final CopyBuffer timeLogs;
+        private int count;
+
+        IssueWriter(Random random, GeneratedProject project, int total, CopyBuffer issues, CopyBuffer comments,
+                    CopyBuffer timeLogs) {
+            this.random = random;
+            this.project = project;
+            this.total = total;
+            this.issues = issues;
+            this.comments = comments;
+            this.timeLogs = timeLogs;
+        }
+
+        UUID write(String type, UUID parentId) {
+            count++;
+            UUID id = uuid(random);
+            UUID[] members = project.members();
+            boolean epic = "EPIC".equals(type);
+            String status = weighted(random, STATUSES, STATUS_WEIGHTS);
+            UUID assignee = random.nextInt(10) < 8 ? members[random.nextInt(members.length)] : null;
+            LocalDate baseDate = properties.getBaseDate();
+            LocalDateTime createdAt = baseDate.atStartOfDay().minusDays(random.nextInt(365)).plusMinutes(random.nextInt(1440));
+
+            UUID sprintId = null;
+            if (!epic && random.nextInt(10) < 7) {
+                int sprint = random.nextInt(project.sprintIds().length);
+                sprintId = project.sprintIds()[sprint];
+                if (project.sprintDone()[sprint] && random.nextInt(10) < 8) {
+                    status = "DONE";
+                }
+            }
+
+            // Time logs are generated first so logged_hours matches their sum
+            BigDecimal loggedHours = BigDecimal.ZERO;
+            if (!epic && !"TODO".equals(status)) {
+                int logs = random.nextInt(2 * properties.getTimeLogsPerIssue() + 1);
+                for (int l = 0; l < logs; l++) {
+                    BigDecimal hours = BigDecimal.valueOf(1 + random.nextInt(32)).divide(BigDecimal.valueOf(4));
+                    loggedHours = loggedHours.add(hours);
+                    LocalDate loggedDate = createdAt.toLocalDate().plusDays(random.nextInt(30));
+                    timeLogs.add(uuid(random)).add(id).add(assignee != null ? assignee : members[0])
+                            .add(hours).add("Work on " + project.key() + "-" + count)
+                            .add(loggedDate).add(loggedDate.atTime(18, 0)).endRow();
+                }
+            }
+
+            int commentCount = random.nextInt(2 * properties.getCommentsPerIssue() + 1);
+            for (int c = 0; c < commentCount; c++) {
+                LocalDateTime commentedAt = createdAt.plusHours(1 + random.nextInt(24 * 20));
+                comments.add(uuid(random)).add(id).add(members[random.nextInt(members.length)])
+                        .add(pick(random, COMMENTS)).add(commentedAt).add(commentedAt).endRow();
+            }
+
+            issues.add(id)
+                    .add(project.key() + "-" + count)
+                    .add(pick(random, VERBS) + " " + pick(random, AREAS) + " " + type.toLowerCase())
+                    .add(random.nextInt(3) == 0 ? null : "Generated " + type.toLowerCase() + " for " + project.key())
+                    .add(type)
+                    .add(weighted(random, PRIORITIES, PRIORITY_WEIGHTS))
+                    .add(status)
+                    .add(project.id())
+                    .add(sprintId)
+                    .add(parentId)
+                    .add(assignee)
+                    .add(members[random.nextInt(members.length)])
+                    .add(epic ? null : STORY_POINTS[random.nextInt(STORY_POINTS.length)])
+                    .add(random.nextInt(10) < 4 ? baseDate.plusDays(random.nextInt(180) - 90) : null)
+                    .add("SUBTASK".equals(type) || "TASK".equals(type) ? BigDecimal.valueOf(1 + random.nextInt(16)) : null)
+                    .add(loggedHours)
+                    .add(FractionalRank.at(count, total)) // unique within the project, so ordered within every column
+                    .add(count) // change sequence numbers 1..n, see ChangeFeedService.rebuild()
+                    .add(commentCount)
+                    .add(createdAt)
+                    .add(createdAt)
+                    .endRow();
+            return id;
+        }
+    }
+
+    private record GeneratedProject(int index, UUID id, String key, UUID[] members, UUID[] sprintIds,
+                                    boolean[] sprintDone) {
+    }
+
+    private static UUID uuid(Random random) {
+        long most = (random.nextLong() & ~0xF000L) | 0x4000L;
+        long least = (random.nextLong() & 0x3FFFFFFFFFFFFFFFL) | 0x8000000000000000L;
+        return new UUID(most, least);
+    }
+
+    private static String pick(Random random, String[] values) {
+        return values[random.nextInt(values.length)];
+    }
+
+    private static String weighted(Random random, String[] values, int[] weights) {
+        int roll = random.nextInt(100);
+        for (int i = 0; i < values.length; i++) {
+            roll -= weights[i];
+            if (roll < 0) {
+                return values[i];
+            }
+        }
+        return values[values.length - 1];
+    }
+
+    /**
+     * Dataset volumes (app.datagen.*)
+     */
+    @ConfigurationProperties(prefix = "app.datagen")
+    @Getter
+    @Setter
+    public static class DataGenProperties {
+        private long seed = 42;
+        private int users = 50_000;
+        private int projects = 500;
+        private long issues = 5_000_000;
+        private int membersPerProject = 25;
+        private int sprintsPerProject = 12;
+        private int commentsPerIssue = 1; // average
+        private int timeLogsPerIssue = 1; // average, issues that are not TODO
+        private int batchSize = 10_000;
+        private int threads = 0; // 0 = min(4, available processors)
+        private LocalDate baseDate = LocalDate.of(2026, 1, 1); // fixed so runs are reproducible
+        private boolean exitWhenDone = true;
+    }
+}
@@ -0,0 +1,31 @@
+package com.minipgmt.domain;
+
+import jakarta.persistence.*;
+import lombok.*;
+
+/**
+ * Comment Entity
+ * A comment on an issue
+ */
+@Entity
+@Table(name = "comments", indexes = {
+    @Index(name = "idx_comments_issue_created", columnList = "issue_id, created_at, id")
+})
+@Getter
+@Setter
+@NoArgsConstructor
+@AllArgsConstructor
+@Builder
+public class Comment extends BaseEntity {
+
+    @ManyToOne(fetch = FetchType.LAZY)
+    @JoinColumn(name = "issue_id", nullable = false)
+    private Issue issue;
+
+    @ManyToOne(fetch = FetchType.LAZY)
+    @JoinColumn(name = "user_id", nullable = false)
+    private User user;
+
+    @Column(name = "content", nullable = false, columnDefinition = "TEXT")
+    private String content;
+}
@@ -5,6 +5,7 @@ import jakarta.validation.constraints.Min;
 import jakarta.validation.constraints.NotBlank;
 import jakarta.validation.constraints.Size;
 import lombok.*;
+import org.hibernate.annotations.DynamicUpdate;
 
 import java.math.BigDecimal;
 import java.time.LocalDate;
@@ -28,6 +29,7 @@ import java.time.LocalDate;
 @NoArgsConstructor
 @AllArgsConstructor
 @Builder
+@DynamicUpdate
 public class Issue extends BaseEntity {
 
     @NotBlank(message = "Issue key is required")
@@ -86,10 +88,38 @@ public class Issue extends BaseEntity {
     @Column(name = "estimate_hours", precision = 10, scale = 2)
     private BigDecimal estimateHours;
 
-    @Column(name = "logged_hours", precision = 10, scale = 2)
+    /**
+     * Maintained by atomic increments from time logging; never written back from
+     * a loaded entity so concurrent loggers cannot be overwritten by a stale copy
+     */
+    @Column(name = "logged_hours", precision = 10, scale = 2, updatable = false)
     @Builder.Default
     private BigDecimal loggedHours = BigDecimal.ZERO;
 
+    /**
+     * Fractional board rank within the (project, status) column, see BoardRankService.
+     * Updates only write changed columns (@DynamicUpdate), so saving an edit never rewrites
+     * the rank from a stale copy and a drag-and-drop move is a single-row, single-column write.
+     */
+    @Column(name = "board_rank")
+    private String boardRank;
+
+    /**
+     * Position in the project's change sequence at the last change of this issue, see ChangeFeedService
+     */
+    @Column(name = "change_seq", nullable = false)
+    private long changeSeq;
+
+    /**
+     * Maintained by atomic increments when comments and attachments are added or removed,
+     * see CommentService and AttachmentService
+     */
+    @Column(name = "comment_count", nullable = false, insertable = false, updatable = false)
+    private int commentCount;
+
+    @Column(name = "attachment_count", nullable = false, insertable = false, updatable = false)
+    private int attachmentCount;
+
     /**
      * Issue types
      */
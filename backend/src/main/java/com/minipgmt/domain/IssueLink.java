@@ -0,0 +1,87 @@
+package com.minipgmt.domain;
+
+import jakarta.persistence.*;
+import lombok.*;
+
+import java.time.LocalDateTime;
+import java.util.UUID;
+
+/**
+ * Issue Link Entity
+ * Directed relationship between two issues (blocks, relates to, duplicates)
+ */
+@Entity
+@Table(name = "issue_links", indexes = {
+    @Index(name = "idx_issue_links_target_issue_id", columnList = "target_issue_id")
+})
+@Getter
+@Setter
+@NoArgsConstructor
+@AllArgsConstructor
+@Builder
+public class IssueLink {
+
+    @Id
+    @GeneratedValue(strategy = GenerationType.UUID)
+    @Column(name = "id", updatable = false, nullable = false)
+    private UUID id;
+
+    @ManyToOne(fetch = FetchType.LAZY)
+    @JoinColumn(name = "source_issue_id", nullable = false)
+    private Issue sourceIssue;
+
+    @ManyToOne(fetch = FetchType.LAZY)
+    @JoinColumn(name = "target_issue_id", nullable = false)
+    private Issue targetIssue;
+
+    @Enumerated(EnumType.STRING)
+    @Column(name = "link_type", nullable = false, length = 50)
+    private LinkType linkType;
+
+    @Column(name = "created_at", nullable = false, updatable = false)
+    private LocalDateTime createdAt;
+
+    @PrePersist
+    protected void onCreate() {
+        if (createdAt == null) {
+            createdAt = LocalDateTime.now();
+        }
+    }
+
+    /**
+     * Blocker of this link (null for links that do not express a dependency)
+     */
+    public Issue getBlocker() {
+        return switch (linkType) {
+            case BLOCKS -> sourceIssue;
+            case IS_BLOCKED_BY -> targetIssue;
+            default -> null;
+        };
+    }
+
+    /**
+     * Blocked issue of this link (null for links that do not express a dependency)
+     */
+    public Issue getBlocked() {
+        return switch (linkType) {
+            case BLOCKS -> targetIssue;
+            case IS_BLOCKED_BY -> sourceIssue;
+            default -> null;
+        };
+    }
+
+    /**
+     * Link types
+     */
+    public enum LinkType {
+        BLOCKS,             // source must be done before target
+        IS_BLOCKED_BY,      // target must be done before source
+        RELATES_TO,
+        DUPLICATES,
+        IS_DUPLICATED_BY;
+
+        public boolean isDependency() {
+            return this == BLOCKS || this == IS_BLOCKED_BY;
+        }
+    }
+}
@@ -0,0 +1,63 @@
+package com.minipgmt.domain;
+
+import jakarta.persistence.*;
+import jakarta.validation.constraints.DecimalMin;
+import jakarta.validation.constraints.NotNull;
+import lombok.*;
+
+import java.math.BigDecimal;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.UUID;
+
+/**
+ * Time Log Entity
+ * Hours a user spent on an issue on a given day
+ */
+@Entity
+@Table(name = "time_logs", indexes = {
+    @Index(name = "idx_time_logs_issue_id", columnList = "issue_id"),
+    @Index(name = "idx_time_logs_user_id", columnList = "user_id")
+})
+@Getter
+@Setter
+@NoArgsConstructor
+@AllArgsConstructor
+@Builder
+public class TimeLog {
+
+    @Id
+    @GeneratedValue(strategy = GenerationType.UUID)
+    @Column(name = "id", updatable = false, nullable = false)
+    private UUID id;
+
+    @ManyToOne(fetch = FetchType.LAZY)
+    @JoinColumn(name = "issue_id", nullable = false)
+    private Issue issue;
+
+    @ManyToOne(fetch = FetchType.LAZY)
+    @JoinColumn(name = "user_id", nullable = false)
+    private User user;
+
+    @NotNull(message = "Hours are required")
+    @DecimalMin(value = "0.01", message = "Hours must be positive")
+    @Column(name = "hours", nullable = false, precision = 10, scale = 2)
+    private BigDecimal hours;
+
+    @Column(name = "description", columnDefinition = "TEXT")
+    private String description;
+
+    @NotNull(message = "Logged date is required")
+    @Column(name = "logged_date", nullable = false)
+    private LocalDate loggedDate;
+
+    @Column(name = "created_at", nullable = false, updatable = false)
+    private LocalDateTime createdAt;
+
+    @PrePersist
+    protected void onCreate() {
+        if (createdAt == null) {
+            createdAt = LocalDateTime.now();
+        }
+    }
+}
@@ -0,0 +1,29 @@
+package com.minipgmt.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.time.LocalDateTime;
+import java.util.UUID;
+
+/**
+ * Attachment DTO
+ * Content is downloaded from /api/attachments/{id}/content
+ */
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class AttachmentDto {
+    private UUID id;
+    private String issueKey;
+    private String filename;
+    private String mimeType;
+    private long size;
+    private String sha256;
+    private String thumbnailUrl; // Set once the thumbnail of an image was generated
+    private UserSummaryDto user;
+    private LocalDateTime createdAt;
+}
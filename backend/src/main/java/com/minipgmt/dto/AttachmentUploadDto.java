@@ -0,0 +1,39 @@
+package com.minipgmt.dto;
+
+import jakarta.validation.constraints.Min;
+import jakarta.validation.constraints.NotBlank;
+import jakarta.validation.constraints.Size;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.time.LocalDateTime;
+import java.util.UUID;
+
+/**
+ * Resumable attachment upload.
+ * Chunks are PUT to /api/attachments/uploads/{id} with a Content-Range starting at received;
+ * the chunk that completes the file returns the created attachment.
+ */
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class AttachmentUploadDto {
+    private UUID id;
+    private String issueKey;
+
+    @NotBlank(message = "Filename is required")
+    @Size(max = 500, message = "Filename must be at most 500 characters")
+    private String filename;
+
+    private String mimeType;
+
+    @Min(value = 1, message = "Total size must be positive")
+    private long totalSize;
+
+    private long received; // Offset the next chunk must start at
+    private AttachmentDto attachment; // Set once the last chunk arrived
+    private LocalDateTime createdAt;
+}
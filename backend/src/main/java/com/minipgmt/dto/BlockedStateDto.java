@@ -0,0 +1,22 @@
+package com.minipgmt.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.util.List;
+
+/**
+ * Blocked state of an issue, from the project dependency graph
+ */
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class BlockedStateDto {
+    private String issueKey;
+    private boolean blocked;
+    private List<String> blockedBy;          // unfinished direct blockers
+    private List<String> transitiveBlockers; // unfinished blockers, following chains of unfinished issues
+}
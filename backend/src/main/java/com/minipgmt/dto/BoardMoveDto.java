@@ -0,0 +1,22 @@
+package com.minipgmt.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+/**
+ * Board drag-and-drop move: the target column and the card the issue is dropped below (afterKey)
+ * or above (beforeKey); neither means the bottom of the column
+ */
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class BoardMoveDto {
+    private String key;
+    private String status; // Defaults to the current status (reorder within the column)
+    private String afterKey;
+    private String beforeKey;
+    private String boardRank; // Resulting rank (response only)
+}
@@ -0,0 +1,25 @@
+package com.minipgmt.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.util.List;
+
+/**
+ * Changes of a project's issues after a change number, in change order.
+ * Poll again with since = changeSeq; hasMore means the next page is already waiting.
+ */
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class ChangeFeedDto {
+    private String projectKey;
+    private long since;
+    private long changeSeq; // Highest change number covered by this response
+    private boolean hasMore;
+    private List<IssueDto> issues; // Created or changed issues, latest state
+    private List<DeletedIssueDto> deleted;
+}
@@ -0,0 +1,31 @@
+package com.minipgmt.dto;
+
+import jakarta.validation.constraints.NotBlank;
+import jakarta.validation.constraints.Size;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.time.LocalDateTime;
+import java.util.UUID;
+
+/**
+ * Comment DTO
+ */
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class CommentDto {
+    private UUID id;
+    private String issueKey;
+    private UserSummaryDto user;
+
+    @NotBlank(message = "Content is required")
+    @Size(max = 10000, message = "Content must not exceed 10000 characters")
+    private String content;
+
+    private LocalDateTime createdAt;
+    private LocalDateTime updatedAt;
+}
@@ -0,0 +1,22 @@
+package com.minipgmt.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.util.List;
+
+/**
+ * Critical path of an epic: the longest chain of remaining work among its issues, blockers first
+ */
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class CriticalPathDto {
+    private String epicKey;
+    private List<String> path;
+    private long remainingPoints; // unfinished issues weigh their story points (1 if unestimated)
+    private int issueCount;
+}
@@ -0,0 +1,65 @@
+package com.minipgmt.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.Map;
+import java.util.UUID;
+
+/**
+ * Dashboard DTO
+ * All panels of the dashboard page in a single payload
+ */
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class DashboardDto {
+    private List<ProjectHealthDto> projects;
+    private List<AssigneeWorkloadDto> workload;
+    private List<CriticalIssueDto> criticalIssues;
+    private LocalDateTime generatedAt;
+
+    @Data
+    @Builder
+    @NoArgsConstructor
+    @AllArgsConstructor
+    public static class ProjectHealthDto {
+        private String key;
+        private String name;
+        private String health;
+        private Long totalIssues;
+        private Map<String, Long> statusCounts;
+    }
+
+    @Data
+    @Builder
+    @NoArgsConstructor
+    @AllArgsConstructor
+    public static class AssigneeWorkloadDto {
+        private UUID assigneeId;
+        private String name;
+        private String avatarUrl;
+        private Long openIssues;
+        private Long openPoints;
+    }
+
+    @Data
+    @Builder
+    @NoArgsConstructor
+    @AllArgsConstructor
+    public static class CriticalIssueDto {
+        private String key;
+        private String title;
+        private String priority;
+        private String status;
+        private LocalDate dueDate;
+        private String projectKey;
+        private String assigneeName;
+    }
+}
@@ -26,6 +26,7 @@ public class IssueDto {
     private String type;
     private String priority;
     private String status;
+    private String boardRank; // Order within the board column (project and status)
     private String projectKey;
     private UUID sprintId;
     private UUID parentIssueId;
@@ -40,5 +41,7 @@ public class IssueDto {
     private Long attachmentCount;
     private LocalDateTime createdAt;
     private LocalDateTime updatedAt;
+    private Long changeSeq; // Project change sequence number of the last change (see /api/projects/{key}/changes)
     private List<IssueDto> subtasks; // List of subtasks for this issue
+    private ProgressDto progress; // Epics only: rolled up from their direct children
 }
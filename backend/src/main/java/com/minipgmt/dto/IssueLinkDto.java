@@ -0,0 +1,35 @@
+package com.minipgmt.dto;
+
+import jakarta.validation.constraints.NotBlank;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.time.LocalDateTime;
+import java.util.UUID;
+
+/**
+ * Issue Link DTO
+ * Created from the issue in the path, which becomes the source of the link
+ */
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class IssueLinkDto {
+    private UUID id;
+
+    @NotBlank(message = "Link type is required")
+    private String type; // blocks, is_blocked_by, relates_to, duplicates, is_duplicated_by
+
+    private String sourceIssueKey;
+    private String sourceIssueTitle;
+
+    @NotBlank(message = "Target issue key is required")
+    private String targetIssueKey;
+
+    private String targetIssueTitle;
+    private String targetIssueStatus;
+    private LocalDateTime createdAt;
+}
@@ -0,0 +1,28 @@
+package com.minipgmt.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.util.List;
+import java.util.UUID;
+
+/**
+ * Issue Tree Node DTO (one issue of an epic → story → subtask tree with its children)
+ */
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class IssueTreeNodeDto {
+    private UUID id;
+    private String key;
+    private String title;
+    private String type;
+    private String priority;
+    private String status;
+    private Integer storyPoints;
+    private UserSummaryDto assignee;
+    private List<IssueTreeNodeDto> children;
+}
@@ -0,0 +1,27 @@
+package com.minipgmt.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.time.LocalDateTime;
+import java.util.UUID;
+
+/**
+ * Notification DTO
+ */
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class NotificationDto {
+    private UUID id;
+    private String title;
+    private String message;
+    private String type;
+    private Boolean isRead;
+    private String entityType;
+    private UUID entityId;
+    private LocalDateTime createdAt;
+}
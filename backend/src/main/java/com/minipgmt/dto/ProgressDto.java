@@ -0,0 +1,21 @@
+package com.minipgmt.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+/**
+ * Progress DTO (rolled-up issue and story point totals of an epic or project)
+ */
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class ProgressDto {
+    private Long totalIssues;
+    private Long doneIssues;
+    private Long totalPoints;
+    private Long donePoints;
+    private Integer percent; // by story points, or by issue count when nothing is estimated
+}
@@ -23,7 +23,7 @@ public class ProjectDto {
     private String name;
     private String description;
     private String health;
-    private Integer progress;
+    private Integer progress; // percent done, from the project_progress rollup (read-only)
     private LocalDate dueDate;
     private UserSummaryDto createdBy;
     private List<UserSummaryDto> members;
@@ -0,0 +1,38 @@
+package com.minipgmt.dto;
+
+import jakarta.validation.constraints.DecimalMin;
+import jakarta.validation.constraints.NotBlank;
+import jakarta.validation.constraints.NotNull;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.math.BigDecimal;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.UUID;
+
+/**
+ * Time Log DTO
+ */
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class TimeLogDto {
+    private UUID id;
+
+    @NotBlank(message = "Issue key is required")
+    private String issueKey;
+
+    private UserSummaryDto user;
+
+    @NotNull(message = "Hours are required")
+    @DecimalMin(value = "0.01", message = "Hours must be positive")
+    private BigDecimal hours;
+
+    private String description;
+    private LocalDate loggedDate; // Defaults to today
+    private LocalDateTime createdAt;
+}
@@ -0,0 +1,44 @@
+package com.minipgmt.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.math.BigDecimal;
+import java.time.LocalDate;
+import java.util.List;
+
+/**
+ * Weekly timesheet DTO for a single user
+ */
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class TimesheetDto {
+    private LocalDate weekStart;
+    private LocalDate weekEnd;
+    private BigDecimal totalHours;
+    private List<EntryDto> entries;
+
+    @Data
+    @Builder
+    @NoArgsConstructor
+    @AllArgsConstructor
+    public static class EntryDto {
+        private LocalDate date;
+        private String issueKey;
+        private String issueTitle;
+        private BigDecimal hours;
+    }
+
+    @Data
+    @Builder
+    @NoArgsConstructor
+    @AllArgsConstructor
+    public static class WeekTotalDto {
+        private LocalDate weekStart;
+        private BigDecimal hours;
+    }
+}
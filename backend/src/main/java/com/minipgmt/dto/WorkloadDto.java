@@ -0,0 +1,20 @@
+package com.minipgmt.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+/**
+ * Workload DTO (open work of one project member)
+ */
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class WorkloadDto {
+    private UserSummaryDto member;
+    private Long openIssues;
+    private Long openPoints;
+    private Long overdueIssues;
+}
@@ -0,0 +1,24 @@
+package com.minipgmt.event;
+
+import lombok.Value;
+
+import java.time.LocalDateTime;
+import java.util.Map;
+import java.util.UUID;
+
+/**
+ * Domain Event
+ * Dispatched in-process by {@link OutboxRelay} after the originating transaction committed.
+ *
+ * Delivery is at-least-once: listeners must be idempotent. Listeners run inside the relay's
+ * batch transaction, so listeners that write to the database should use
+ * {@code Propagation.REQUIRES_NEW} to keep a failure from rolling back the whole batch.
+ */
+@Value
+public class DomainEvent {
+    Long id;
+    DomainEventType type;
+    UUID aggregateId;
+    Map<String, Object> payload;
+    LocalDateTime occurredAt;
+}
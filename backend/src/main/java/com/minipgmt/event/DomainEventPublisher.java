@@ -0,0 +1,42 @@
+package com.minipgmt.event;
+
+import com.minipgmt.domain.OutboxEvent;
+import com.minipgmt.repository.OutboxEventRepository;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.annotation.Propagation;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.util.Map;
+import java.util.UUID;
+
+/**
+ * Domain Event Publisher
+ * Records domain events in the outbox as part of the caller's transaction
+ */
+@Component
+@RequiredArgsConstructor
+@Slf4j
+public class DomainEventPublisher {
+
+    private final OutboxEventRepository outboxEventRepository;
+
+    /**
+     * Append an event to the outbox.
+     * Must be called inside the transaction performing the mutation, so the event
+     * commits or rolls back together with it.
+     */
+    @Transactional(propagation = Propagation.MANDATORY)
+    public void publish(DomainEventType type, UUID aggregateId, Map<String, Object> payload) {
+        OutboxEvent event = OutboxEvent.builder()
+                .aggregateType(type.getAggregateType())
+                .aggregateId(aggregateId)
+                .eventType(type.name())
+                .payload(payload)
+                .build();
+
+        outboxEventRepository.save(event);
+        log.debug("Outbox event recorded: {} {}", type, aggregateId);
+    }
+}
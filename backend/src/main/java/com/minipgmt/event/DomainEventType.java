@@ -0,0 +1,23 @@
+package com.minipgmt.event;
+
+/**
+ * Domain event types written to the outbox
+ */
+public enum DomainEventType {
+    ISSUE_CREATED("Issue"),
+    ISSUE_UPDATED("Issue"),
+    ISSUE_DELETED("Issue"),
+    PROJECT_CREATED("Project"),
+    PROJECT_UPDATED("Project"),
+    PROJECT_DELETED("Project");
+
+    private final String aggregateType;
+
+    DomainEventType(String aggregateType) {
+        this.aggregateType = aggregateType;
+    }
+
+    public String getAggregateType() {
+        return aggregateType;
+    }
+}
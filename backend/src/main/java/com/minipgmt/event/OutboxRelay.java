@@ -0,0 +1,111 @@
+package com.minipgmt.event;
+
+import com.minipgmt.domain.OutboxEvent;
+import com.minipgmt.repository.OutboxEventRepository;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.time.LocalDateTime;
+import java.util.List;
+
+/**
+ * Outbox Relay
+ * Polls the outbox and dispatches pending events to in-process listeners.
+ *
+ * Each batch is claimed with FOR UPDATE SKIP LOCKED and marked processed in the same
+ * transaction, so any number of nodes can drain the outbox concurrently without
+ * dispatching the same event twice under normal operation. A failed event is retried
+ * after retryDelaySeconds times its attempts so far, until maxAttempts.
+ */
+@Component
+@Slf4j
+public class OutboxRelay {
+
+    private final OutboxEventRepository outboxEventRepository;
+    private final ApplicationEventPublisher applicationEventPublisher;
+    private final TransactionTemplate transactionTemplate;
+
+    @Value("${app.outbox.batch-size:100}")
+    private int batchSize;
+
+    @Value("${app.outbox.max-attempts:10}")
+    private int maxAttempts;
+
+    @Value("${app.outbox.retry-delay-seconds:5}")
+    private long retryDelaySeconds;
+
+    @Value("${app.outbox.retention-days:7}")
+    private int retentionDays;
+
+    public OutboxRelay(
+            OutboxEventRepository outboxEventRepository,
+            ApplicationEventPublisher applicationEventPublisher,
+            PlatformTransactionManager transactionManager
+    ) {
+        this.outboxEventRepository = outboxEventRepository;
+        this.applicationEventPublisher = applicationEventPublisher;
+        this.transactionTemplate = new TransactionTemplate(transactionManager);
+    }
+
+    /**
+     * Drain pending events while full batches dispatch cleanly; a partial batch means the outbox
+     * is empty, and a failure leaves the rest to the next poll
+     */
+    @Scheduled(fixedDelayString = "${app.outbox.poll-interval-ms:500}")
+    public void poll() {
+        Integer dispatched;
+        do {
+            dispatched = transactionTemplate.execute(status -> dispatchBatch());
+        } while (dispatched != null && dispatched == batchSize);
+    }
+
+    /**
+     * Purge processed events past the retention window
+     */
+    @Scheduled(cron = "${app.outbox.purge-cron:0 0 3 * * *}")
+    public void purgeProcessed() {
+        Integer deleted = transactionTemplate.execute(status ->
+                outboxEventRepository.deleteProcessedBefore(LocalDateTime.now().minusDays(retentionDays)));
+        log.info("Purged {} processed outbox events", deleted);
+    }
+
+    /**
+     * Dispatch one claimed batch; returns the number of events dispatched without error
+     */
+    private int dispatchBatch() {
+        List<OutboxEvent> batch = outboxEventRepository.lockNextBatch(maxAttempts, batchSize);
+
+        int dispatched = 0;
+        for (OutboxEvent event : batch) {
+            try {
+                applicationEventPublisher.publishEvent(toDomainEvent(event));
+                event.setProcessedAt(LocalDateTime.now());
+                dispatched++;
+            } catch (Exception ex) {
+                outboxEventRepository.recordFailure(event.getId(), ex.getMessage(), retryDelaySeconds);
+                log.warn("Outbox event {} ({}) failed on attempt {}: {}",
+                        event.getId(), event.getEventType(), event.getAttempts() + 1, ex.getMessage());
+            }
+        }
+
+        if (!batch.isEmpty()) {
+            log.debug("Dispatched {} of {} outbox events", dispatched, batch.size());
+        }
+        return dispatched;
+    }
+
+    private DomainEvent toDomainEvent(OutboxEvent event) {
+        return new DomainEvent(
+                event.getId(),
+                DomainEventType.valueOf(event.getEventType()),
+                event.getAggregateId(),
+                event.getPayload(),
+                event.getCreatedAt()
+        );
+    }
+}
@@ -0,0 +1,14 @@
+package com.minipgmt.exception;
+
+/**
+ * Exception thrown when an issue link cannot be created:
+ * - Self links and duplicate links
+ * - Dependencies between issues of different projects
+ * - Dependencies that would close a cycle
+ */
+public class InvalidLinkException extends RuntimeException {
+
+    public InvalidLinkException(String message) {
+        super(message);
+    }
+}
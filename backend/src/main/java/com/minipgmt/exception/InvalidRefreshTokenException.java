@@ -0,0 +1,14 @@
+package com.minipgmt.exception;
+
+/**
+ * Exception thrown when a refresh token is rejected, so the client has to log in again:
+ * - Unknown, expired or revoked tokens
+ * - Tokens used a second time (the session is revoked)
+ * - Tokens of inactive users
+ */
+public class InvalidRefreshTokenException extends RuntimeException {
+
+    public InvalidRefreshTokenException(String message) {
+        super(message);
+    }
+}
@@ -0,0 +1,19 @@
+package com.minipgmt.exception;
+
+/**
+ * Exception thrown when a request is shed because a bounded resource
+ * (bulkhead, worker pool) is saturated. Mapped to 503 with a Retry-After hint.
+ */
+public class ServiceBusyException extends RuntimeException {
+
+    private final long retryAfterSeconds;
+
+    public ServiceBusyException(String message, long retryAfterSeconds) {
+        super(message);
+        this.retryAfterSeconds = retryAfterSeconds;
+    }
+
+    public long getRetryAfterSeconds() {
+        return retryAfterSeconds;
+    }
+}
@@ -0,0 +1,20 @@
+package com.minipgmt.exception;
+
+/**
+ * Exception thrown when an upload chunk does not start where the upload stands,
+ * or another chunk of the same upload is being written. Mapped to 409 with the
+ * offset the client should resume from.
+ */
+public class UploadConflictException extends RuntimeException {
+
+    private final long received;
+
+    public UploadConflictException(String message, long received) {
+        super(message);
+        this.received = received;
+    }
+
+    public long getReceived() {
+        return received;
+    }
+}
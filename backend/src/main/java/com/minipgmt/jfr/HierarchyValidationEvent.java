@@ -0,0 +1,19 @@
+package com.minipgmt.jfr;
+
+import jdk.jfr.Description;
+import jdk.jfr.Label;
+import jdk.jfr.Name;
+import lombok.Setter;
+
+/**
+ * IssueHierarchyValidator check; the row count is the number of issues loaded to decide it
+ */
+@Name("com.minipgmt.HierarchyValidation")
+@Label("Hierarchy Validation")
+@Description("IssueHierarchyValidator check with the number of issues it loaded")
+@Setter
+public class HierarchyValidationEvent extends OperationEvent {
+
+    @Label("Valid")
+    private boolean valid;
+}
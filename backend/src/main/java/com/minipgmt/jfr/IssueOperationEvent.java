@@ -0,0 +1,19 @@
+package com.minipgmt.jfr;
+
+import jdk.jfr.Description;
+import jdk.jfr.Label;
+import jdk.jfr.Name;
+import lombok.Setter;
+
+/**
+ * IssueService operation
+ */
+@Name("com.minipgmt.IssueOperation")
+@Label("Issue Operation")
+@Description("IssueService call with its project, issue and number of issues returned or written")
+@Setter
+public class IssueOperationEvent extends OperationEvent {
+
+    @Label("Issue Key")
+    private String issueKey;
+}
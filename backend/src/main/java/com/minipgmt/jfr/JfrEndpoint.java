@@ -0,0 +1,66 @@
+package com.minipgmt.jfr;
+
+import lombok.RequiredArgsConstructor;
+import org.springframework.boot.actuate.endpoint.annotation.DeleteOperation;
+import org.springframework.boot.actuate.endpoint.annotation.ReadOperation;
+import org.springframework.boot.actuate.endpoint.annotation.Selector;
+import org.springframework.boot.actuate.endpoint.annotation.WriteOperation;
+import org.springframework.boot.actuate.endpoint.web.WebEndpointResponse;
+import org.springframework.boot.actuate.endpoint.web.annotation.WebEndpoint;
+import org.springframework.core.io.FileSystemResource;
+import org.springframework.core.io.Resource;
+import org.springframework.lang.Nullable;
+import org.springframework.stereotype.Component;
+
+import java.io.IOException;
+import java.time.Duration;
+import java.util.Map;
+
+/**
+ * Actuator endpoint /actuator/jfr controlling the bounded JFR recording:
+ * GET = status, POST = start (durationSeconds, maxSizeMb, settings), DELETE = stop,
+ * GET /actuator/jfr/dump = download the recorded data as a .jfr file.
+ */
+@Component
+@WebEndpoint(id = "jfr")
+@RequiredArgsConstructor
+public class JfrEndpoint {
+
+    private final JfrRecordingManager recordingManager;
+
+    @ReadOperation
+    public Map<String, Object> status() {
+        return recordingManager.status();
+    }
+
+    @WriteOperation
+    public WebEndpointResponse<Map<String, Object>> start(
+            @Nullable Integer durationSeconds,
+            @Nullable Integer maxSizeMb,
+            @Nullable String settings
+    ) {
+        try {
+            Duration duration = durationSeconds != null ? Duration.ofSeconds(durationSeconds) : null;
+            return new WebEndpointResponse<>(recordingManager.start(duration, maxSizeMb, settings));
+        } catch (IllegalArgumentException ex) {
+            return new WebEndpointResponse<>(Map.of("error", ex.getMessage()), WebEndpointResponse.STATUS_BAD_REQUEST);
+        }
+    }
+
+    @DeleteOperation
+    public Map<String, Object> stop() {
+        return recordingManager.stop();
+    }
+
+    @ReadOperation(produces = "application/octet-stream")
+    public WebEndpointResponse<Resource> dump(@Selector String name) throws IOException {
+        if (!"dump".equals(name)) {
+            return new WebEndpointResponse<>(WebEndpointResponse.STATUS_NOT_FOUND);
+        }
+        try {
+            return new WebEndpointResponse<>(new FileSystemResource(recordingManager.dump()));
+        } catch (IllegalStateException ex) {
+            return new WebEndpointResponse<>(WebEndpointResponse.STATUS_NOT_FOUND);
+        }
+    }
+}
@@ -0,0 +1,134 @@
+package com.minipgmt.jfr;
+
+import com.minipgmt.config.JfrConfig.JfrProperties;
+import jakarta.annotation.PreDestroy;
+import jdk.jfr.Configuration;
+import jdk.jfr.Recording;
+import jdk.jfr.RecordingState;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.stereotype.Component;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.text.ParseException;
+import java.time.Duration;
+import java.time.Instant;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Owns the single application-managed JFR recording. Recordings are always bounded by size and age,
+ * optionally by duration, and can run continuously from startup (app.jfr.continuous).
+ */
+@Component
+@RequiredArgsConstructor
+@Slf4j
+public class JfrRecordingManager {
+
+    private static final String RECORDING_NAME = "minipgmt";
+
+    /**
+     * Events that copy the process environment, system properties and command line into the recording;
+     * they would put JWT_SECRET and the database password in every dump
+     */
+    private static final List<String> SECRET_EVENTS = List.of(
+            "jdk.InitialEnvironmentVariable",
+            "jdk.InitialSystemProperty",
+            "jdk.JVMInformation");
+
+    private final JfrProperties properties;
+    private Recording recording;
+    private Path lastDump;
+
+    @EventListener(ApplicationReadyEvent.class)
+    public void startContinuous() {
+        if (properties.isContinuous()) {
+            start(null, null, null);
+        }
+    }
+
+    /**
+     * Start a new recording, closing any previous one
+     * @param duration stop automatically after this long; null = run until stopped
+     * @param maxSizeMb disk size bound; null = app.jfr.max-size-mb
+     * @param settings JFR configuration name ("default" or "profile"); null = app.jfr.settings
+     */
+    public synchronized Map<String, Object> start(Duration duration, Integer maxSizeMb, String settings) {
+        String configurationName = settings != null ? settings : properties.getSettings();
+        Configuration configuration;
+        try {
+            configuration = Configuration.getConfiguration(configurationName);
+        } catch (IOException | ParseException ex) {
+            throw new IllegalArgumentException("Unknown JFR settings: " + configurationName);
+        }
+
+        close();
+        recording = new Recording(configuration);
+        recording.setName(RECORDING_NAME);
+        SECRET_EVENTS.forEach(recording::disable);
+        recording.setToDisk(true);
+        recording.setMaxAge(properties.getMaxAge());
+        recording.setMaxSize((maxSizeMb != null ? maxSizeMb : properties.getMaxSizeMb()) * 1024L * 1024L);
+        if (duration != null) {
+            recording.setDuration(duration);
+        }
+        recording.start();
+        log.info("JFR recording started (settings={}, duration={}, maxAge={}, maxSize={} bytes)",
+                configurationName, duration, recording.getMaxAge(), recording.getMaxSize());
+        return status();
+    }
+
+    public synchronized Map<String, Object> stop() {
+        if (recording != null && recording.getState() == RecordingState.RUNNING) {
+            recording.stop();
+            log.info("JFR recording stopped");
+        }
+        return status();
+    }
+
+    /**
+     * Write the recorded data to a file in app.jfr.dump-directory, replacing the previous dump
+     */
+    public synchronized Path dump() throws IOException {
+        if (recording == null || recording.getState() == RecordingState.CLOSED) {
+            throw new IllegalStateException("No JFR recording to dump");
+        }
+        Files.createDirectories(properties.getDumpDirectory());
+        Path file = properties.getDumpDirectory().resolve("minipgmt-" + Instant.now().toEpochMilli() + ".jfr");
+        recording.dump(file);
+        if (lastDump != null) {
+            Files.deleteIfExists(lastDump);
+        }
+        lastDump = file;
+        return file;
+    }
+
+    public synchronized Map<String, Object> status() {
+        Map<String, Object> status = new LinkedHashMap<>();
+        if (recording == null) {
+            status.put("state", "NONE");
+            return status;
+        }
+        status.put("state", recording.getState());
+        status.put("startTime", recording.getStartTime());
+        status.put("stopTime", recording.getStopTime());
+        status.put("duration", recording.getDuration());
+        status.put("maxAge", recording.getMaxAge());
+        status.put("maxSizeBytes", recording.getMaxSize());
+        status.put("sizeBytes", recording.getSize());
+        return status;
+    }
+
+    @PreDestroy
+    public synchronized void close() {
+        if (recording != null) {
+            recording.close();
+            recording = null;
+        }
+    }
+}
@@ -0,0 +1,30 @@
+package com.minipgmt.jfr;
+
+import jdk.jfr.Category;
+import jdk.jfr.Description;
+import jdk.jfr.Event;
+import jdk.jfr.Label;
+import jdk.jfr.Name;
+import jdk.jfr.StackTrace;
+import lombok.Setter;
+
+/**
+ * Token validation and user lookup done by JwtAuthenticationFilter for one request
+ */
+@Name("com.minipgmt.JwtAuthentication")
+@Label("JWT Authentication")
+@Description("JwtAuthenticationFilter token validation and user lookup")
+@Category("MiniPGMT")
+@StackTrace(false)
+@Setter
+public class JwtAuthenticationEvent extends Event {
+
+    @Label("Path")
+    private String path;
+
+    @Label("Token Present")
+    private boolean tokenPresent;
+
+    @Label("Authenticated")
+    private boolean authenticated;
+}
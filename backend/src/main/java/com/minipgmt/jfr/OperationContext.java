@@ -0,0 +1,62 @@
+package com.minipgmt.jfr;
+
+/**
+ * Details of the running service operation that only the method itself knows: its project key when
+ * that is not an argument, and its row count when that is not the size of its result.
+ * Opened per call by ServiceMetricsAspect while a JFR recording takes the operation events; the static
+ * setters do nothing otherwise, so business methods call them unconditionally.
+ */
+public final class OperationContext {
+
+    private static final ThreadLocal<OperationContext> CURRENT = new ThreadLocal<>();
+
+    private final OperationContext previous;
+    private String projectKey;
+    private Integer rowCount;
+
+    private OperationContext(OperationContext previous) {
+        this.previous = previous;
+    }
+
+    public static void projectKey(String projectKey) {
+        OperationContext context = CURRENT.get();
+        if (context != null) {
+            context.projectKey = projectKey;
+        }
+    }
+
+    public static void rowCount(int rowCount) {
+        OperationContext context = CURRENT.get();
+        if (context != null) {
+            context.rowCount = rowCount;
+        }
+    }
+
+    /**
+     * Start collecting for a call; nested calls get their own context
+     */
+    public static OperationContext open() {
+        OperationContext context = new OperationContext(CURRENT.get());
+        CURRENT.set(context);
+        return context;
+    }
+
+    /**
+     * Stop collecting for this call and resume the caller's context
+     */
+    public void close() {
+        if (previous != null) {
+            CURRENT.set(previous);
+        } else {
+            CURRENT.remove();
+        }
+    }
+
+    public String getProjectKey() {
+        return projectKey;
+    }
+
+    public Integer getRowCount() {
+        return rowCount;
+    }
+}
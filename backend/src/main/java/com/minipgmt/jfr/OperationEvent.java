@@ -0,0 +1,26 @@
+package com.minipgmt.jfr;
+
+import jdk.jfr.Category;
+import jdk.jfr.Event;
+import jdk.jfr.Label;
+import jdk.jfr.StackTrace;
+import lombok.Setter;
+
+/**
+ * Base of the MiniPGMT JFR events: the business operation, its project and the rows it touched.
+ * Committed by ServiceMetricsAspect around each call, so the duration is the call's.
+ */
+@Category("MiniPGMT")
+@StackTrace(false)
+@Setter
+public abstract class OperationEvent extends Event {
+
+    @Label("Operation")
+    protected String operation;
+
+    @Label("Project Key")
+    protected String projectKey;
+
+    @Label("Row Count")
+    protected int rowCount;
+}
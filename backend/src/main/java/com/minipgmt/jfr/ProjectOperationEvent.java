@@ -0,0 +1,14 @@
+package com.minipgmt.jfr;
+
+import jdk.jfr.Description;
+import jdk.jfr.Label;
+import jdk.jfr.Name;
+
+/**
+ * ProjectService operation
+ */
+@Name("com.minipgmt.ProjectOperation")
+@Label("Project Operation")
+@Description("ProjectService call with its project and number of rows returned or written")
+public class ProjectOperationEvent extends OperationEvent {
+}
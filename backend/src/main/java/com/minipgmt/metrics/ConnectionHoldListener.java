@@ -0,0 +1,43 @@
+package com.minipgmt.metrics;
+
+import net.ttddyy.dsproxy.listener.MethodExecutionContext;
+import net.ttddyy.dsproxy.listener.lifecycle.JdbcLifecycleEventListenerAdapter;
+
+import java.sql.Connection;
+
+/**
+ * datasource-proxy listener measuring how long JDBC connections are held by the current request and transaction
+ */
+public class ConnectionHoldListener extends JdbcLifecycleEventListenerAdapter {
+
+    @Override
+    public void afterGetConnection(MethodExecutionContext executionContext) {
+        if (executionContext.getThrown() != null) {
+            return;
+        }
+        SqlStatementStats requestStats = SqlStatementStats.current();
+        if (requestStats != null) {
+            requestStats.connectionAcquired();
+        }
+        TransactionTrace trace = TransactionTrace.current();
+        if (trace != null) {
+            trace.getStats().connectionAcquired();
+        }
+    }
+
+    @Override
+    public void afterClose(MethodExecutionContext executionContext) {
+        // close() is shared by connections, statements and result sets
+        if (!(executionContext.getTarget() instanceof Connection)) {
+            return;
+        }
+        SqlStatementStats requestStats = SqlStatementStats.current();
+        if (requestStats != null) {
+            requestStats.connectionReleased();
+        }
+        TransactionTrace trace = TransactionTrace.current();
+        if (trace != null) {
+            trace.getStats().connectionReleased();
+        }
+    }
+}
@@ -0,0 +1,93 @@
+package com.minipgmt.metrics;
+
+import com.minipgmt.config.DataSourceProxyConfig.SqlBudgetProperties;
+import com.minipgmt.web.EndpointClassifier;
+import io.micrometer.core.instrument.DistributionSummary;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import jakarta.servlet.FilterChain;
+import jakarta.servlet.ServletException;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.actuate.metrics.http.Outcome;
+import org.springframework.core.Ordered;
+import org.springframework.core.annotation.Order;
+import org.springframework.stereotype.Component;
+import org.springframework.web.filter.OncePerRequestFilter;
+
+import java.io.IOException;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Records SQL statements, SQL execution time, JDBC connection hold time and transaction time per API request,
+ * tagged by endpoint and outcome.
+ * With app.sql-budget.enabled, requests over their endpoint's statement budget are logged and counted.
+ */
+@Component
+@Order(Ordered.HIGHEST_PRECEDENCE + 10)
+@RequiredArgsConstructor
+@Slf4j
+public class RequestMetricsFilter extends OncePerRequestFilter {
+
+    private final MeterRegistry meterRegistry;
+    private final SqlBudgetProperties budgetProperties;
+
+    @Override
+    protected boolean shouldNotFilter(HttpServletRequest request) {
+        return !request.getRequestURI().startsWith(request.getContextPath() + "/api/");
+    }
+
+    @Override
+    protected void doFilterInternal(
+            HttpServletRequest request,
+            HttpServletResponse response,
+            FilterChain filterChain
+    ) throws ServletException, IOException {
+        SqlStatementStats stats = SqlStatementStats.begin();
+        try {
+            filterChain.doFilter(request, response);
+        } finally {
+            SqlStatementStats.end();
+            String endpoint = EndpointClassifier.endpoint(request);
+            String outcome = Outcome.forStatus(response.getStatus()).name();
+
+            DistributionSummary.builder("app.request.sql.statements")
+                    .description("SQL statements executed per request")
+                    .tags("endpoint", endpoint, "outcome", outcome)
+                    .publishPercentileHistogram()
+                    .register(meterRegistry)
+                    .record(stats.getStatements());
+            Timer.builder("app.request.sql.time")
+                    .description("Time spent executing SQL per request")
+                    .tags("endpoint", endpoint, "outcome", outcome)
+                    .publishPercentileHistogram()
+                    .register(meterRegistry)
+                    .record(stats.getExecutionNanos(), TimeUnit.NANOSECONDS);
+            Timer.builder("app.request.connection.hold")
+                    .description("Time a JDBC connection was held per request")
+                    .tags("endpoint", endpoint, "outcome", outcome)
+                    .publishPercentileHistogram()
+                    .register(meterRegistry)
+                    .record(stats.getConnectionHoldNanos(), TimeUnit.NANOSECONDS);
+            Timer.builder("app.request.transaction.time")
+                    .description("Time spent inside transactions per request")
+                    .tags("endpoint", endpoint, "outcome", outcome)
+                    .register(meterRegistry)
+                    .record(stats.getTransactionNanos(), TimeUnit.NANOSECONDS);
+
+            if (budgetProperties.isEnabled()) {
+                checkBudget(endpoint, stats.getStatements());
+            }
+        }
+    }
+
+    private void checkBudget(String endpoint, long statements) {
+        int budget = budgetProperties.budgetFor(endpoint);
+        if (budget > 0 && statements > budget) {
+            log.warn("{} executed {} SQL statements, budget is {}", endpoint, statements, budget);
+            meterRegistry.counter("app.request.sql.budget.exceeded", "endpoint", endpoint).increment();
+        }
+    }
+}
@@ -0,0 +1,126 @@
+package com.minipgmt.metrics;
+
+import com.minipgmt.dto.IssueDto;
+import com.minipgmt.jfr.HierarchyValidationEvent;
+import com.minipgmt.jfr.IssueOperationEvent;
+import com.minipgmt.jfr.OperationContext;
+import com.minipgmt.jfr.OperationEvent;
+import com.minipgmt.jfr.ProjectOperationEvent;
+import com.minipgmt.service.IssueHierarchyValidator;
+import com.minipgmt.service.ProjectService;
+import com.minipgmt.web.EndpointClassifier;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import lombok.RequiredArgsConstructor;
+import org.aspectj.lang.ProceedingJoinPoint;
+import org.aspectj.lang.annotation.Around;
+import org.aspectj.lang.annotation.Aspect;
+import org.aspectj.lang.reflect.MethodSignature;
+import org.springframework.stereotype.Component;
+
+import java.util.Collection;
+
+/**
+ * Times every public IssueService, ProjectService and AuthService method.
+ * Published as app.service.calls, a histogram tagged by service, method and outcome; the timer count
+ * doubles as the call/error counter. Calling endpoint and exception type go to plain counters
+ * (app.service.calls.by.endpoint, app.service.errors) so they do not multiply the histogram buckets.
+ *
+ * Also commits the com.minipgmt.* JFR operation events of IssueService, ProjectService and the
+ * database-backed IssueHierarchyValidator checks. Keys come from the arguments or a returned issue,
+ * the row count from the size of the result; methods add what only they know through {@link OperationContext}.
+ */
+@Aspect
+@Component
+@RequiredArgsConstructor
+public class ServiceMetricsAspect {
+
+    private final MeterRegistry meterRegistry;
+
+    @Around("execution(public * com.minipgmt.service.IssueService.*(..)) || "
+            + "execution(public * com.minipgmt.service.ProjectService.*(..)) || "
+            + "execution(public * com.minipgmt.service.AuthService.*(..))")
+    public Object time(ProceedingJoinPoint joinPoint) throws Throwable {
+        Timer.Sample sample = Timer.start(meterRegistry);
+        String exception = "none";
+        try {
+            return joinPoint.proceed();
+        } catch (Throwable ex) {
+            exception = ex.getClass().getSimpleName();
+            throw ex;
+        } finally {
+            String service = joinPoint.getSignature().getDeclaringType().getSimpleName();
+            String method = joinPoint.getSignature().getName();
+            sample.stop(Timer.builder("app.service.calls")
+                    .description("Service method calls")
+                    .tags("service", service,
+                            "method", method,
+                            "outcome", "none".equals(exception) ? "success" : "error")
+                    .publishPercentileHistogram()
+                    .register(meterRegistry));
+            meterRegistry.counter("app.service.calls.by.endpoint",
+                    "service", service, "method", method, "endpoint", EndpointClassifier.currentEndpoint()).increment();
+            if (!"none".equals(exception)) {
+                meterRegistry.counter("app.service.errors",
+                        "service", service, "method", method, "exception", exception).increment();
+            }
+        }
+    }
+
+    @Around("execution(public * com.minipgmt.service.IssueService.*(..)) || "
+            + "execution(public * com.minipgmt.service.ProjectService.*(..)) || "
+            + "execution(public * com.minipgmt.service.IssueHierarchyValidator.validateCircularReference(..)) || "
+            + "execution(public * com.minipgmt.service.IssueHierarchyValidator.validateHierarchyDepth(..))")
+    public Object recordOperation(ProceedingJoinPoint joinPoint) throws Throwable {
+        Class<?> service = joinPoint.getSignature().getDeclaringType();
+        OperationEvent event = service == ProjectService.class ? new ProjectOperationEvent()
+                : service == IssueHierarchyValidator.class ? new HierarchyValidationEvent()
+                : new IssueOperationEvent();
+        if (!event.isEnabled()) {
+            return joinPoint.proceed();
+        }
+
+        event.setOperation(joinPoint.getSignature().getName());
+        String[] names = ((MethodSignature) joinPoint.getSignature()).getParameterNames();
+        Object[] args = joinPoint.getArgs();
+        for (int i = 0; i < args.length; i++) {
+            if (!(args[i] instanceof String value)) {
+                continue;
+            }
+            // a project's key is "key" in ProjectService, an issue's key is "key" or "parentKey" in IssueService
+            if ("projectKey".equals(names[i]) || ("key".equals(names[i]) && event instanceof ProjectOperationEvent)) {
+                event.setProjectKey(value);
+            } else if (("key".equals(names[i]) || "parentKey".equals(names[i])) && event instanceof IssueOperationEvent issueEvent) {
+                issueEvent.setIssueKey(value);
+            }
+        }
+
+        OperationContext context = OperationContext.open();
+        event.begin();
+        Object result = null;
+        try {
+            result = joinPoint.proceed();
+            if (event instanceof HierarchyValidationEvent validation) {
+                validation.setValid(true);
+            } else if (event instanceof IssueOperationEvent issueEvent && result instanceof IssueDto issue) {
+                issueEvent.setIssueKey(issue.getKey());
+            }
+            return result;
+        } finally {
+            event.end();
+            context.close();
+            if (context.getProjectKey() != null) {
+                event.setProjectKey(context.getProjectKey());
+            }
+            event.setRowCount(context.getRowCount() != null ? context.getRowCount() : sizeOf(result));
+            event.commit();
+        }
+    }
+
+    private static int sizeOf(Object result) {
+        if (result == null) {
+            return 0;
+        }
+        return result instanceof Collection<?> collection ? collection.size() : 1;
+    }
+}
@@ -0,0 +1,86 @@
+package com.minipgmt.metrics;
+
+import lombok.Builder;
+import lombok.Value;
+
+import java.time.Instant;
+import java.util.ArrayDeque;
+import java.util.Comparator;
+import java.util.Deque;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Keeps the most recent slow transactions, bounded to a fixed number of samples
+ */
+public class SlowTransactionRecorder {
+
+    private final int capacity;
+    private final Deque<SlowTransaction> samples;
+
+    public SlowTransactionRecorder(int capacity) {
+        this.capacity = capacity;
+        this.samples = new ArrayDeque<>(capacity);
+    }
+
+    void record(TransactionTrace trace, long durationNanos) {
+        if (capacity <= 0) {
+            return;
+        }
+        SqlStatementStats stats = trace.getStats();
+        SlowTransaction sample = SlowTransaction.builder()
+                .endpoint(trace.getEndpoint())
+                .transaction(trace.getName())
+                .readOnly(trace.isReadOnly())
+                .rolledBack(trace.isRolledBack())
+                .startedAt(trace.getStartedAt())
+                .durationMs(toMillis(durationNanos))
+                .sqlMs(toMillis(stats.getExecutionNanos()))
+                .javaMs(toMillis(durationNanos - stats.getExecutionNanos()))
+                .connectionHoldMs(toMillis(stats.getConnectionHoldNanos()))
+                .statements(stats.getStatements())
+                .build();
+        synchronized (samples) {
+            if (samples.size() == capacity) {
+                samples.removeFirst();
+            }
+            samples.addLast(sample);
+        }
+    }
+
+    /**
+     * Samples, slowest first
+     */
+    public List<SlowTransaction> getSamples() {
+        synchronized (samples) {
+            return samples.stream()
+                    .sorted(Comparator.comparingDouble(SlowTransaction::getDurationMs).reversed())
+                    .toList();
+        }
+    }
+
+    public void clear() {
+        synchronized (samples) {
+            samples.clear();
+        }
+    }
+
+    private static double toMillis(long nanos) {
+        return Math.round(nanos / (double) TimeUnit.MILLISECONDS.toNanos(1) * 100) / 100.0;
+    }
+
+    @Value
+    @Builder
+    public static class SlowTransaction {
+        String endpoint;
+        String transaction;
+        boolean readOnly;
+        boolean rolledBack;
+        Instant startedAt;
+        double durationMs;
+        double sqlMs;
+        double javaMs;
+        double connectionHoldMs;
+        long statements;
+    }
+}
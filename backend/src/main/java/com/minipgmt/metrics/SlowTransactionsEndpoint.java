@@ -0,0 +1,32 @@
+package com.minipgmt.metrics;
+
+import lombok.RequiredArgsConstructor;
+import org.springframework.boot.actuate.endpoint.annotation.DeleteOperation;
+import org.springframework.boot.actuate.endpoint.annotation.Endpoint;
+import org.springframework.boot.actuate.endpoint.annotation.ReadOperation;
+import org.springframework.stereotype.Component;
+
+import java.util.List;
+
+/**
+ * Actuator endpoint /actuator/slowtransactions listing recent slow transactions with their endpoint,
+ * service method, SQL vs Java time and connection hold time. DELETE clears the samples.
+ * Admin only (SecurityConfig): the samples name endpoints and timings of every user's requests.
+ */
+@Component
+@Endpoint(id = "slowtransactions")
+@RequiredArgsConstructor
+public class SlowTransactionsEndpoint {
+
+    private final SlowTransactionRecorder recorder;
+
+    @ReadOperation
+    public List<SlowTransactionRecorder.SlowTransaction> slowTransactions() {
+        return recorder.getSamples();
+    }
+
+    @DeleteOperation
+    public void clear() {
+        recorder.clear();
+    }
+}
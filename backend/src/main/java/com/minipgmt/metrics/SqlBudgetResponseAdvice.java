@@ -0,0 +1,52 @@
+package com.minipgmt.metrics;
+
+import com.minipgmt.config.DataSourceProxyConfig.SqlBudgetProperties;
+import com.minipgmt.web.EndpointClassifier;
+import lombok.RequiredArgsConstructor;
+import org.springframework.core.MethodParameter;
+import org.springframework.http.MediaType;
+import org.springframework.http.converter.HttpMessageConverter;
+import org.springframework.http.server.ServerHttpRequest;
+import org.springframework.http.server.ServerHttpResponse;
+import org.springframework.http.server.ServletServerHttpRequest;
+import org.springframework.web.bind.annotation.ControllerAdvice;
+import org.springframework.web.servlet.mvc.method.annotation.ResponseBodyAdvice;
+
+/**
+ * Adds the request's SQL statement count and budget as response headers when budgets are enabled.
+ * Runs just before the body is written, when the handler has finished all its database work.
+ */
+@ControllerAdvice
+@RequiredArgsConstructor
+public class SqlBudgetResponseAdvice implements ResponseBodyAdvice<Object> {
+
+    public static final String STATEMENTS_HEADER = "X-SQL-Statements";
+    public static final String BUDGET_HEADER = "X-SQL-Budget";
+
+    private final SqlBudgetProperties budgetProperties;
+
+    @Override
+    public boolean supports(MethodParameter returnType, Class<? extends HttpMessageConverter<?>> converterType) {
+        return budgetProperties.isEnabled();
+    }
+
+    @Override
+    public Object beforeBodyWrite(
+            Object body,
+            MethodParameter returnType,
+            MediaType selectedContentType,
+            Class<? extends HttpMessageConverter<?>> selectedConverterType,
+            ServerHttpRequest request,
+            ServerHttpResponse response
+    ) {
+        SqlStatementStats stats = SqlStatementStats.current();
+        if (stats != null && request instanceof ServletServerHttpRequest servletRequest) {
+            response.getHeaders().set(STATEMENTS_HEADER, String.valueOf(stats.getStatements()));
+            int budget = budgetProperties.budgetFor(EndpointClassifier.endpoint(servletRequest.getServletRequest()));
+            if (budget > 0) {
+                response.getHeaders().set(BUDGET_HEADER, String.valueOf(budget));
+            }
+        }
+        return body;
+    }
+}
@@ -0,0 +1,77 @@
+package com.minipgmt.metrics;
+
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * SQL statement count, SQL execution time and JDBC connection hold time for one HTTP request
+ * or one transaction. The request instance is bound to the request thread by {@link RequestMetricsFilter};
+ * {@link StatementCountingListener} and {@link ConnectionHoldListener} record into it.
+ */
+public class SqlStatementStats {
+
+    private static final ThreadLocal<SqlStatementStats> CURRENT = new ThreadLocal<>();
+
+    private final AtomicLong statements = new AtomicLong();
+    private final AtomicLong executionNanos = new AtomicLong();
+    private final AtomicLong connectionHoldNanos = new AtomicLong();
+    private final AtomicLong transactionNanos = new AtomicLong();
+    private int openConnections;
+    private long connectionAcquiredAt;
+
+    static SqlStatementStats begin() {
+        SqlStatementStats stats = new SqlStatementStats();
+        CURRENT.set(stats);
+        return stats;
+    }
+
+    static void end() {
+        CURRENT.remove();
+    }
+
+    /**
+     * Stats of the current request, or null outside a request
+     */
+    public static SqlStatementStats current() {
+        return CURRENT.get();
+    }
+
+    void record(long nanos) {
+        statements.incrementAndGet();
+        executionNanos.addAndGet(nanos);
+    }
+
+    /**
+     * A connection was obtained; overlapping connections count as one hold interval
+     */
+    synchronized void connectionAcquired() {
+        if (openConnections++ == 0) {
+            connectionAcquiredAt = System.nanoTime();
+        }
+    }
+
+    synchronized void connectionReleased() {
+        if (openConnections > 0 && --openConnections == 0) {
+            connectionHoldNanos.addAndGet(System.nanoTime() - connectionAcquiredAt);
+        }
+    }
+
+    void addTransactionTime(long nanos) {
+        transactionNanos.addAndGet(nanos);
+    }
+
+    public long getStatements() {
+        return statements.get();
+    }
+
+    public long getExecutionNanos() {
+        return executionNanos.get();
+    }
+
+    public long getConnectionHoldNanos() {
+        return connectionHoldNanos.get();
+    }
+
+    public long getTransactionNanos() {
+        return transactionNanos.get();
+    }
+}
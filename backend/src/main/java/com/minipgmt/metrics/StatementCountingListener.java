@@ -0,0 +1,35 @@
+package com.minipgmt.metrics;
+
+import net.ttddyy.dsproxy.ExecutionInfo;
+import net.ttddyy.dsproxy.QueryInfo;
+import net.ttddyy.dsproxy.listener.QueryExecutionListener;
+
+import java.util.List;
+
+/**
+ * datasource-proxy listener counting JDBC executions per HTTP request and per transaction.
+ * A batch counts as one statement, since it is one round trip.
+ */
+public class StatementCountingListener implements QueryExecutionListener {
+
+    private static final String START_NANOS = "startNanos";
+
+    @Override
+    public void beforeQuery(ExecutionInfo execInfo, List<QueryInfo> queryInfoList) {
+        execInfo.addCustomValue(START_NANOS, System.nanoTime());
+    }
+
+    @Override
+    public void afterQuery(ExecutionInfo execInfo, List<QueryInfo> queryInfoList) {
+        long nanos = System.nanoTime() - execInfo.getCustomValue(START_NANOS, Long.class);
+
+        SqlStatementStats requestStats = SqlStatementStats.current();
+        if (requestStats != null) {
+            requestStats.record(nanos);
+        }
+        TransactionTrace trace = TransactionTrace.current();
+        if (trace != null) {
+            trace.getStats().record(nanos);
+        }
+    }
+}
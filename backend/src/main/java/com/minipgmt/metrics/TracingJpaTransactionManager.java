@@ -0,0 +1,114 @@
+package com.minipgmt.metrics;
+
+import com.minipgmt.web.EndpointClassifier;
+import io.micrometer.core.instrument.DistributionSummary;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import org.springframework.orm.jpa.JpaTransactionManager;
+import org.springframework.transaction.TransactionDefinition;
+import org.springframework.transaction.support.DefaultTransactionStatus;
+
+import java.time.Duration;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * JpaTransactionManager that traces every physical transaction: duration, SQL time, statements and
+ * connection hold time. Published as app.transaction.time, app.transaction.sql.time and
+ * app.transaction.sql.statements; transactions slower than the threshold are kept by the {@link SlowTransactionRecorder}.
+ */
+public class TracingJpaTransactionManager extends JpaTransactionManager {
+
+    private final MeterRegistry meterRegistry;
+    private final SlowTransactionRecorder slowTransactions;
+    private final long slowThresholdNanos;
+
+    public TracingJpaTransactionManager(MeterRegistry meterRegistry, SlowTransactionRecorder slowTransactions,
+                                        Duration slowThreshold) {
+        this.meterRegistry = meterRegistry;
+        this.slowTransactions = slowTransactions;
+        this.slowThresholdNanos = slowThreshold.toNanos();
+    }
+
+    @Override
+    protected void doBegin(Object transaction, TransactionDefinition definition) {
+        // pushed before super.doBegin so the connection acquired there is counted
+        TransactionTrace.push(new TransactionTrace(shortName(definition.getName()), definition.isReadOnly(),
+                EndpointClassifier.currentEndpoint()));
+        try {
+            super.doBegin(transaction, definition);
+        } catch (RuntimeException | Error ex) {
+            TransactionTrace.pop();
+            throw ex;
+        }
+    }
+
+    @Override
+    protected void doRollback(DefaultTransactionStatus status) {
+        TransactionTrace trace = TransactionTrace.current();
+        if (trace != null) {
+            trace.markRolledBack();
+        }
+        super.doRollback(status);
+    }
+
+    @Override
+    protected void doCleanupAfterCompletion(Object transaction) {
+        try {
+            super.doCleanupAfterCompletion(transaction);
+        } finally {
+            TransactionTrace trace = TransactionTrace.pop();
+            if (trace != null) {
+                publish(trace, trace.elapsedNanos());
+            }
+        }
+    }
+
+    private void publish(TransactionTrace trace, long durationNanos) {
+        SqlStatementStats stats = trace.getStats();
+        String[] tags = {
+                "transaction", trace.getName(),
+                "read-only", String.valueOf(trace.isReadOnly()),
+                "endpoint", trace.getEndpoint(),
+                "outcome", trace.isRolledBack() ? "rolled_back" : "committed"
+        };
+
+        Timer.builder("app.transaction.time")
+                .description("Transaction duration")
+                .tags(tags)
+                .publishPercentileHistogram()
+                .register(meterRegistry)
+                .record(durationNanos, TimeUnit.NANOSECONDS);
+        Timer.builder("app.transaction.sql.time")
+                .description("Time spent executing SQL per transaction")
+                .tags(tags)
+                .register(meterRegistry)
+                .record(stats.getExecutionNanos(), TimeUnit.NANOSECONDS);
+        DistributionSummary.builder("app.transaction.sql.statements")
+                .description("SQL statements executed per transaction")
+                .tags(tags)
+                .register(meterRegistry)
+                .record(stats.getStatements());
+
+        // only the outermost transaction counts towards the request, so REQUIRES_NEW time is not added twice
+        SqlStatementStats requestStats = SqlStatementStats.current();
+        if (requestStats != null && TransactionTrace.current() == null) {
+            requestStats.addTransactionTime(durationNanos);
+        }
+
+        if (slowThresholdNanos > 0 && durationNanos >= slowThresholdNanos) {
+            slowTransactions.record(trace, durationNanos);
+        }
+    }
+
+    /**
+     * "com.minipgmt.service.IssueService.getIssue" -> "IssueService.getIssue"
+     */
+    private static String shortName(String name) {
+        if (name == null) {
+            return "unnamed";
+        }
+        int method = name.lastIndexOf('.');
+        int type = method > 0 ? name.lastIndexOf('.', method - 1) : -1;
+        return name.substring(type + 1);
+    }
+}
@@ -0,0 +1,59 @@
+package com.minipgmt.metrics;
+
+import lombok.Getter;
+
+import java.time.Instant;
+import java.util.ArrayDeque;
+import java.util.Deque;
+
+/**
+ * Timing of one running transaction. Traces form a per-thread stack so a REQUIRES_NEW
+ * transaction is measured separately from the one it suspends.
+ */
+@Getter
+public class TransactionTrace {
+
+    private static final ThreadLocal<Deque<TransactionTrace>> STACK = ThreadLocal.withInitial(ArrayDeque::new);
+
+    private final String name;
+    private final boolean readOnly;
+    private final String endpoint;
+    private final Instant startedAt = Instant.now();
+    private final long startNanos = System.nanoTime();
+    private final SqlStatementStats stats = new SqlStatementStats();
+    private boolean rolledBack;
+
+    TransactionTrace(String name, boolean readOnly, String endpoint) {
+        this.name = name;
+        this.readOnly = readOnly;
+        this.endpoint = endpoint;
+    }
+
+    static void push(TransactionTrace trace) {
+        STACK.get().push(trace);
+    }
+
+    static TransactionTrace pop() {
+        Deque<TransactionTrace> stack = STACK.get();
+        TransactionTrace trace = stack.poll();
+        if (stack.isEmpty()) {
+            STACK.remove();
+        }
+        return trace;
+    }
+
+    /**
+     * Innermost transaction on this thread, or null
+     */
+    public static TransactionTrace current() {
+        return STACK.get().peek();
+    }
+
+    void markRolledBack() {
+        rolledBack = true;
+    }
+
+    long elapsedNanos() {
+        return System.nanoTime() - startNanos;
+    }
+}
@@ -0,0 +1,57 @@
+package com.minipgmt.repository;
+
+import com.minipgmt.domain.Attachment;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.stereotype.Repository;
+
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.Optional;
+import java.util.UUID;
+
+/**
+ * Repository for Attachment entity and the attachment_blobs it references
+ */
+@Repository
+public interface AttachmentRepository extends JpaRepository<Attachment, UUID> {
+
+    /**
+     * Find attachments of an issue with their uploader, most recent first
+     */
+    @Query("SELECT a FROM Attachment a JOIN FETCH a.user WHERE a.issue.id = :issueId ORDER BY a.createdAt DESC")
+    List<Attachment> findByIssueIdWithUser(@Param("issueId") UUID issueId);
+
+    /**
+     * Find an attachment with its issue, for permission checks on delete
+     */
+    @Query("SELECT a FROM Attachment a JOIN FETCH a.issue WHERE a.id = :id")
+    Optional<Attachment> findWithIssueById(@Param("id") UUID id);
+
+    /**
+     * Register a blob, or mark an existing one as used. Either way the blob row stays locked until the
+     * transaction ends, so the orphan collector cannot remove the blob while an attachment to it is created.
+     */
+    @Modifying
+    @Query(value = "INSERT INTO attachment_blobs (sha256, size) VALUES (:sha256, :size) " +
+                   "ON CONFLICT (sha256) DO UPDATE SET last_used_at = CURRENT_TIMESTAMP",
+           nativeQuery = true)
+    int upsertBlob(@Param("sha256") String sha256, @Param("size") long size);
+
+    /**
+     * Lock up to :limit blobs no attachment references and that were last used before :cutoff.
+     * Blobs locked by an upload in progress are skipped.
+     */
+    @Query(value = "SELECT b.sha256 FROM attachment_blobs b " +
+                   "WHERE b.last_used_at < :cutoff " +
+                   "AND NOT EXISTS (SELECT 1 FROM attachments a WHERE a.sha256 = b.sha256) " +
+                   "LIMIT :limit FOR UPDATE SKIP LOCKED",
+           nativeQuery = true)
+    List<String> lockOrphanedBlobs(@Param("cutoff") LocalDateTime cutoff, @Param("limit") int limit);
+
+    @Modifying
+    @Query(value = "DELETE FROM attachment_blobs WHERE sha256 IN (:sha256s)", nativeQuery = true)
+    int deleteBlobs(@Param("sha256s") List<String> sha256s);
+}
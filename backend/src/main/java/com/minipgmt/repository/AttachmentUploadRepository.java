@@ -0,0 +1,41 @@
+package com.minipgmt.repository;
+
+import com.minipgmt.domain.AttachmentUpload;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.stereotype.Repository;
+
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.Optional;
+import java.util.UUID;
+
+/**
+ * Repository for AttachmentUpload entity
+ */
+@Repository
+public interface AttachmentUploadRepository extends JpaRepository<AttachmentUpload, UUID> {
+
+    /**
+     * Find an upload with its issue and uploader, for finishing it
+     */
+    @Query("SELECT u FROM AttachmentUpload u JOIN FETCH u.issue JOIN FETCH u.user WHERE u.id = :id")
+    Optional<AttachmentUpload> findWithIssueAndUserById(@Param("id") UUID id);
+
+    /**
+     * Record a chunk [start, end) as received, unless another chunk got there first
+     */
+    @Modifying
+    @Query(value = "UPDATE attachment_uploads SET received = :end, updated_at = CURRENT_TIMESTAMP " +
+                   "WHERE id = :id AND received = :start",
+           nativeQuery = true)
+    int advanceReceived(@Param("id") UUID id, @Param("start") long start, @Param("end") long end);
+
+    /**
+     * Ids of uploads that received nothing since :cutoff
+     */
+    @Query("SELECT u.id FROM AttachmentUpload u WHERE u.updatedAt < :cutoff")
+    List<UUID> findIdsNotUpdatedSince(@Param("cutoff") LocalDateTime cutoff);
+}
@@ -0,0 +1,42 @@
+package com.minipgmt.repository;
+
+import com.minipgmt.domain.AuthSession;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.stereotype.Repository;
+
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.UUID;
+
+/**
+ * Repository for AuthSession entity
+ */
+@Repository
+public interface AuthSessionRepository extends JpaRepository<AuthSession, UUID> {
+
+    /**
+     * Revoke a session unless it already is
+     */
+    @Modifying
+    @Query("UPDATE AuthSession s SET s.revokedAt = :now WHERE s.id = :id AND s.revokedAt IS NULL")
+    int revoke(@Param("id") UUID id, @Param("now") LocalDateTime now);
+
+    /**
+     * Ids of sessions revoked after :since
+     */
+    @Query("SELECT s.id FROM AuthSession s WHERE s.revokedAt > :since")
+    List<UUID> findIdsRevokedSince(@Param("since") LocalDateTime since);
+
+    /**
+     * Delete up to :limit sessions, with their tokens, that expired or were revoked before :revokedBefore
+     */
+    @Modifying
+    @Query(value = "DELETE FROM auth_sessions WHERE id IN (" +
+                   "SELECT id FROM auth_sessions WHERE expires_at < :now OR revoked_at < :revokedBefore LIMIT :limit)",
+           nativeQuery = true)
+    int deleteFinished(@Param("now") LocalDateTime now, @Param("revokedBefore") LocalDateTime revokedBefore,
+                       @Param("limit") int limit);
+}
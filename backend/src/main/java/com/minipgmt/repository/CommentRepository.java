@@ -0,0 +1,48 @@
+package com.minipgmt.repository;
+
+import com.minipgmt.domain.Comment;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.stereotype.Repository;
+
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.Optional;
+import java.util.UUID;
+
+/**
+ * Repository for Comment entity
+ */
+@Repository
+public interface CommentRepository extends JpaRepository<Comment, UUID> {
+
+    /**
+     * First page of an issue's comments with their authors, oldest first (uses idx_comments_issue_created)
+     */
+    @Query("SELECT c FROM Comment c JOIN FETCH c.user " +
+           "WHERE c.issue.id = :issueId " +
+           "ORDER BY c.createdAt, c.id")
+    List<Comment> findFirstPage(@Param("issueId") UUID issueId, Pageable pageable);
+
+    /**
+     * Next page of an issue's comments after the (createdAt, id) keyset cursor
+     */
+    @Query("SELECT c FROM Comment c JOIN FETCH c.user " +
+           "WHERE c.issue.id = :issueId " +
+           "AND (c.createdAt > :createdAt OR (c.createdAt = :createdAt AND c.id > :id)) " +
+           "ORDER BY c.createdAt, c.id")
+    List<Comment> findPageAfter(
+            @Param("issueId") UUID issueId,
+            @Param("createdAt") LocalDateTime createdAt,
+            @Param("id") UUID id,
+            Pageable pageable
+    );
+
+    /**
+     * Find a comment with its issue, for edits and deletes
+     */
+    @Query("SELECT c FROM Comment c JOIN FETCH c.issue WHERE c.id = :id")
+    Optional<Comment> findWithIssueById(@Param("id") UUID id);
+}
@@ -1,11 +1,20 @@
 package com.minipgmt.repository;
 
 import com.minipgmt.domain.Issue;
+import com.minipgmt.domain.Project;
+import jakarta.persistence.QueryHint;
+import org.hibernate.jpa.HibernateHints;
+import org.springframework.data.domain.Pageable;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
 import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.jpa.repository.QueryHints;
 import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
+import java.math.BigDecimal;
+import java.time.LocalDate;
+import java.util.Collection;
 import java.util.List;
 import java.util.Optional;
 import java.util.UUID;
@@ -31,6 +40,29 @@ public interface IssueRepository extends JpaRepository<Issue, UUID> {
      */
     List<Issue> findByProjectId(UUID projectId);
 
+    /**
+     * Find issues by project with the associations the board renders fetched in the same query
+     */
+    @Query("SELECT i FROM Issue i " +
+           "JOIN FETCH i.project " +
+           "JOIN FETCH i.reporter " +
+           "LEFT JOIN FETCH i.assignee " +
+           "LEFT JOIN FETCH i.parentIssue " +
+           "WHERE i.project.id = :projectId " +
+           "ORDER BY i.status, i.boardRank, i.createdAt, i.id")
+    List<Issue> findByProjectIdWithDetails(@Param("projectId") UUID projectId);
+
+    /**
+     * Find the children of every issue in a project (children may live in another project)
+     */
+    @Query("SELECT i FROM Issue i " +
+           "JOIN FETCH i.project " +
+           "JOIN FETCH i.reporter " +
+           "LEFT JOIN FETCH i.assignee " +
+           "JOIN FETCH i.parentIssue p " +
+           "WHERE p.project.id = :projectId")
+    List<Issue> findChildrenByParentProjectId(@Param("projectId") UUID projectId);
+
     /**
      * Find issues by project and status
      */
@@ -70,4 +102,566 @@ public interface IssueRepository extends JpaRepository<Issue, UUID> {
             @Param("assigneeId") UUID assigneeId,
             @Param("type") Issue.IssueType type
     );
+
+    /**
+     * Atomically add (or subtract, with a negative value) hours to an issue's logged total
+     */
+    @Modifying
+    @Query(value = "UPDATE issues SET logged_hours = COALESCE(logged_hours, 0) + :hours WHERE id = :issueId",
+           nativeQuery = true)
+    int addLoggedHours(@Param("issueId") UUID issueId, @Param("hours") BigDecimal hours);
+
+    /**
+     * Add delta to an issue's comment count and give the issue change number changeSeq
+     */
+    @Modifying
+    @Query(value = "UPDATE issues SET comment_count = comment_count + :delta, change_seq = :changeSeq WHERE id = :issueId",
+           nativeQuery = true)
+    int addCommentCount(@Param("issueId") UUID issueId, @Param("delta") int delta, @Param("changeSeq") long changeSeq);
+
+    /**
+     * Add delta to an issue's attachment count and give the issue change number changeSeq
+     */
+    @Modifying
+    @Query(value = "UPDATE issues SET attachment_count = attachment_count + :delta, change_seq = :changeSeq WHERE id = :issueId",
+           nativeQuery = true)
+    int addAttachmentCount(@Param("issueId") UUID issueId, @Param("delta") int delta, @Param("changeSeq") long changeSeq);
+
+    /**
+     * Issue counts per status for every project the user is a member of.
+     * Projects without issues yield a single row with a null status and zero count.
+     */
+    @Query("SELECT p.key AS projectKey, p.name AS projectName, p.health AS health, " +
+           "i.status AS status, COUNT(i) AS count " +
+           "FROM Project p JOIN p.members m LEFT JOIN Issue i ON i.project = p " +
+           "WHERE m.id = :userId " +
+           "GROUP BY p.key, p.name, p.health, i.status")
+    List<ProjectStatusCount> countByStatusForMember(@Param("userId") UUID userId);
+
+    /**
+     * Open issues and story points per assignee across the user's projects
+     */
+    @Query("SELECT a.id AS assigneeId, a.name AS assigneeName, a.avatarUrl AS avatarUrl, " +
+           "COUNT(i) AS openIssues, COALESCE(SUM(i.storyPoints), 0) AS openPoints " +
+           "FROM Issue i JOIN i.assignee a " +
+           "WHERE i.project.id IN (SELECT mp.id FROM Project mp JOIN mp.members m WHERE m.id = :userId) " +
+           "AND LOWER(i.status) <> 'done' " +
+           "GROUP BY a.id, a.name, a.avatarUrl " +
+           "ORDER BY COALESCE(SUM(i.storyPoints), 0) DESC")
+    List<AssigneeLoad> sumOpenPointsByAssigneeForMember(@Param("userId") UUID userId);
+
+    /**
+     * Open issues with the given priorities due on or before a date, across the user's projects
+     */
+    @Query("SELECT i.key AS key, i.title AS title, i.priority AS priority, i.status AS status, " +
+           "i.dueDate AS dueDate, p.key AS projectKey, a.name AS assigneeName " +
+           "FROM Issue i JOIN i.project p LEFT JOIN i.assignee a " +
+           "WHERE p.id IN (SELECT mp.id FROM Project mp JOIN mp.members m WHERE m.id = :userId) " +
+           "AND i.priority IN :priorities " +
+           "AND LOWER(i.status) <> 'done' " +
+           "AND i.dueDate <= :dueBefore " +
+           "ORDER BY i.dueDate, i.priority DESC")
+    List<CriticalIssue> findCriticalDueForMember(
+            @Param("userId") UUID userId,
+            @Param("priorities") Collection<Issue.IssuePriority> priorities,
+            @Param("dueBefore") LocalDate dueBefore,
+            Pageable pageable
+    );
+
+    /**
+     * Open issues, open story points and overdue issues per project member,
+     * aggregated in one GROUP BY assignee_id (index-only via idx_issues_project_assignee_workload)
+     */
+    @Query(value = "SELECT u.id AS userId, u.name AS name, u.email AS email, u.avatar_url AS avatarUrl, " +
+                   "u.role AS role, COALESCE(w.open_issues, 0) AS openIssues, " +
+                   "COALESCE(w.open_points, 0) AS openPoints, COALESCE(w.overdue_issues, 0) AS overdueIssues " +
+                   "FROM project_members pm " +
+                   "JOIN users u ON u.id = pm.user_id " +
+                   "LEFT JOIN ( " +
+                   "    SELECT assignee_id, COUNT(*) AS open_issues, " +
+                   "           COALESCE(SUM(story_points), 0) AS open_points, " +
+                   "           COUNT(*) FILTER (WHERE due_date < CURRENT_DATE) AS overdue_issues " +
+                   "    FROM issues " +
+                   "    WHERE project_id = :projectId AND assignee_id IS NOT NULL AND LOWER(status) <> 'done' " +
+                   "    GROUP BY assignee_id " +
+                   ") w ON w.assignee_id = pm.user_id " +
+                   "WHERE pm.project_id = :projectId " +
+                   "ORDER BY openPoints DESC, u.name",
+           nativeQuery = true)
+    List<MemberWorkload> findWorkloadByProjectId(@Param("projectId") UUID projectId);
+
+    /**
+     * An issue and all of its descendants in one recursive query, projected to tree columns
+     */
+    @Query(value = "WITH RECURSIVE tree AS ( " +
+                   "    SELECT " + TREE_COLUMNS + ", 0 AS depth FROM issues i WHERE i.key = :key " +
+                   "    UNION ALL " + TREE_CHILDREN +
+                   ") " + TREE_SELECT,
+           nativeQuery = true)
+    List<IssueTreeRow> findTreeByRootKey(@Param("key") String key);
+
+    /**
+     * Every top-level issue of a project and all of their descendants in one recursive query
+     */
+    @Query(value = "WITH RECURSIVE tree AS ( " +
+                   "    SELECT " + TREE_COLUMNS + ", 0 AS depth FROM issues i " +
+                   "    JOIN projects p ON p.id = i.project_id " +
+                   "    WHERE p.key = :projectKey AND i.parent_issue_id IS NULL " +
+                   "    UNION ALL " + TREE_CHILDREN +
+                   ") " + TREE_SELECT,
+           nativeQuery = true)
+    List<IssueTreeRow> findHierarchyByProjectKey(@Param("projectKey") String projectKey);
+
+    String TREE_COLUMNS = "i.id, i.key, i.title, i.type, i.priority, i.status, i.story_points, " +
+                          "i.parent_issue_id, i.assignee_id, i.created_at";
+
+    // Children are looked up per parent through idx_issues_parent_issue_id. The planner badly overestimates the
+    // recursive work table and would otherwise hash-join a full scan of issues on every level; OFFSET 0 keeps
+    // the LATERAL subquery from being flattened into that join.
+    String TREE_CHILDREN = "    SELECT " + TREE_COLUMNS + ", t.depth + 1 FROM tree t " +
+                           "    CROSS JOIN LATERAL (SELECT * FROM issues c WHERE c.parent_issue_id = t.id OFFSET 0) i " +
+                           "    WHERE t.depth < 10 "; // guards against cycles in bad data
+
+    String TREE_SELECT = "SELECT t.id AS id, t.key AS key, t.title AS title, t.type AS type, " +
+                         "t.priority AS priority, t.status AS status, t.story_points AS storyPoints, " +
+                         "t.parent_issue_id AS parentIssueId, u.id AS assigneeId, u.name AS assigneeName, " +
+                         "u.avatar_url AS assigneeAvatarUrl " +
+                         "FROM tree t " +
+                         "LEFT JOIN users u ON u.id = t.assignee_id " +
+                         "ORDER BY t.created_at, t.id";
+
+    /**
+     * Add deltas to a project's progress rollup, creating the row on first use
+     */
+    @Modifying
+    @Query(value = "INSERT INTO project_progress (project_id, total_issues, done_issues, total_points, done_points) " +
+                   "VALUES (:projectId, :issues, :doneIssues, :points, :donePoints) " +
+                   "ON CONFLICT (project_id) DO UPDATE SET " +
+                   "total_issues = project_progress.total_issues + :issues, " +
+                   "done_issues = project_progress.done_issues + :doneIssues, " +
+                   "total_points = project_progress.total_points + :points, " +
+                   "done_points = project_progress.done_points + :donePoints",
+           nativeQuery = true)
+    int addProjectProgress(
+            @Param("projectId") UUID projectId,
+            @Param("issues") long issues,
+            @Param("doneIssues") long doneIssues,
+            @Param("points") long points,
+            @Param("donePoints") long donePoints
+    );
+
+    /**
+     * Add deltas to an epic's progress rollup, creating the row on first use
+     */
+    @Modifying
+    @Query(value = "INSERT INTO epic_progress (epic_id, total_issues, done_issues, total_points, done_points) " +
+                   "VALUES (:epicId, :issues, :doneIssues, :points, :donePoints) " +
+                   "ON CONFLICT (epic_id) DO UPDATE SET " +
+                   "total_issues = epic_progress.total_issues + :issues, " +
+                   "done_issues = epic_progress.done_issues + :doneIssues, " +
+                   "total_points = epic_progress.total_points + :points, " +
+                   "done_points = epic_progress.done_points + :donePoints",
+           nativeQuery = true)
+    int addEpicProgress(
+            @Param("epicId") UUID epicId,
+            @Param("issues") long issues,
+            @Param("doneIssues") long doneIssues,
+            @Param("points") long points,
+            @Param("donePoints") long donePoints
+    );
+
+    @Query(value = "SELECT project_id AS id, total_issues AS totalIssues, done_issues AS doneIssues, " +
+                   "total_points AS totalPoints, done_points AS donePoints " +
+                   "FROM project_progress WHERE project_id IN (:projectIds)",
+           nativeQuery = true)
+    List<ProgressRollup> findProjectProgress(@Param("projectIds") Collection<UUID> projectIds);
+
+    @Query(value = "SELECT epic_id AS id, total_issues AS totalIssues, done_issues AS doneIssues, " +
+                   "total_points AS totalPoints, done_points AS donePoints " +
+                   "FROM epic_progress WHERE epic_id = :epicId",
+           nativeQuery = true)
+    Optional<ProgressRollup> findEpicProgress(@Param("epicId") UUID epicId);
+
+    /**
+     * Progress of every epic of a project (for the board)
+     */
+    @Query(value = "SELECT ep.epic_id AS id, ep.total_issues AS totalIssues, ep.done_issues AS doneIssues, " +
+                   "ep.total_points AS totalPoints, ep.done_points AS donePoints " +
+                   "FROM epic_progress ep JOIN issues e ON e.id = ep.epic_id " +
+                   "WHERE e.project_id = :projectId",
+           nativeQuery = true)
+    List<ProgressRollup> findEpicProgressByProjectId(@Param("projectId") UUID projectId);
+
+    /**
+     * Totals of an issue and all of its descendants, which are removed with it by ON DELETE CASCADE
+     */
+    @Query(value = "WITH RECURSIVE subtree AS ( " +
+                   "    SELECT id, status, story_points, 0 AS depth FROM issues WHERE id = :issueId " +
+                   "    UNION ALL " +
+                   "    SELECT c.id, c.status, c.story_points, s.depth + 1 FROM issues c " +
+                   "    JOIN subtree s ON c.parent_issue_id = s.id " +
+                   "    WHERE s.depth < 10 " +
+                   ") " +
+                   "SELECT CAST(:issueId AS uuid) AS id, COUNT(*) AS totalIssues, " +
+                   "COUNT(*) FILTER (WHERE UPPER(status) = 'DONE') AS doneIssues, " +
+                   "COALESCE(SUM(story_points), 0) AS totalPoints, " +
+                   "COALESCE(SUM(story_points) FILTER (WHERE UPPER(status) = 'DONE'), 0) AS donePoints " +
+                   "FROM subtree",
+           nativeQuery = true)
+    ProgressRollup sumSubtreeProgress(@Param("issueId") UUID issueId);
+
+    @Modifying
+    @Query(value = "DELETE FROM project_progress", nativeQuery = true)
+    int deleteAllProjectProgress();
+
+    /**
+     * Recompute every project rollup from the issues table (after bulk loads that bypass IssueService)
+     */
+    @Modifying
+    @Query(value = "INSERT INTO project_progress (project_id, total_issues, done_issues, total_points, done_points) " +
+                   "SELECT project_id, COUNT(*), COUNT(*) FILTER (WHERE UPPER(status) = 'DONE'), " +
+                   "COALESCE(SUM(story_points), 0), COALESCE(SUM(story_points) FILTER (WHERE UPPER(status) = 'DONE'), 0) " +
+                   "FROM issues GROUP BY project_id",
+           nativeQuery = true)
+    int insertProjectProgressFromIssues();
+
+    @Modifying
+    @Query(value = "DELETE FROM epic_progress", nativeQuery = true)
+    int deleteAllEpicProgress();
+
+    /**
+     * Recompute every epic rollup from the issues table (after bulk loads that bypass IssueService)
+     */
+    @Modifying
+    @Query(value = "INSERT INTO epic_progress (epic_id, total_issues, done_issues, total_points, done_points) " +
+                   "SELECT c.parent_issue_id, COUNT(*), COUNT(*) FILTER (WHERE UPPER(c.status) = 'DONE'), " +
+                   "COALESCE(SUM(c.story_points), 0), COALESCE(SUM(c.story_points) FILTER (WHERE UPPER(c.status) = 'DONE'), 0) " +
+                   "FROM issues c JOIN issues e ON e.id = c.parent_issue_id " +
+                   "WHERE e.type = 'EPIC' GROUP BY c.parent_issue_id",
+           nativeQuery = true)
+    int insertEpicProgressFromIssues();
+
+    @Modifying
+    @Query(value = "DELETE FROM epic_progress WHERE epic_id = :epicId", nativeQuery = true)
+    int deleteEpicProgress(@Param("epicId") UUID epicId);
+
+    /**
+     * Recompute one epic's rollup from its direct children (an issue that just became an epic)
+     */
+    @Modifying
+    @Query(value = "INSERT INTO epic_progress (epic_id, total_issues, done_issues, total_points, done_points) " +
+                   "SELECT parent_issue_id, COUNT(*), COUNT(*) FILTER (WHERE UPPER(status) = 'DONE'), " +
+                   "COALESCE(SUM(story_points), 0), COALESCE(SUM(story_points) FILTER (WHERE UPPER(status) = 'DONE'), 0) " +
+                   "FROM issues WHERE parent_issue_id = :epicId GROUP BY parent_issue_id",
+           nativeQuery = true)
+    int insertEpicProgressFromChildren(@Param("epicId") UUID epicId);
+
+    /**
+     * Advisory lock key of a board column
+     */
+    String BOARD_COLUMN_LOCK = "hashtextextended('board:' || CAST(:projectId AS text) || ':' || :status, 0)";
+
+    /**
+     * Serialize rank writes into one board column until the transaction ends
+     */
+    @Query(value = "SELECT 1 FROM (SELECT pg_advisory_xact_lock(" + BOARD_COLUMN_LOCK + ")) l", nativeQuery = true)
+    int lockBoardColumn(@Param("projectId") UUID projectId, @Param("status") String status);
+
+    /**
+     * Like {@link #lockBoardColumn} but gives up instead of waiting
+     */
+    @Query(value = "SELECT pg_try_advisory_xact_lock(" + BOARD_COLUMN_LOCK + ")", nativeQuery = true)
+    boolean tryLockBoardColumn(@Param("projectId") UUID projectId, @Param("status") String status);
+
+    /**
+     * Rank of a card and of the next ranked card below it in the same column, excluding the card being moved
+     * (idx_issues_board_rank); empty if the card is not in that column
+     */
+    @Query(value = "SELECT a.board_rank AS lowerRank, " +
+                   "       (SELECT n.board_rank FROM issues n " +
+                   "        WHERE n.project_id = a.project_id AND n.status = a.status " +
+                   "          AND n.board_rank > a.board_rank AND n.id <> :movedId " +
+                   "        ORDER BY n.board_rank LIMIT 1) AS upperRank " +
+                   "FROM issues a WHERE a.key = :key AND a.project_id = :projectId AND a.status = :status",
+           nativeQuery = true)
+    Optional<BoardNeighbours> findBoardNeighboursAfter(
+            @Param("key") String key,
+            @Param("projectId") UUID projectId,
+            @Param("status") String status,
+            @Param("movedId") UUID movedId
+    );
+
+    /**
+     * Rank of a card and of the previous ranked card above it in the same column, excluding the card being moved
+     * (idx_issues_board_rank); empty if the card is not in that column
+     */
+    @Query(value = "SELECT (SELECT n.board_rank FROM issues n " +
+                   "        WHERE n.project_id = b.project_id AND n.status = b.status " +
+                   "          AND n.board_rank < b.board_rank AND n.id <> :movedId " +
+                   "        ORDER BY n.board_rank DESC LIMIT 1) AS lowerRank, " +
+                   "       b.board_rank AS upperRank " +
+                   "FROM issues b WHERE b.key = :key AND b.project_id = :projectId AND b.status = :status",
+           nativeQuery = true)
+    Optional<BoardNeighbours> findBoardNeighboursBefore(
+            @Param("key") String key,
+            @Param("projectId") UUID projectId,
+            @Param("status") String status,
+            @Param("movedId") UUID movedId
+    );
+
+    /**
+     * Highest rank in a board column, excluding one card (idx_issues_board_rank, backward)
+     */
+    @Query(value = "SELECT board_rank FROM issues " +
+                   "WHERE project_id = :projectId AND status = :status AND board_rank IS NOT NULL AND id <> :excludedId " +
+                   "ORDER BY board_rank DESC LIMIT 1",
+           nativeQuery = true)
+    Optional<String> findLastBoardRank(
+            @Param("projectId") UUID projectId,
+            @Param("status") String status,
+            @Param("excludedId") UUID excludedId
+    );
+
+    /**
+     * Re-space every rank of a board column evenly, keeping the current order (unranked cards go last).
+     * Every card of the column gets its own number from one reservation of the project's change sequence.
+     */
+    @Modifying
+    @Query(value = "WITH board_column AS ( " +
+                   "    SELECT id, row_number() OVER (ORDER BY board_rank, created_at, id) AS card_position, " +
+                   "           count(*) OVER () AS column_size " +
+                   "    FROM issues WHERE project_id = :projectId AND status = :status " +
+                   "), reserved AS ( " +
+                   "    INSERT INTO project_change_seq (project_id, last_seq) " +
+                   "    VALUES (:projectId, (SELECT COUNT(*) FROM board_column)) " +
+                   "    ON CONFLICT (project_id) DO UPDATE SET last_seq = project_change_seq.last_seq + EXCLUDED.last_seq " +
+                   "    RETURNING last_seq " +
+                   ") " +
+                   "UPDATE issues i SET board_rank = board_rank_at(c.card_position, c.column_size), " +
+                   "change_seq = r.last_seq - c.column_size + c.card_position " +
+                   "FROM board_column c CROSS JOIN reserved r " +
+                   "WHERE i.id = c.id",
+           nativeQuery = true)
+    int rebalanceBoardColumn(@Param("projectId") UUID projectId, @Param("status") String status);
+
+    /**
+     * Board columns holding cards without a rank, i.e. written by bulk loads (idx_issues_unranked)
+     */
+    @Query(value = "SELECT DISTINCT project_id AS projectId, status FROM issues WHERE board_rank IS NULL",
+           nativeQuery = true)
+    List<BoardColumn> findUnrankedBoardColumns();
+
+    /**
+     * Reserve the next count numbers of a project's change sequence and return the last of them.
+     * The row stays locked until the transaction ends, so numbers become visible in commit order.
+     * Does not flush pending entity changes, which then go out in one UPDATE with the new number.
+     */
+    @QueryHints(@QueryHint(name = HibernateHints.HINT_FLUSH_MODE, value = "COMMIT"))
+    @Query(value = "INSERT INTO project_change_seq (project_id, last_seq) VALUES (:projectId, :count) " +
+                   "ON CONFLICT (project_id) DO UPDATE SET last_seq = project_change_seq.last_seq + :count " +
+                   "RETURNING last_seq",
+           nativeQuery = true)
+    long reserveChangeSeq(@Param("projectId") UUID projectId, @Param("count") long count);
+
+    /**
+     * Last committed number of a project's change sequence
+     */
+    @Query(value = "SELECT last_seq FROM project_change_seq WHERE project_id = :projectId", nativeQuery = true)
+    Optional<Long> findChangeSeq(@Param("projectId") UUID projectId);
+
+    /**
+     * Record a change of an issue that was not written through the entity, e.g. a parent whose subtasks changed
+     */
+    @Modifying
+    @QueryHints(@QueryHint(name = HibernateHints.HINT_FLUSH_MODE, value = "COMMIT"))
+    @Query(value = "UPDATE issues SET change_seq = :changeSeq WHERE id = :issueId", nativeQuery = true)
+    int updateChangeSeq(@Param("issueId") UUID issueId, @Param("changeSeq") long changeSeq);
+
+    /**
+     * Number issues written by bulk loads (change_seq 0) after the current end of their project's sequence
+     */
+    @Modifying
+    @Query(value = "UPDATE issues i SET change_seq = COALESCE(s.last_seq, 0) + n.load_position " +
+                   "FROM (SELECT id, project_id, row_number() OVER (PARTITION BY project_id ORDER BY created_at, id) AS load_position " +
+                   "      FROM issues WHERE change_seq = 0) n " +
+                   "LEFT JOIN project_change_seq s ON s.project_id = n.project_id " +
+                   "WHERE i.id = n.id",
+           nativeQuery = true)
+    int numberUnsequencedIssues();
+
+    /**
+     * Move every project's change sequence past the highest number of its issues
+     */
+    @Modifying
+    @Query(value = "INSERT INTO project_change_seq (project_id, last_seq) " +
+                   "SELECT project_id, MAX(change_seq) FROM issues GROUP BY project_id " +
+                   "ON CONFLICT (project_id) DO UPDATE SET last_seq = GREATEST(project_change_seq.last_seq, EXCLUDED.last_seq)",
+           nativeQuery = true)
+    int advanceChangeSeqToIssues();
+
+    /**
+     * Issues of a project changed after a change number, in change order, with the associations the board renders
+     */
+    @Query("SELECT i FROM Issue i " +
+           "JOIN FETCH i.project " +
+           "JOIN FETCH i.reporter " +
+           "LEFT JOIN FETCH i.assignee " +
+           "LEFT JOIN FETCH i.parentIssue " +
+           "WHERE i.project.id = :projectId AND i.changeSeq > :since AND i.changeSeq <= :upTo " +
+           "ORDER BY i.changeSeq")
+    List<Issue> findChangedSince(@Param("projectId") UUID projectId, @Param("since") long since,
+                                 @Param("upTo") long upTo, Pageable pageable);
+
+    /**
+     * Find the children of the given issues
+     */
+    @Query("SELECT i FROM Issue i " +
+           "JOIN FETCH i.project " +
+           "JOIN FETCH i.reporter " +
+           "LEFT JOIN FETCH i.assignee " +
+           "JOIN FETCH i.parentIssue p " +
+           "WHERE p.id IN (:parentIds)")
+    List<Issue> findChildrenByParentIds(@Param("parentIds") Collection<UUID> parentIds);
+
+    @Query(value = "SELECT epic_id AS id, total_issues AS totalIssues, done_issues AS doneIssues, " +
+                   "total_points AS totalPoints, done_points AS donePoints " +
+                   "FROM epic_progress WHERE epic_id IN (:epicIds)",
+           nativeQuery = true)
+    List<ProgressRollup> findEpicProgressByIds(@Param("epicIds") Collection<UUID> epicIds);
+
+    /**
+     * Tombstone an issue and all of its descendants (removed with it by ON DELETE CASCADE), numbering
+     * them with one reservation of the project's change sequence
+     */
+    @Modifying
+    @Query(value = "WITH RECURSIVE subtree AS ( " +
+                   "    SELECT id, key, 0 AS depth FROM issues WHERE id = :issueId " +
+                   "    UNION ALL " +
+                   "    SELECT c.id, c.key, s.depth + 1 FROM issues c " +
+                   "    JOIN subtree s ON c.parent_issue_id = s.id " +
+                   "    WHERE s.depth < 10 " +
+                   "), reserved AS ( " +
+                   "    INSERT INTO project_change_seq (project_id, last_seq) " +
+                   "    VALUES (:projectId, (SELECT COUNT(*) FROM subtree)) " +
+                   "    ON CONFLICT (project_id) DO UPDATE SET last_seq = project_change_seq.last_seq + EXCLUDED.last_seq " +
+                   "    RETURNING last_seq " +
+                   ") " +
+                   "INSERT INTO issue_tombstones (issue_id, project_id, issue_key, change_seq) " +
+                   "SELECT s.id, :projectId, s.key, r.last_seq - ROW_NUMBER() OVER (ORDER BY s.depth DESC, s.id) + 1 " +
+                   "FROM subtree s CROSS JOIN reserved r",
+           nativeQuery = true)
+    int insertSubtreeTombstones(@Param("issueId") UUID issueId, @Param("projectId") UUID projectId);
+
+    /**
+     * Issues of a project deleted after a change number, in change order
+     */
+    @Query(value = "SELECT issue_id AS issueId, issue_key AS issueKey, change_seq AS changeSeq " +
+                   "FROM issue_tombstones " +
+                   "WHERE project_id = :projectId AND change_seq > :since AND change_seq <= :upTo " +
+                   "ORDER BY change_seq LIMIT :limit",
+           nativeQuery = true)
+    List<IssueTombstone> findTombstonesSince(@Param("projectId") UUID projectId, @Param("since") long since,
+                                            @Param("upTo") long upTo, @Param("limit") int limit);
+
+    /**
+     * Issue count for one project and status
+     */
+    interface ProjectStatusCount {
+        String getProjectKey();
+        String getProjectName();
+        Project.ProjectHealth getHealth();
+        String getStatus();
+        long getCount();
+    }
+
+    /**
+     * Open workload of one assignee
+     */
+    interface AssigneeLoad {
+        UUID getAssigneeId();
+        String getAssigneeName();
+        String getAvatarUrl();
+        long getOpenIssues();
+        long getOpenPoints();
+    }
+
+    /**
+     * Open workload of one project member
+     */
+    interface MemberWorkload {
+        UUID getUserId();
+        String getName();
+        String getEmail();
+        String getAvatarUrl();
+        String getRole();
+        long getOpenIssues();
+        long getOpenPoints();
+        long getOverdueIssues();
+    }
+
+    /**
+     * One row of an issue tree
+     */
+    interface IssueTreeRow {
+        UUID getId();
+        String getKey();
+        String getTitle();
+        String getType();
+        String getPriority();
+        String getStatus();
+        Integer getStoryPoints();
+        UUID getParentIssueId();
+        UUID getAssigneeId();
+        String getAssigneeName();
+        String getAssigneeAvatarUrl();
+    }
+
+    /**
+     * Issue and story point totals of a project or epic rollup
+     */
+    interface ProgressRollup {
+        UUID getId();
+        long getTotalIssues();
+        long getDoneIssues();
+        long getTotalPoints();
+        long getDonePoints();
+    }
+
+    /**
+     * Ranks around a drop position; null at either end of the column
+     */
+    interface BoardNeighbours {
+        String getLowerRank();
+        String getUpperRank();
+    }
+
+    /**
+     * One board column: the cards of a project in one status
+     */
+    interface BoardColumn {
+        UUID getProjectId();
+        String getStatus();
+    }
+
+    /**
+     * A deleted issue and the change number of its deletion
+     */
+    interface IssueTombstone {
+        UUID getIssueId();
+        String getIssueKey();
+        long getChangeSeq();
+    }
+
+    /**
+     * Lightweight view of a high-priority issue
+     */
+    interface CriticalIssue {
+        String getKey();
+        String getTitle();
+        Issue.IssuePriority getPriority();
+        String getStatus();
+        LocalDate getDueDate();
+        String getProjectKey();
+        String getAssigneeName();
+    }
 }
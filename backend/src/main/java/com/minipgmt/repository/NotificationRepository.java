@@ -0,0 +1,109 @@
+package com.minipgmt.repository;
+
+import com.minipgmt.domain.Notification;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.stereotype.Repository;
+
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.Optional;
+import java.util.UUID;
+
+/**
+ * Repository for Notification entity
+ */
+@Repository
+public interface NotificationRepository extends JpaRepository<Notification, UUID> {
+
+    /**
+     * First page of a user's notifications, newest first
+     */
+    @Query(value = "SELECT * FROM notifications WHERE user_id = :userId " +
+                   "ORDER BY created_at DESC, id DESC LIMIT :limit",
+           nativeQuery = true)
+    List<Notification> findFirstPage(@Param("userId") UUID userId, @Param("limit") int limit);
+
+    /**
+     * Next page of a user's notifications after the (createdAt, id) keyset cursor
+     */
+    @Query(value = "SELECT * FROM notifications WHERE user_id = :userId " +
+                   "AND (created_at, id) < (:createdAt, :id) " +
+                   "ORDER BY created_at DESC, id DESC LIMIT :limit",
+           nativeQuery = true)
+    List<Notification> findPageBefore(
+            @Param("userId") UUID userId,
+            @Param("createdAt") LocalDateTime createdAt,
+            @Param("id") UUID id,
+            @Param("limit") int limit
+    );
+
+    /**
+     * Insert one notification per project member (except the actor) and bump each
+     * recipient's unread counter, all in a single statement.
+     * Counters are upserted in user_id order so concurrent fan-outs lock rows consistently.
+     */
+    @Modifying
+    @Query(value = "WITH inserted AS ( " +
+                   "    INSERT INTO notifications (user_id, title, message, type, entity_type, entity_id) " +
+                   "    SELECT pm.user_id, :title, :message, :type, :entityType, :entityId " +
+                   "    FROM project_members pm " +
+                   "    WHERE pm.project_id = :projectId AND pm.user_id <> :excludeUserId " +
+                   "    RETURNING user_id " +
+                   ") " +
+                   "INSERT INTO notification_counters (user_id, unread_count) " +
+                   "SELECT user_id, COUNT(*) FROM inserted GROUP BY user_id ORDER BY user_id " +
+                   "ON CONFLICT (user_id) DO UPDATE " +
+                   "SET unread_count = notification_counters.unread_count + EXCLUDED.unread_count",
+           nativeQuery = true)
+    int fanOutToProjectMembers(
+            @Param("projectId") UUID projectId,
+            @Param("excludeUserId") UUID excludeUserId,
+            @Param("title") String title,
+            @Param("message") String message,
+            @Param("type") String type,
+            @Param("entityType") String entityType,
+            @Param("entityId") UUID entityId
+    );
+
+    /**
+     * Mark one notification read and decrement the counter only if it was unread
+     */
+    @Modifying
+    @Query(value = "WITH marked AS ( " +
+                   "    UPDATE notifications SET is_read = TRUE " +
+                   "    WHERE id = :id AND user_id = :userId AND is_read = FALSE " +
+                   "    RETURNING id " +
+                   ") " +
+                   "UPDATE notification_counters " +
+                   "SET unread_count = GREATEST(unread_count - (SELECT COUNT(*) FROM marked), 0) " +
+                   "WHERE user_id = :userId AND EXISTS (SELECT 1 FROM marked)",
+           nativeQuery = true)
+    int markRead(@Param("id") UUID id, @Param("userId") UUID userId);
+
+    /**
+     * Mark all of a user's notifications read in one set-based update.
+     * The counter is decremented by exactly the rows flipped, so notifications fanned out
+     * concurrently stay counted.
+     */
+    @Modifying
+    @Query(value = "WITH marked AS ( " +
+                   "    UPDATE notifications SET is_read = TRUE " +
+                   "    WHERE user_id = :userId AND is_read = FALSE " +
+                   "    RETURNING id " +
+                   ") " +
+                   "UPDATE notification_counters " +
+                   "SET unread_count = GREATEST(unread_count - (SELECT COUNT(*) FROM marked), 0) " +
+                   "WHERE user_id = :userId",
+           nativeQuery = true)
+    int markAllRead(@Param("userId") UUID userId);
+
+    /**
+     * Unread notification count for a user (primary key lookup)
+     */
+    @Query(value = "SELECT unread_count FROM notification_counters WHERE user_id = :userId",
+           nativeQuery = true)
+    Optional<Long> findUnreadCount(@Param("userId") UUID userId);
+}
@@ -0,0 +1,52 @@
+package com.minipgmt.repository;
+
+import com.minipgmt.domain.OutboxEvent;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.stereotype.Repository;
+
+import java.time.LocalDateTime;
+import java.util.List;
+
+/**
+ * Repository for OutboxEvent entity
+ */
+@Repository
+public interface OutboxEventRepository extends JpaRepository<OutboxEvent, Long> {
+
+    /**
+     * Lock the next batch of pending events.
+     * Rows already locked by another relay are skipped, so several nodes can drain in parallel;
+     * failed events wait until their next_attempt_at.
+     */
+    @Query(value = "SELECT * FROM outbox_events " +
+                   "WHERE processed_at IS NULL AND attempts < :maxAttempts " +
+                   "AND (next_attempt_at IS NULL OR next_attempt_at <= CURRENT_TIMESTAMP) " +
+                   "ORDER BY id " +
+                   "LIMIT :limit " +
+                   "FOR UPDATE SKIP LOCKED",
+           nativeQuery = true)
+    List<OutboxEvent> lockNextBatch(@Param("maxAttempts") int maxAttempts, @Param("limit") int limit);
+
+    /**
+     * Record a failed dispatch: retry after :retrySeconds times the attempts so far, on the database clock
+     * like the lockNextBatch comparison
+     */
+    @Modifying
+    @Query(value = "UPDATE outbox_events " +
+                   "SET attempts = attempts + 1, " +
+                   "    last_error = :error, " +
+                   "    next_attempt_at = CURRENT_TIMESTAMP + make_interval(secs => :retrySeconds * (attempts + 1)) " +
+                   "WHERE id = :id",
+           nativeQuery = true)
+    int recordFailure(@Param("id") Long id, @Param("error") String error, @Param("retrySeconds") long retrySeconds);
+
+    /**
+     * Delete events processed before the given cutoff
+     */
+    @Modifying
+    @Query("DELETE FROM OutboxEvent e WHERE e.processedAt < :cutoff")
+    int deleteProcessedBefore(@Param("cutoff") LocalDateTime cutoff);
+}
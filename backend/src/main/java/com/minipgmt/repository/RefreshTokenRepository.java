@@ -0,0 +1,43 @@
+package com.minipgmt.repository;
+
+import com.minipgmt.domain.RefreshToken;
+import jakarta.persistence.LockModeType;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Lock;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.stereotype.Repository;
+
+import java.time.LocalDateTime;
+import java.util.Optional;
+import java.util.UUID;
+
+/**
+ * Repository for RefreshToken entity
+ */
+@Repository
+public interface RefreshTokenRepository extends JpaRepository<RefreshToken, UUID> {
+
+    /**
+     * Find a token by its hash with its session, locking both so concurrent uses of one token run one at a time
+     */
+    @Lock(LockModeType.PESSIMISTIC_WRITE)
+    @Query("SELECT t FROM RefreshToken t JOIN FETCH t.session WHERE t.tokenHash = :tokenHash")
+    Optional<RefreshToken> findForUpdateByTokenHash(@Param("tokenHash") String tokenHash);
+
+    /**
+     * Find a token by its hash with its session
+     */
+    @Query("SELECT t FROM RefreshToken t JOIN FETCH t.session WHERE t.tokenHash = :tokenHash")
+    Optional<RefreshToken> findByTokenHash(@Param("tokenHash") String tokenHash);
+
+    /**
+     * Delete up to :limit tokens that expired before :now
+     */
+    @Modifying
+    @Query(value = "DELETE FROM refresh_tokens WHERE id IN (" +
+                   "SELECT id FROM refresh_tokens WHERE expires_at < :now LIMIT :limit)",
+           nativeQuery = true)
+    int deleteExpired(@Param("now") LocalDateTime now, @Param("limit") int limit);
+}
@@ -0,0 +1,67 @@
+package com.minipgmt.repository;
+
+import com.minipgmt.domain.ThumbnailJob;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.stereotype.Repository;
+
+import java.util.List;
+
+/**
+ * Repository for ThumbnailJob entity
+ */
+@Repository
+public interface ThumbnailJobRepository extends JpaRepository<ThumbnailJob, String> {
+
+    /**
+     * Queue a blob for thumbnail generation unless it already has a job
+     */
+    @Modifying
+    @Query(value = "INSERT INTO thumbnail_jobs (sha256) VALUES (:sha256) ON CONFLICT (sha256) DO NOTHING",
+           nativeQuery = true)
+    int enqueue(@Param("sha256") String sha256);
+
+    /**
+     * Claim up to :limit due jobs for :leaseSeconds. Rows locked by another worker are skipped, and a
+     * claimed job becomes due again when its lease runs out without the job being finished.
+     */
+    @Query(value = "UPDATE thumbnail_jobs " +
+                   "SET attempts = attempts + 1, " +
+                   "    run_after = CURRENT_TIMESTAMP + make_interval(secs => :leaseSeconds), " +
+                   "    updated_at = CURRENT_TIMESTAMP " +
+                   "WHERE sha256 IN (" +
+                   "    SELECT sha256 FROM thumbnail_jobs " +
+                   "    WHERE status = 'PENDING' AND run_after <= CURRENT_TIMESTAMP AND attempts < :maxAttempts " +
+                   "    ORDER BY run_after " +
+                   "    LIMIT :limit " +
+                   "    FOR UPDATE SKIP LOCKED) " +
+                   "RETURNING sha256",
+           nativeQuery = true)
+    List<String> claimDue(@Param("limit") int limit, @Param("maxAttempts") int maxAttempts,
+                          @Param("leaseSeconds") long leaseSeconds);
+
+    /**
+     * Finish a job; returns 0 when the job is gone because its blob was collected
+     */
+    @Modifying
+    @Query(value = "UPDATE thumbnail_jobs SET status = :status, last_error = :error, updated_at = CURRENT_TIMESTAMP " +
+                   "WHERE sha256 = :sha256",
+           nativeQuery = true)
+    int finish(@Param("sha256") String sha256, @Param("status") String status, @Param("error") String error);
+
+    /**
+     * Record a failed attempt: retry after :retrySeconds times the attempts so far, or give up after :maxAttempts
+     */
+    @Modifying
+    @Query(value = "UPDATE thumbnail_jobs " +
+                   "SET status = CASE WHEN attempts >= :maxAttempts THEN 'FAILED' ELSE 'PENDING' END, " +
+                   "    last_error = :error, " +
+                   "    run_after = CURRENT_TIMESTAMP + make_interval(secs => :retrySeconds * attempts), " +
+                   "    updated_at = CURRENT_TIMESTAMP " +
+                   "WHERE sha256 = :sha256",
+           nativeQuery = true)
+    int fail(@Param("sha256") String sha256, @Param("error") String error,
+             @Param("maxAttempts") int maxAttempts, @Param("retrySeconds") long retrySeconds);
+}
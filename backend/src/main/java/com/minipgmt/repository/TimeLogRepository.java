@@ -0,0 +1,74 @@
+package com.minipgmt.repository;
+
+import com.minipgmt.domain.TimeLog;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.stereotype.Repository;
+
+import java.math.BigDecimal;
+import java.time.LocalDate;
+import java.util.List;
+import java.util.UUID;
+
+/**
+ * Repository for TimeLog entity
+ */
+@Repository
+public interface TimeLogRepository extends JpaRepository<TimeLog, UUID> {
+
+    /**
+     * Find time logs of an issue, most recent first, with their users
+     */
+    @Query("SELECT t FROM TimeLog t " +
+           "JOIN FETCH t.user " +
+           "WHERE t.issue.id = :issueId " +
+           "ORDER BY t.loggedDate DESC, t.createdAt DESC")
+    List<TimeLog> findByIssueIdOrderByLoggedDateDescCreatedAtDesc(@Param("issueId") UUID issueId);
+
+    /**
+     * Hours per day and issue for a user within [from, to) (uses idx_time_logs_user_id)
+     */
+    @Query("SELECT t.loggedDate AS loggedDate, i.key AS issueKey, i.title AS issueTitle, SUM(t.hours) AS hours " +
+           "FROM TimeLog t JOIN t.issue i " +
+           "WHERE t.user.id = :userId AND t.loggedDate >= :from AND t.loggedDate < :to " +
+           "GROUP BY t.loggedDate, i.key, i.title " +
+           "ORDER BY t.loggedDate, i.key")
+    List<TimesheetEntry> sumHoursByDayAndIssue(
+            @Param("userId") UUID userId,
+            @Param("from") LocalDate from,
+            @Param("to") LocalDate to
+    );
+
+    /**
+     * Hours per day for a user within [from, to) (uses idx_time_logs_user_id)
+     */
+    @Query("SELECT t.loggedDate AS loggedDate, SUM(t.hours) AS hours " +
+           "FROM TimeLog t " +
+           "WHERE t.user.id = :userId AND t.loggedDate >= :from AND t.loggedDate < :to " +
+           "GROUP BY t.loggedDate " +
+           "ORDER BY t.loggedDate")
+    List<DailyHours> sumHoursByDay(
+            @Param("userId") UUID userId,
+            @Param("from") LocalDate from,
+            @Param("to") LocalDate to
+    );
+
+    /**
+     * Aggregated hours for one day and issue
+     */
+    interface TimesheetEntry {
+        LocalDate getLoggedDate();
+        String getIssueKey();
+        String getIssueTitle();
+        BigDecimal getHours();
+    }
+
+    /**
+     * Aggregated hours for one day
+     */
+    interface DailyHours {
+        LocalDate getLoggedDate();
+        BigDecimal getHours();
+    }
+}
@@ -2,7 +2,11 @@ package com.minipgmt.repository;
 
 import com.minipgmt.domain.User;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
+import org.springframework.transaction.annotation.Transactional;
 
 import java.util.Optional;
 import java.util.UUID;
@@ -27,4 +31,12 @@ public interface UserRepository extends JpaRepository<User, UUID> {
      * Find active user by email
      */
     Optional<User> findByEmailAndIsActiveTrue(String email);
+
+    /**
+     * Replace a user's password hash, unless it changed since oldHash was read
+     */
+    @Transactional
+    @Modifying
+    @Query("UPDATE User u SET u.passwordHash = :newHash WHERE u.id = :id AND u.passwordHash = :oldHash")
+    int replacePasswordHash(@Param("id") UUID id, @Param("oldHash") String oldHash, @Param("newHash") String newHash);
 }
@@ -1,5 +1,7 @@
 package com.minipgmt.security;
 
+import com.minipgmt.jfr.JwtAuthenticationEvent;
+import io.jsonwebtoken.Claims;
 import jakarta.servlet.FilterChain;
 import jakarta.servlet.ServletException;
 import jakarta.servlet.http.HttpServletRequest;
@@ -20,7 +22,8 @@ import java.util.UUID;
 
 /**
  * JWT Authentication Filter
- * Intercepts requests and validates JWT tokens
+ * Intercepts requests and validates JWT tokens; tokens without a session, or of a revoked one,
+ * are rejected through {@link RevokedSessions}, in memory
  */
 @Component
 @RequiredArgsConstructor
@@ -29,6 +32,7 @@ public class JwtAuthenticationFilter extends OncePerRequestFilter {
 
     private final JwtTokenProvider tokenProvider;
     private final UserDetailsService userDetailsService;
+    private final RevokedSessions revokedSessions;
 
     @Override
     protected void doFilterInternal(
@@ -36,11 +40,20 @@ public class JwtAuthenticationFilter extends OncePerRequestFilter {
             HttpServletResponse response,
             FilterChain filterChain
     ) throws ServletException, IOException {
+        JwtAuthenticationEvent event = new JwtAuthenticationEvent();
+        event.begin();
         try {
             String jwt = getJwtFromRequest(request);
+            event.setPath(request.getRequestURI());
+            event.setTokenPresent(StringUtils.hasText(jwt));
 
-            if (StringUtils.hasText(jwt) && tokenProvider.validateToken(jwt)) {
-                UUID userId = tokenProvider.getUserIdFromToken(jwt);
+            Claims claims = StringUtils.hasText(jwt) ? tokenProvider.parseToken(jwt) : null;
+            UUID sessionId = claims != null ? JwtTokenProvider.getSessionId(claims) : null;
+            if (claims != null && (sessionId == null || revokedSessions.isRevoked(sessionId))) {
+                // no session: a refresh token from before rotation, which must not pass as an access token
+                log.debug("Rejected token of revoked or missing session {}", sessionId);
+            } else if (claims != null) {
+                UUID userId = UUID.fromString(claims.getSubject());
                 UserDetails userDetails = userDetailsService.loadUserByUsername(userId.toString());
 
                 UsernamePasswordAuthenticationToken authentication =
@@ -52,9 +65,12 @@ public class JwtAuthenticationFilter extends OncePerRequestFilter {
                 authentication.setDetails(new WebAuthenticationDetailsSource().buildDetails(request));
 
                 SecurityContextHolder.getContext().setAuthentication(authentication);
+                event.setAuthenticated(true);
             }
         } catch (Exception ex) {
             log.error("Could not set user authentication in security context", ex);
+        } finally {
+            event.commit();
         }
 
         filterChain.doFilter(request, response);
@@ -63,7 +79,7 @@ public class JwtAuthenticationFilter extends OncePerRequestFilter {
     /**
      * Extract JWT token from Authorization header
      */
-    private String getJwtFromRequest(HttpServletRequest request) {
+    public static String getJwtFromRequest(HttpServletRequest request) {
         String bearerToken = request.getHeader("Authorization");
         if (StringUtils.hasText(bearerToken) && bearerToken.startsWith("Bearer ")) {
             return bearerToken.substring(7);
@@ -24,15 +24,14 @@ import java.util.stream.Collectors;
 @Slf4j
 public class JwtTokenProvider {
 
+    private static final String SESSION_ID_CLAIM = "sid";
+
     @Value("${jwt.secret}")
     private String jwtSecret;
 
     @Value("${jwt.expiration}")
     private long jwtExpirationMs;
 
-    @Value("${jwt.refresh-expiration}")
-    private long refreshTokenExpirationMs;
-
     private SecretKey key;
 
     @PostConstruct
@@ -41,9 +40,9 @@ public class JwtTokenProvider {
     }
 
     /**
-     * Generate access token
+     * Generate access token for a session
      */
-    public String generateAccessToken(Authentication authentication) {
+    public String generateAccessToken(Authentication authentication, UUID sessionId) {
         UserPrincipal userPrincipal = (UserPrincipal) authentication.getPrincipal();
         Date now = new Date();
         Date expiryDate = new Date(now.getTime() + jwtExpirationMs);
@@ -57,21 +56,7 @@ public class JwtTokenProvider {
                 .claim("email", userPrincipal.getEmail())
                 .claim("name", userPrincipal.getName())
                 .claim("roles", authorities)
-                .issuedAt(now)
-                .expiration(expiryDate)
-                .signWith(key, Jwts.SIG.HS512)
-                .compact();
-    }
-
-    /**
-     * Generate refresh token
-     */
-    public String generateRefreshToken(UUID userId) {
-        Date now = new Date();
-        Date expiryDate = new Date(now.getTime() + refreshTokenExpirationMs);
-
-        return Jwts.builder()
-                .subject(userId.toString())
+                .claim(SESSION_ID_CLAIM, sessionId.toString())
                 .issuedAt(now)
                 .expiration(expiryDate)
                 .signWith(key, Jwts.SIG.HS512)
@@ -95,12 +80,19 @@ public class JwtTokenProvider {
      * Validate JWT token
      */
     public boolean validateToken(String token) {
+        return parseToken(token) != null;
+    }
+
+    /**
+     * Verify a JWT token and return its claims, or null if it is invalid or expired
+     */
+    public Claims parseToken(String token) {
         try {
-            Jwts.parser()
+            return Jwts.parser()
                     .verifyWith(key)
                     .build()
-                    .parseSignedClaims(token);
-            return true;
+                    .parseSignedClaims(token)
+                    .getPayload();
         } catch (SignatureException ex) {
             log.error("Invalid JWT signature");
         } catch (MalformedJwtException ex) {
@@ -112,7 +104,15 @@ public class JwtTokenProvider {
         } catch (IllegalArgumentException ex) {
             log.error("JWT claims string is empty");
         }
-        return false;
+        return null;
+    }
+
+    /**
+     * Session an access token was issued for, or null for tokens without one
+     */
+    public static UUID getSessionId(Claims claims) {
+        String sessionId = claims.get(SESSION_ID_CLAIM, String.class);
+        return sessionId != null ? UUID.fromString(sessionId) : null;
     }
 
     /**
@@ -0,0 +1,136 @@
+package com.minipgmt.security;
+
+import com.minipgmt.exception.ServiceBusyException;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.core.task.TaskRejectedException;
+import org.springframework.scheduling.concurrent.ThreadPoolTaskExecutor;
+import org.springframework.security.crypto.password.PasswordEncoder;
+import org.springframework.stereotype.Component;
+
+import java.util.concurrent.Callable;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+
+/**
+ * Password Hasher
+ * Runs BCrypt hashing and verification on the bounded passwordHashExecutor instead of the request thread.
+ *
+ * BCrypt is CPU-bound by design, so a burst of logins on request threads would occupy every CPU and
+ * stall all other traffic. The executor caps how many CPUs hashing takes; requests beyond its queue,
+ * or waiting longer than maxWaitMs, are shed with {@link ServiceBusyException} (503 with Retry-After).
+ */
+@Component
+public class PasswordHasher {
+
+    private static final String ENCODE = "encode";
+    private static final String MATCHES = "matches";
+    private static final String BUSY_MESSAGE = "Too many password checks in progress, try again shortly";
+
+    private final PasswordEncoder passwordEncoder;
+    private final ThreadPoolTaskExecutor executor;
+    private final MeterRegistry meterRegistry;
+    private final Counter rejected;
+    private final long maxWaitMs;
+
+    /** Hash verified against when a login names no user, so unknown emails take as long as wrong passwords */
+    private volatile String dummyHash;
+
+    public PasswordHasher(
+            PasswordEncoder passwordEncoder,
+            @Qualifier("passwordHashExecutor") ThreadPoolTaskExecutor executor,
+            MeterRegistry meterRegistry,
+            @Value("${app.password-hashing.max-wait-ms:5000}") long maxWaitMs
+    ) {
+        this.passwordEncoder = passwordEncoder;
+        this.executor = executor;
+        this.meterRegistry = meterRegistry;
+        this.maxWaitMs = maxWaitMs;
+        this.rejected = Counter.builder("app.password.hash.rejected")
+                .description("Password hashing requests shed because the hashing pool was saturated")
+                .register(meterRegistry);
+        Gauge.builder("app.password.hash.queue", executor, e -> e.getThreadPoolExecutor().getQueue().size())
+                .description("Password hashing requests waiting for a worker")
+                .register(meterRegistry);
+        Gauge.builder("app.password.hash.active", executor, ThreadPoolTaskExecutor::getActiveCount)
+                .description("Password hashing requests being computed")
+                .register(meterRegistry);
+    }
+
+    /**
+     * Hash a new password
+     */
+    public String encode(CharSequence rawPassword) {
+        return run(ENCODE, () -> passwordEncoder.encode(rawPassword));
+    }
+
+    /**
+     * Check a password against a stored hash
+     */
+    public boolean matches(CharSequence rawPassword, String encodedPassword) {
+        return run(MATCHES, () -> passwordEncoder.matches(rawPassword, encodedPassword));
+    }
+
+    /**
+     * Spend the time of one verification without a stored hash
+     */
+    public void matchesNothing(CharSequence rawPassword) {
+        if (dummyHash == null) {
+            dummyHash = encode("not-a-password");
+        }
+        matches(rawPassword, dummyHash);
+    }
+
+    /**
+     * Whether a stored hash was made with weaker settings than the configured ones
+     */
+    public boolean needsRehash(String encodedPassword) {
+        return passwordEncoder.upgradeEncoding(encodedPassword);
+    }
+
+    private <T> T run(String operation, Callable<T> hashing) {
+        Timer timer = Timer.builder("app.password.hash")
+                .description("Time to compute a password hash, without queueing")
+                .tag("operation", operation)
+                .register(meterRegistry);
+        Timer wait = Timer.builder("app.password.hash.wait")
+                .description("Time from submitting a password hash until its result, including queueing")
+                .tag("operation", operation)
+                .register(meterRegistry);
+
+        long submittedAt = System.nanoTime();
+        Future<T> future;
+        try {
+            future = executor.submit(() -> timer.recordCallable(hashing));
+        } catch (TaskRejectedException e) {
+            rejected.increment();
+            throw new ServiceBusyException(BUSY_MESSAGE, 1);
+        }
+
+        try {
+            return future.get(maxWaitMs, TimeUnit.MILLISECONDS);
+        } catch (TimeoutException e) {
+            future.cancel(false);
+            executor.getThreadPoolExecutor().purge();
+            rejected.increment();
+            throw new ServiceBusyException(BUSY_MESSAGE, 1);
+        } catch (InterruptedException e) {
+            future.cancel(true);
+            Thread.currentThread().interrupt();
+            throw new IllegalStateException("Interrupted while hashing a password", e);
+        } catch (ExecutionException e) {
+            if (e.getCause() instanceof RuntimeException cause) {
+                throw cause;
+            }
+            throw new IllegalStateException("Password hashing failed", e.getCause());
+        } finally {
+            wait.record(System.nanoTime() - submittedAt, TimeUnit.NANOSECONDS);
+        }
+    }
+}
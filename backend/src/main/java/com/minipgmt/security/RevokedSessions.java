@@ -0,0 +1,128 @@
+package com.minipgmt.security;
+
+import com.minipgmt.repository.AuthSessionRepository;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import java.time.LocalDateTime;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.UUID;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Revoked Sessions
+ * In-memory set of revoked session ids, checked by {@link JwtAuthenticationFilter} for every access token
+ * without touching the database.
+ *
+ * Only sessions revoked within the access token lifetime matter: older access tokens have expired on
+ * their own. That set is reloaded from auth_sessions every refresh interval, which picks up revocations
+ * made by other instances; revocations made here take effect at once. Each load builds an immutable
+ * snapshot: a Bloom filter that answers the common case, a session that is not revoked, with a few
+ * bit reads, and the exact set that confirms its rare positives.
+ */
+@Component
+@Slf4j
+public class RevokedSessions {
+
+    private final AuthSessionRepository sessionRepository;
+    private final long accessTokenLifetimeMs;
+    private final Map<UUID, Long> localRevocations = new ConcurrentHashMap<>();
+    private volatile Snapshot snapshot = Snapshot.of(Set.of());
+
+    public RevokedSessions(
+            AuthSessionRepository sessionRepository,
+            @Value("${jwt.expiration}") long accessTokenLifetimeMs
+    ) {
+        this.sessionRepository = sessionRepository;
+        this.accessTokenLifetimeMs = accessTokenLifetimeMs;
+    }
+
+    /**
+     * Whether access tokens of a session must be rejected
+     */
+    public boolean isRevoked(UUID sessionId) {
+        return snapshot.contains(sessionId);
+    }
+
+    /**
+     * Reject a session's access tokens from now on; called after its revocation is stored
+     */
+    public synchronized void add(UUID sessionId) {
+        localRevocations.put(sessionId, System.currentTimeMillis() + accessTokenLifetimeMs);
+        Set<UUID> ids = new HashSet<>(snapshot.ids());
+        ids.add(sessionId);
+        snapshot = Snapshot.of(ids);
+    }
+
+    /**
+     * Reload the sessions revoked within the access token lifetime
+     */
+    @Scheduled(fixedDelayString = "${app.auth.revocation-refresh-ms:5000}")
+    public void refresh() {
+        long now = System.currentTimeMillis();
+        List<UUID> stored = sessionRepository.findIdsRevokedSince(
+                LocalDateTime.now().minusNanos(TimeUnit.MILLISECONDS.toNanos(accessTokenLifetimeMs)));
+
+        synchronized (this) {
+            // revocations made here since the query started may not be in its result yet
+            localRevocations.values().removeIf(expiresAt -> expiresAt < now);
+            Set<UUID> ids = new HashSet<>(stored);
+            ids.addAll(localRevocations.keySet());
+            if (!ids.equals(snapshot.ids())) {
+                log.debug("{} revoked sessions", ids.size());
+                snapshot = Snapshot.of(ids);
+            }
+        }
+    }
+
+    /**
+     * An immutable Bloom filter over a set of ids, with the set itself for confirmation
+     */
+    private record Snapshot(long[] bits, int mask, Set<UUID> ids) {
+
+        private static final int BITS_PER_ID = 16;
+        private static final int HASHES = 8;
+
+        static Snapshot of(Set<UUID> ids) {
+            int size = Integer.highestOneBit(Math.max(64, ids.size() * BITS_PER_ID - 1)) << 1;
+            long[] bits = new long[size / 64];
+            for (UUID id : ids) {
+                long h1 = mix(id.getMostSignificantBits());
+                long h2 = mix(id.getLeastSignificantBits()) | 1;
+                for (int i = 0; i < HASHES; i++) {
+                    int bit = (int) (h1 + i * h2) & (size - 1);
+                    bits[bit >>> 6] |= 1L << bit;
+                }
+            }
+            return new Snapshot(bits, size - 1, Set.copyOf(ids));
+        }
+
+        boolean contains(UUID id) {
+            long h1 = mix(id.getMostSignificantBits());
+            long h2 = mix(id.getLeastSignificantBits()) | 1;
+            for (int i = 0; i < HASHES; i++) {
+                int bit = (int) (h1 + i * h2) & mask;
+                if ((bits[bit >>> 6] & (1L << bit)) == 0) {
+                    return false;
+                }
+            }
+            return ids.contains(id);
+        }
+
+        /** MurmurHash3's 64-bit finalizer */
+        private static long mix(long h) {
+            h ^= h >>> 33;
+            h *= 0xff51afd7ed558ccdL;
+            h ^= h >>> 33;
+            h *= 0xc4ceb93e344f85a5L;
+            h ^= h >>> 33;
+            return h;
+        }
+    }
+}
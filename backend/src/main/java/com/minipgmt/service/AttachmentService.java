@@ -0,0 +1,388 @@
+package com.minipgmt.service;
+
+import com.minipgmt.domain.Attachment;
+import com.minipgmt.domain.AttachmentUpload;
+import com.minipgmt.domain.Issue;
+import com.minipgmt.domain.User;
+import com.minipgmt.dto.AttachmentDto;
+import com.minipgmt.dto.AttachmentUploadDto;
+import com.minipgmt.dto.UserSummaryDto;
+import com.minipgmt.exception.UploadConflictException;
+import com.minipgmt.repository.AttachmentRepository;
+import com.minipgmt.repository.AttachmentUploadRepository;
+import com.minipgmt.repository.IssueRepository;
+import com.minipgmt.repository.UserRepository;
+import com.minipgmt.service.AttachmentStorage.StoredFile;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.io.InputStream;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.Optional;
+import java.util.Set;
+import java.util.UUID;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.stream.Collectors;
+
+/**
+ * Attachment Service
+ * Uploads, resumable uploads and downloads of issue attachments stored by {@link AttachmentStorage}.
+ *
+ * Request bodies are streamed to disk before any transaction starts, so a slow client never holds a
+ * database connection; the attachment row is written in a short transaction once the content is hashed.
+ * Attachments with the same content share one blob. Deleting an attachment only removes its row:
+ * blobs nothing references any more are collected in the background.
+ */
+@Service
+@Slf4j
+public class AttachmentService {
+
+    private static final int BLOB_COLLECT_BATCH = 100;
+
+    private final AttachmentRepository attachmentRepository;
+    private final AttachmentUploadRepository uploadRepository;
+    private final IssueRepository issueRepository;
+    private final UserRepository userRepository;
+    private final AttachmentStorage storage;
+    private final ThumbnailService thumbnailService;
+    private final ChangeFeedService changeFeed;
+    private final TransactionTemplate transactionTemplate;
+    private final Set<UUID> uploadsInProgress = ConcurrentHashMap.newKeySet();
+
+    @Value("${app.attachments.max-size-mb:1024}")
+    private long maxSizeMb;
+
+    @Value("${app.attachments.upload-expiry-hours:24}")
+    private long uploadExpiryHours;
+
+    @Value("${app.attachments.blob-grace-minutes:60}")
+    private long blobGraceMinutes;
+
+    public AttachmentService(
+            AttachmentRepository attachmentRepository,
+            AttachmentUploadRepository uploadRepository,
+            IssueRepository issueRepository,
+            UserRepository userRepository,
+            AttachmentStorage storage,
+            ThumbnailService thumbnailService,
+            ChangeFeedService changeFeed,
+            PlatformTransactionManager transactionManager
+    ) {
+        this.attachmentRepository = attachmentRepository;
+        this.uploadRepository = uploadRepository;
+        this.issueRepository = issueRepository;
+        this.userRepository = userRepository;
+        this.storage = storage;
+        this.thumbnailService = thumbnailService;
+        this.changeFeed = changeFeed;
+        this.transactionTemplate = new TransactionTemplate(transactionManager);
+    }
+
+    /**
+     * Get attachments of an issue
+     */
+    @Transactional(readOnly = true)
+    public List<AttachmentDto> getAttachments(String issueKey) {
+        Issue issue = issueRepository.findByKey(issueKey)
+                .orElseThrow(() -> new RuntimeException("Issue not found: " + issueKey));
+
+        return attachmentRepository.findByIssueIdWithUser(issue.getId()).stream()
+                .map(attachment -> mapToDto(attachment, issue.getKey()))
+                .collect(Collectors.toList());
+    }
+
+    /**
+     * Attach a file streamed in one request
+     */
+    public AttachmentDto upload(String issueKey, String filename, String mimeType, InputStream content, UUID userId) {
+        Issue issue = issueRepository.findByKey(issueKey)
+                .orElseThrow(() -> new RuntimeException("Issue not found: " + issueKey));
+        requireFilename(filename);
+
+        StoredFile file = storage.receive(content, maxSizeBytes());
+        try {
+            return store(file, issue, userId, filename, mimeType, null);
+        } catch (RuntimeException e) {
+            storage.deleteQuietly(file.path());
+            throw e;
+        }
+    }
+
+    /**
+     * Start a resumable upload
+     */
+    @Transactional
+    public AttachmentUploadDto createUpload(String issueKey, AttachmentUploadDto dto, UUID userId) {
+        Issue issue = issueRepository.findByKey(issueKey)
+                .orElseThrow(() -> new RuntimeException("Issue not found: " + issueKey));
+        User user = userRepository.findById(userId)
+                .orElseThrow(() -> new RuntimeException("User not found"));
+        if (dto.getTotalSize() > maxSizeBytes()) {
+            throw new RuntimeException("Attachment exceeds the maximum size of " + maxSizeBytes() + " bytes");
+        }
+
+        AttachmentUpload upload = AttachmentUpload.builder()
+                .issue(issue)
+                .user(user)
+                .filename(dto.getFilename())
+                .mimeType(dto.getMimeType())
+                .totalSize(dto.getTotalSize())
+                .build();
+        upload = uploadRepository.save(upload);
+        log.info("Upload {} of {} bytes started on issue {}", upload.getId(), upload.getTotalSize(), issue.getKey());
+
+        return mapToDto(upload, issue.getKey(), 0);
+    }
+
+    /**
+     * Get a resumable upload, to find the offset to resume from
+     */
+    @Transactional(readOnly = true)
+    public AttachmentUploadDto getUpload(UUID uploadId, UUID userId) {
+        AttachmentUpload upload = findUpload(uploadId, userId);
+        return mapToDto(upload, upload.getIssue().getKey(), upload.getReceived());
+    }
+
+    /**
+     * Write the bytes [start, end) of a resumable upload. start must be the number of bytes received
+     * so far. The chunk that completes the upload creates the attachment.
+     */
+    public AttachmentUploadDto appendChunk(UUID uploadId, long start, long end, long totalSize,
+                                           InputStream content, UUID userId) {
+        if (!uploadsInProgress.add(uploadId)) {
+            long received = uploadRepository.findById(uploadId).map(AttachmentUpload::getReceived).orElse(0L);
+            throw new UploadConflictException("Another chunk of this upload is being written", received);
+        }
+
+        try {
+            AttachmentUpload upload = findUpload(uploadId, userId);
+            if (totalSize != upload.getTotalSize() || start < 0 || end <= start || end > totalSize) {
+                throw new RuntimeException("Content-Range does not fit an upload of " + upload.getTotalSize() + " bytes");
+            }
+            if (start != upload.getReceived()) {
+                throw new UploadConflictException("Chunk must start at byte " + upload.getReceived(), upload.getReceived());
+            }
+
+            Path temp = storage.tempFile(uploadId);
+            long written = storage.write(temp, start, content, end - start);
+            if (written != end - start) {
+                throw new RuntimeException("Chunk ended after " + written + " of " + (end - start) + " bytes");
+            }
+
+            Integer advanced = transactionTemplate.execute(status -> uploadRepository.advanceReceived(uploadId, start, end));
+            if (advanced == null || advanced == 0) {
+                // another instance took this chunk
+                long received = uploadRepository.findById(uploadId).map(AttachmentUpload::getReceived).orElse(0L);
+                throw new UploadConflictException("Chunk must start at byte " + received, received);
+            }
+
+            AttachmentUploadDto result = mapToDto(upload, upload.getIssue().getKey(), end);
+            if (end == totalSize) {
+                storage.truncate(temp, totalSize);
+                StoredFile file = new StoredFile(temp, totalSize, storage.sha256(temp));
+                result.setAttachment(store(file, upload.getIssue(), upload.getUser().getId(),
+                        upload.getFilename(), upload.getMimeType(), uploadId));
+            }
+            return result;
+        } finally {
+            uploadsInProgress.remove(uploadId);
+        }
+    }
+
+    /**
+     * Content of an attachment, for streaming it to a client
+     */
+    @Transactional(readOnly = true)
+    public AttachmentContent getContent(UUID attachmentId) {
+        Attachment attachment = attachmentRepository.findById(attachmentId)
+                .orElseThrow(() -> new RuntimeException("Attachment not found: " + attachmentId));
+
+        Path path = storage.resolve(attachment.getFilePath());
+        if (!Files.isRegularFile(path)) {
+            throw new RuntimeException("Attachment content is missing: " + attachmentId);
+        }
+        return new AttachmentContent(path, attachment.getFilename(), attachment.getMimeType(),
+                attachment.getFileSize(), attachment.getSha256());
+    }
+
+    /**
+     * Thumbnail of an image attachment, once the background job generated it
+     */
+    @Transactional(readOnly = true)
+    public Optional<AttachmentContent> getThumbnail(UUID attachmentId) {
+        Attachment attachment = attachmentRepository.findById(attachmentId)
+                .orElseThrow(() -> new RuntimeException("Attachment not found: " + attachmentId));
+
+        if (attachment.getSha256() == null) {
+            return Optional.empty();
+        }
+        return thumbnailService.findThumbnail(attachment.getSha256())
+                .map(path -> new AttachmentContent(path, attachment.getFilename() + ".jpg", "image/jpeg",
+                        path.toFile().length(), attachment.getSha256()));
+    }
+
+    /**
+     * Delete an attachment (only its uploader may delete it)
+     */
+    @Transactional
+    public void deleteAttachment(UUID attachmentId, UUID userId) {
+        Attachment attachment = attachmentRepository.findWithIssueById(attachmentId)
+                .orElseThrow(() -> new RuntimeException("Attachment not found: " + attachmentId));
+
+        if (!attachment.getUser().getId().equals(userId)) {
+            throw new RuntimeException("Only the uploader can delete an attachment");
+        }
+
+        Issue issue = attachment.getIssue();
+        attachmentRepository.delete(attachment);
+        issueRepository.addAttachmentCount(issue.getId(), -1, changeFeed.nextChangeSeq(issue.getProject().getId()));
+        log.info("Attachment deleted: {}", attachmentId);
+    }
+
+    /**
+     * Remove blobs no attachment references any more, and uploads abandoned for upload-expiry-hours.
+     * A blob gets blob-grace-minutes after its last use, and blobs being attached right now are locked
+     * and skipped.
+     */
+    @Scheduled(fixedDelayString = "${app.attachments.cleanup-interval-ms:3600000}")
+    public void cleanUp() {
+        int blobs = 0;
+        int batch;
+        do {
+            LocalDateTime cutoff = LocalDateTime.now().minusMinutes(blobGraceMinutes);
+            batch = transactionTemplate.execute(status -> {
+                List<String> orphans = attachmentRepository.lockOrphanedBlobs(cutoff, BLOB_COLLECT_BATCH);
+                if (orphans.isEmpty()) {
+                    return 0;
+                }
+                // files go first: a row without its file is repaired by the next upload of that content
+                orphans.forEach(storage::deleteBlob);
+                return attachmentRepository.deleteBlobs(orphans);
+            });
+            blobs += batch;
+        } while (batch == BLOB_COLLECT_BATCH);
+
+        int uploads = 0;
+        for (UUID uploadId : uploadRepository.findIdsNotUpdatedSince(LocalDateTime.now().minusHours(uploadExpiryHours))) {
+            if (uploadsInProgress.add(uploadId)) {
+                try {
+                    uploadRepository.deleteById(uploadId);
+                    storage.deleteQuietly(storage.tempFile(uploadId));
+                    uploads++;
+                } finally {
+                    uploadsInProgress.remove(uploadId);
+                }
+            }
+        }
+
+        if (blobs > 0 || uploads > 0) {
+            log.info("Attachment cleanup removed {} orphaned blobs and {} expired uploads", blobs, uploads);
+        }
+    }
+
+    /**
+     * Register a received file's blob and create its attachment. The blob row lock taken by the
+     * upsert is held until commit, which keeps the collector from removing the blob in between.
+     */
+    private AttachmentDto store(StoredFile file, Issue issue, UUID userId, String filename, String mimeType,
+                                UUID finishedUploadId) {
+        return transactionTemplate.execute(status -> {
+            attachmentRepository.upsertBlob(file.sha256(), file.size());
+            storage.promote(file.path(), file.sha256());
+            thumbnailService.enqueue(file.sha256(), mimeType);
+
+            Attachment attachment = Attachment.builder()
+                    .issue(issueRepository.getReferenceById(issue.getId()))
+                    .user(userRepository.getReferenceById(userId))
+                    .filename(filename)
+                    .filePath(storage.blobPath(file.sha256()))
+                    .fileSize(file.size())
+                    .mimeType(mimeType)
+                    .sha256(file.sha256())
+                    .build();
+            attachment = attachmentRepository.save(attachment);
+            issueRepository.addAttachmentCount(issue.getId(), 1, changeFeed.nextChangeSeq(issue.getProject().getId()));
+            if (finishedUploadId != null) {
+                uploadRepository.deleteById(finishedUploadId);
+            }
+            log.info("Attached {} ({} bytes, {}) to issue {}", filename, file.size(), file.sha256(), issue.getKey());
+
+            return mapToDto(attachment, issue.getKey());
+        });
+    }
+
+    private AttachmentUpload findUpload(UUID uploadId, UUID userId) {
+        AttachmentUpload upload = uploadRepository.findWithIssueAndUserById(uploadId)
+                .orElseThrow(() -> new RuntimeException("Upload not found: " + uploadId));
+        if (!upload.getUser().getId().equals(userId)) {
+            throw new RuntimeException("Only the uploader can continue an upload");
+        }
+        return upload;
+    }
+
+    private void requireFilename(String filename) {
+        if (filename == null || filename.isBlank() || filename.length() > 500) {
+            throw new RuntimeException("A filename of at most 500 characters is required");
+        }
+    }
+
+    private long maxSizeBytes() {
+        return maxSizeMb * 1024 * 1024;
+    }
+
+    private AttachmentDto mapToDto(Attachment attachment, String issueKey) {
+        return AttachmentDto.builder()
+                .id(attachment.getId())
+                .issueKey(issueKey)
+                .filename(attachment.getFilename())
+                .mimeType(attachment.getMimeType())
+                .size(attachment.getFileSize())
+                .sha256(attachment.getSha256())
+                .thumbnailUrl(attachment.getSha256() != null
+                        && thumbnailService.findThumbnail(attachment.getSha256()).isPresent()
+                        ? "/api/attachments/" + attachment.getId() + "/thumbnail"
+                        : null)
+                .user(mapUserToSummaryDto(attachment.getUser()))
+                .createdAt(attachment.getCreatedAt())
+                .build();
+    }
+
+    private AttachmentUploadDto mapToDto(AttachmentUpload upload, String issueKey, long received) {
+        return AttachmentUploadDto.builder()
+                .id(upload.getId())
+                .issueKey(issueKey)
+                .filename(upload.getFilename())
+                .mimeType(upload.getMimeType())
+                .totalSize(upload.getTotalSize())
+                .received(received)
+                .createdAt(upload.getCreatedAt())
+                .build();
+    }
+
+    /**
+     * Map User to UserSummaryDto
+     */
+    private UserSummaryDto mapUserToSummaryDto(User user) {
+        return UserSummaryDto.builder()
+                .id(user.getId())
+                .name(user.getName())
+                .email(user.getEmail())
+                .avatarUrl(user.getAvatarUrl())
+                .role(user.getRole().name().toLowerCase())
+                .build();
+    }
+
+    /**
+     * A stored attachment's file and the metadata needed to serve it
+     */
+    public record AttachmentContent(Path path, String filename, String mimeType, long size, String sha256) {
+    }
+}
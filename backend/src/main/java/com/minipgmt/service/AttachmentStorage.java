@@ -0,0 +1,217 @@
+package com.minipgmt.service;
+
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.UncheckedIOException;
+import java.nio.ByteBuffer;
+import java.nio.channels.Channels;
+import java.nio.channels.FileChannel;
+import java.nio.channels.ReadableByteChannel;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.nio.file.StandardOpenOption;
+import java.security.DigestInputStream;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.util.HexFormat;
+import java.util.UUID;
+
+/**
+ * Attachment Storage
+ * Content-addressed files under app.uploads-dir: each distinct content is stored once, at
+ * blobs/ab/cd/abcd... named by its SHA-256. Uploads are written to tmp/ and moved into place
+ * atomically, so a blob file is always complete.
+ *
+ * Bytes go from the request channel to the file channel and are never collected on the heap;
+ * reading and writing use bounded buffers only.
+ */
+@Component
+@Slf4j
+public class AttachmentStorage {
+
+    private static final String BLOBS_DIR = "blobs";
+    private static final String TMP_DIR = "tmp";
+    private static final long TRANSFER_CHUNK = 1 << 20;
+    private static final int DIGEST_BUFFER_SIZE = 1 << 16;
+
+    private final Path root;
+
+    public AttachmentStorage(@Value("${app.uploads-dir:./uploads}") String uploadsDir) {
+        this.root = Path.of(uploadsDir).toAbsolutePath().normalize();
+    }
+
+    /**
+     * Path of a blob relative to the uploads directory, as stored in attachments.file_path
+     */
+    public String blobPath(String sha256) {
+        return BLOBS_DIR + "/" + sha256.substring(0, 2) + "/" + sha256.substring(2, 4) + "/" + sha256;
+    }
+
+    /**
+     * Path of a blob's thumbnail relative to the uploads directory, next to the blob
+     */
+    public String thumbnailPath(String sha256) {
+        return blobPath(sha256) + ".thumb.jpg";
+    }
+
+    /**
+     * Absolute path of a file stored under the uploads directory
+     */
+    public Path resolve(String relativePath) {
+        return root.resolve(relativePath);
+    }
+
+    /**
+     * Temporary file of an upload in progress
+     */
+    public Path tempFile(UUID uploadId) {
+        return root.resolve(TMP_DIR).resolve(uploadId + ".part");
+    }
+
+    /**
+     * Write a whole stream to a new temporary file, hashing it on the way.
+     * Fails once more than maxBytes arrive.
+     */
+    public StoredFile receive(InputStream content, long maxBytes) {
+        Path temp = tempFile(UUID.randomUUID());
+        MessageDigest digest = sha256Digest();
+        try {
+            long size = write(temp, 0, new DigestInputStream(content, digest), maxBytes);
+            return new StoredFile(temp, size, HexFormat.of().formatHex(digest.digest()));
+        } catch (RuntimeException e) {
+            deleteQuietly(temp);
+            throw e;
+        }
+    }
+
+    /**
+     * Write a stream into a file at an offset, creating the file if needed.
+     * Returns the number of bytes written; fails once more than maxBytes arrive.
+     */
+    public long write(Path file, long offset, InputStream content, long maxBytes) {
+        try {
+            Files.createDirectories(file.getParent());
+            try (FileChannel channel = FileChannel.open(file, StandardOpenOption.CREATE, StandardOpenOption.WRITE);
+                 ReadableByteChannel source = Channels.newChannel(content)) {
+                long written = 0;
+                long transferred;
+                // one byte past the limit tells an oversized stream from one that ends exactly at it
+                while ((transferred = channel.transferFrom(source, offset + written,
+                        Math.min(TRANSFER_CHUNK, maxBytes + 1 - written))) > 0) {
+                    written += transferred;
+                    if (written > maxBytes) {
+                        throw new RuntimeException("Attachment exceeds the maximum size of " + maxBytes + " bytes");
+                    }
+                }
+                return written;
+            }
+        } catch (IOException e) {
+            throw new UncheckedIOException("Failed to write " + file.getFileName(), e);
+        }
+    }
+
+    /**
+     * Cut off bytes a failed, oversized chunk may have left past the end of an upload
+     */
+    public void truncate(Path file, long size) {
+        try (FileChannel channel = FileChannel.open(file, StandardOpenOption.WRITE)) {
+            channel.truncate(size);
+        } catch (IOException e) {
+            throw new UncheckedIOException("Failed to truncate " + file.getFileName(), e);
+        }
+    }
+
+    /**
+     * SHA-256 of a file, read through a direct buffer
+     */
+    public String sha256(Path file) {
+        MessageDigest digest = sha256Digest();
+        ByteBuffer buffer = ByteBuffer.allocateDirect(DIGEST_BUFFER_SIZE);
+        try (FileChannel channel = FileChannel.open(file, StandardOpenOption.READ)) {
+            while (channel.read(buffer) >= 0) {
+                buffer.flip();
+                digest.update(buffer);
+                buffer.clear();
+            }
+        } catch (IOException e) {
+            throw new UncheckedIOException("Failed to hash " + file.getFileName(), e);
+        }
+        return HexFormat.of().formatHex(digest.digest());
+    }
+
+    /**
+     * Move a hashed temporary file into its blob path, or drop it when the content is already stored.
+     * Callers hold the blob's attachment_blobs row lock, so no collector removes the blob meanwhile.
+     */
+    public void promote(Path temp, String sha256) {
+        Path blob = resolve(blobPath(sha256));
+        try {
+            if (Files.exists(blob)) {
+                Files.delete(temp);
+                return;
+            }
+            Files.createDirectories(blob.getParent());
+            Files.move(temp, blob, StandardCopyOption.ATOMIC_MOVE);
+        } catch (IOException e) {
+            throw new UncheckedIOException("Failed to store blob " + sha256, e);
+        }
+    }
+
+    /**
+     * Produce a file through a temporary file, then move it into place atomically, replacing any existing one
+     */
+    public void writeAtomically(Path target, FileWriter writer) throws IOException {
+        Path temp = tempFile(UUID.randomUUID());
+        try {
+            Files.createDirectories(temp.getParent());
+            writer.write(temp);
+            Files.createDirectories(target.getParent());
+            Files.move(temp, target, StandardCopyOption.ATOMIC_MOVE, StandardCopyOption.REPLACE_EXISTING);
+        } finally {
+            deleteQuietly(temp);
+        }
+    }
+
+    /**
+     * Delete a blob file and its thumbnail; callers hold its attachment_blobs row lock
+     */
+    public void deleteBlob(String sha256) {
+        deleteQuietly(resolve(blobPath(sha256)));
+        deleteQuietly(resolve(thumbnailPath(sha256)));
+    }
+
+    public void deleteQuietly(Path file) {
+        try {
+            Files.deleteIfExists(file);
+        } catch (IOException e) {
+            log.warn("Failed to delete {}: {}", file, e.getMessage());
+        }
+    }
+
+    private static MessageDigest sha256Digest() {
+        try {
+            return MessageDigest.getInstance("SHA-256");
+        } catch (NoSuchAlgorithmException e) {
+            throw new IllegalStateException(e);
+        }
+    }
+
+    /**
+     * Writes the content of a file
+     */
+    @FunctionalInterface
+    public interface FileWriter {
+        void write(Path file) throws IOException;
+    }
+
+    /**
+     * A received file with its size and SHA-256
+     */
+    public record StoredFile(Path path, long size, String sha256) {
+    }
+}
@@ -6,20 +6,26 @@ import com.minipgmt.dto.AuthResponse;
 import com.minipgmt.dto.RegisterRequest;
 import com.minipgmt.repository.UserRepository;
 import com.minipgmt.security.JwtTokenProvider;
+import com.minipgmt.security.PasswordHasher;
 import com.minipgmt.security.UserPrincipal;
+import io.jsonwebtoken.Claims;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
-import org.springframework.security.authentication.AuthenticationManager;
+import org.springframework.security.authentication.BadCredentialsException;
 import org.springframework.security.authentication.UsernamePasswordAuthenticationToken;
 import org.springframework.security.core.Authentication;
 import org.springframework.security.core.context.SecurityContextHolder;
-import org.springframework.security.crypto.password.PasswordEncoder;
 import org.springframework.stereotype.Service;
-import org.springframework.transaction.annotation.Transactional;
+
+import java.util.UUID;
 
 /**
  * Authentication Service
  * Handles user registration, login, and token management
+ *
+ * Passwords are hashed and verified through {@link PasswordHasher}, outside any transaction, so no
+ * JDBC connection is held while BCrypt runs. Each login starts a session whose refresh tokens
+ * {@link RefreshTokenService} rotates.
  */
 @Service
 @RequiredArgsConstructor
@@ -27,14 +33,13 @@ import org.springframework.transaction.annotation.Transactional;
 public class AuthService {
 
     private final UserRepository userRepository;
-    private final PasswordEncoder passwordEncoder;
-    private final AuthenticationManager authenticationManager;
+    private final PasswordHasher passwordHasher;
     private final JwtTokenProvider tokenProvider;
+    private final RefreshTokenService refreshTokenService;
 
     /**
      * Register a new user
      */
-    @Transactional
     public AuthResponse register(RegisterRequest request) {
         // Check if email already exists
         if (userRepository.existsByEmail(request.getEmail())) {
@@ -45,7 +50,7 @@ public class AuthService {
         User user = User.builder()
                 .name(request.getName())
                 .email(request.getEmail())
-                .passwordHash(passwordEncoder.encode(request.getPassword()))
+                .passwordHash(passwordHasher.encode(request.getPassword()))
                 .avatarUrl(request.getAvatarUrl())
                 .role(User.UserRole.MEMBER) // Default role
                 .isActive(true)
@@ -54,85 +59,67 @@ public class AuthService {
         user = userRepository.save(user);
         log.info("New user registered: {}", user.getEmail());
 
-        // Authenticate and generate tokens
-        Authentication authentication = authenticationManager.authenticate(
-                new UsernamePasswordAuthenticationToken(request.getEmail(), request.getPassword())
-        );
-
-        SecurityContextHolder.getContext().setAuthentication(authentication);
-
-        String accessToken = tokenProvider.generateAccessToken(authentication);
-        String refreshToken = tokenProvider.generateRefreshToken(user.getId());
-
-        return AuthResponse.builder()
-                .accessToken(accessToken)
-                .refreshToken(refreshToken)
-                .user(mapToUserDto(user))
-                .build();
+        return issueTokens(refreshTokenService.startSession(user));
     }
 
     /**
      * Login user
      */
-    @Transactional(readOnly = true)
     public AuthResponse login(AuthRequest request) {
-        // Authenticate user
-        Authentication authentication = authenticationManager.authenticate(
-                new UsernamePasswordAuthenticationToken(request.getEmail(), request.getPassword())
-        );
-
-        SecurityContextHolder.getContext().setAuthentication(authentication);
-
-        UserPrincipal userPrincipal = (UserPrincipal) authentication.getPrincipal();
-        User user = userRepository.findById(userPrincipal.getId())
-                .orElseThrow(() -> new RuntimeException("User not found"));
+        User user = userRepository.findByEmailAndIsActiveTrue(request.getEmail()).orElse(null);
+        if (user == null) {
+            passwordHasher.matchesNothing(request.getPassword());
+            throw new BadCredentialsException("No active user with email " + request.getEmail());
+        }
+        if (!passwordHasher.matches(request.getPassword(), user.getPasswordHash())) {
+            throw new BadCredentialsException("Wrong password for " + request.getEmail());
+        }
 
-        // Generate tokens
-        String accessToken = tokenProvider.generateAccessToken(authentication);
-        String refreshToken = tokenProvider.generateRefreshToken(user.getId());
+        // Upgrade hashes made before the configured BCrypt cost was raised
+        if (passwordHasher.needsRehash(user.getPasswordHash())) {
+            userRepository.replacePasswordHash(user.getId(), user.getPasswordHash(),
+                    passwordHasher.encode(request.getPassword()));
+            log.info("Rehashed password of {}", user.getEmail());
+        }
 
         log.info("User logged in: {}", user.getEmail());
-
-        return AuthResponse.builder()
-                .accessToken(accessToken)
-                .refreshToken(refreshToken)
-                .user(mapToUserDto(user))
-                .build();
+        return issueTokens(refreshTokenService.startSession(user));
     }
 
     /**
-     * Refresh access token
+     * Exchange a refresh token for a new access token and the next refresh token of its session
      */
-    @Transactional(readOnly = true)
     public AuthResponse refreshToken(String refreshToken) {
-        // Validate refresh token
-        if (!tokenProvider.validateToken(refreshToken)) {
-            throw new RuntimeException("Invalid refresh token");
-        }
-
-        // Get user from token
-        var userId = tokenProvider.getUserIdFromToken(refreshToken);
-        User user = userRepository.findById(userId)
-                .orElseThrow(() -> new RuntimeException("User not found"));
+        return issueTokens(refreshTokenService.rotate(refreshToken));
+    }
 
-        if (!user.getIsActive()) {
-            throw new RuntimeException("User account is inactive");
+    /**
+     * Logout: revoke the session of the access token, or else of the refresh token, if either is still valid
+     */
+    public void logout(String accessToken, String refreshToken) {
+        Claims claims = accessToken != null ? tokenProvider.parseToken(accessToken) : null;
+        UUID sessionId = claims != null ? JwtTokenProvider.getSessionId(claims) : null;
+        if (sessionId != null) {
+            refreshTokenService.revokeSession(sessionId);
+        } else if (refreshToken != null) {
+            refreshTokenService.revokeSessionOf(refreshToken);
         }
+    }
 
-        // Create authentication
-        UserPrincipal userPrincipal = UserPrincipal.create(user);
+    /**
+     * Authenticate the current request as the user of a session and issue its tokens
+     */
+    private AuthResponse issueTokens(RefreshTokenService.IssuedToken issued) {
+        UserPrincipal userPrincipal = UserPrincipal.create(issued.user());
         Authentication authentication = new UsernamePasswordAuthenticationToken(
                 userPrincipal, null, userPrincipal.getAuthorities()
         );
-
-        // Generate new tokens
-        String newAccessToken = tokenProvider.generateAccessToken(authentication);
-        String newRefreshToken = tokenProvider.generateRefreshToken(user.getId());
+        SecurityContextHolder.getContext().setAuthentication(authentication);
 
         return AuthResponse.builder()
-                .accessToken(newAccessToken)
-                .refreshToken(newRefreshToken)
-                .user(mapToUserDto(user))
+                .accessToken(tokenProvider.generateAccessToken(authentication, issued.sessionId()))
+                .refreshToken(issued.refreshToken())
+                .user(mapToUserDto(issued.user()))
                 .build();
     }
 
@@ -0,0 +1,134 @@
+package com.minipgmt.service;
+
+import com.minipgmt.domain.Issue;
+import com.minipgmt.repository.IssueRepository;
+import com.minipgmt.repository.IssueRepository.BoardNeighbours;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.annotation.Propagation;
+import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.util.Iterator;
+import java.util.Set;
+import java.util.UUID;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * Board Rank Service
+ * Computes {@link FractionalRank} board ranks for moved and created cards, so a move writes only the
+ * moved card. Rank writes into a column hold a transaction-scoped advisory lock on that column, which
+ * keeps two cards dropped into the same gap from getting the same rank.
+ * Columns whose ranks grew past app.board-rank.max-length, or that hold unranked cards from bulk
+ * loads, are re-spaced by a background rebalancer.
+ */
+@Service
+@Slf4j
+public class BoardRankService {
+
+    private final IssueRepository issueRepository;
+    private final TransactionTemplate transactionTemplate;
+    private final Set<BoardColumn> pendingRebalance = ConcurrentHashMap.newKeySet();
+
+    @Value("${app.board-rank.max-length:24}")
+    private int maxLength;
+
+    public BoardRankService(IssueRepository issueRepository, PlatformTransactionManager transactionManager) {
+        this.issueRepository = issueRepository;
+        this.transactionTemplate = new TransactionTemplate(transactionManager);
+    }
+
+    /**
+     * Rank for a card dropped into a column right below afterKey, or right above beforeKey,
+     * or at the bottom when neither is given
+     */
+    @Transactional(propagation = Propagation.MANDATORY)
+    public String rankForMove(Issue issue, String status, String afterKey, String beforeKey) {
+        UUID projectId = issue.getProject().getId();
+        String neighbourKey = afterKey != null ? afterKey : beforeKey;
+        if (issue.getKey().equals(neighbourKey)) {
+            throw new RuntimeException("An issue cannot be moved next to itself");
+        }
+
+        issueRepository.lockBoardColumn(projectId, status);
+        String rank = rankBetweenNeighbours(issue, projectId, status, afterKey, beforeKey);
+        if (rank == null) {
+            // the drop target was bulk loaded and has no rank yet
+            issueRepository.rebalanceBoardColumn(projectId, status);
+            rank = rankBetweenNeighbours(issue, projectId, status, afterKey, beforeKey);
+        }
+        return track(projectId, status, rank);
+    }
+
+    /**
+     * Rank for a new card at the bottom of its column
+     */
+    @Transactional(propagation = Propagation.MANDATORY)
+    public String rankForAppend(UUID projectId, String status) {
+        issueRepository.lockBoardColumn(projectId, status);
+        UUID nothingToExclude = new UUID(0, 0); // the new card has no row yet
+        String last = issueRepository.findLastBoardRank(projectId, status, nothingToExclude).orElse(null);
+        return track(projectId, status, FractionalRank.between(last, null));
+    }
+
+    /**
+     * Re-space columns with overlong ranks and rank cards left unranked by bulk loads.
+     * A column that is being written to is skipped and retried on the next run.
+     */
+    @Scheduled(fixedDelayString = "${app.board-rank.rebalance-interval-ms:60000}")
+    public void rebalance() {
+        issueRepository.findUnrankedBoardColumns()
+                .forEach(column -> pendingRebalance.add(new BoardColumn(column.getProjectId(), column.getStatus())));
+
+        int rebalanced = 0;
+        for (Iterator<BoardColumn> it = pendingRebalance.iterator(); it.hasNext(); ) {
+            BoardColumn column = it.next();
+            Integer rows = transactionTemplate.execute(status ->
+                    issueRepository.tryLockBoardColumn(column.projectId(), column.status())
+                            ? issueRepository.rebalanceBoardColumn(column.projectId(), column.status())
+                            : null);
+            if (rows != null) {
+                it.remove();
+                rebalanced++;
+                log.debug("Rebalanced board column {} {}: {} cards", column.projectId(), column.status(), rows);
+            }
+        }
+        if (rebalanced > 0) {
+            log.info("Rebalanced {} board columns", rebalanced);
+        }
+    }
+
+    /**
+     * @return null when the anchor card has no rank yet
+     */
+    private String rankBetweenNeighbours(Issue issue, UUID projectId, String status, String afterKey, String beforeKey) {
+        if (afterKey == null && beforeKey == null) {
+            String last = issueRepository.findLastBoardRank(projectId, status, issue.getId()).orElse(null);
+            return FractionalRank.between(last, null);
+        }
+
+        String neighbourKey = afterKey != null ? afterKey : beforeKey;
+        BoardNeighbours neighbours = (afterKey != null
+                ? issueRepository.findBoardNeighboursAfter(afterKey, projectId, status, issue.getId())
+                : issueRepository.findBoardNeighboursBefore(beforeKey, projectId, status, issue.getId()))
+                .orElseThrow(() -> new RuntimeException("Issue " + neighbourKey + " is not in column " + status));
+        String anchor = afterKey != null ? neighbours.getLowerRank() : neighbours.getUpperRank();
+        if (anchor == null) {
+            return null;
+        }
+        return FractionalRank.between(neighbours.getLowerRank(), neighbours.getUpperRank());
+    }
+
+    private String track(UUID projectId, String status, String rank) {
+        if (rank.length() > maxLength) {
+            pendingRebalance.add(new BoardColumn(projectId, status));
+        }
+        return rank;
+    }
+
+    private record BoardColumn(UUID projectId, String status) {
+    }
+}
@@ -0,0 +1,91 @@
+package com.minipgmt.service;
+
+import com.minipgmt.domain.Issue;
+import com.minipgmt.repository.IssueRepository;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Propagation;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.util.UUID;
+
+/**
+ * Numbers issue changes with a per-project change sequence, for clients that keep a copy of a board
+ * and poll /api/projects/{key}/changes?since=N.
+ *
+ * IssueService records every change in its own transaction. The changed issue gets the next number,
+ * and so does its parent, because a parent's DTO embeds its subtasks and an epic's embeds their progress.
+ * Adding or removing a comment or attachment renumbers the issue along with its counter.
+ * A deleted issue and its descendants leave tombstones. Reserving numbers locks the project's sequence
+ * row until the transaction ends, so numbers become visible in order: once a client has seen N, no
+ * change numbered N or lower can still appear.
+ */
+@Service
+@RequiredArgsConstructor
+@Slf4j
+public class ChangeFeedService {
+
+    private final IssueRepository issueRepository;
+
+    /**
+     * Number a created, updated or moved issue (written when the issue is saved) and its parents.
+     * formerParent is the parent an issue was just moved away from, if any.
+     */
+    @Transactional(propagation = Propagation.MANDATORY)
+    public void recordChange(Issue issue, Issue formerParent) {
+        UUID projectId = issue.getProject().getId();
+        Issue parent = issue.getParentIssue();
+        boolean sameParent = parent != null && formerParent != null && parent.getId().equals(formerParent.getId());
+        boolean parentInProject = parent != null && projectId.equals(parent.getProject().getId());
+
+        // the issue and a parent in the same project share one reservation
+        long last = issueRepository.reserveChangeSeq(projectId, parentInProject ? 2 : 1);
+        if (parentInProject) {
+            issue.setChangeSeq(last - 1);
+            issueRepository.updateChangeSeq(parent.getId(), last);
+        } else {
+            issue.setChangeSeq(last);
+            recordParentChange(parent);
+        }
+        if (!sameParent) {
+            recordParentChange(formerParent);
+        }
+    }
+
+    /**
+     * Next number for an issue that a single-statement update (e.g. a counter increment) changes;
+     * the caller writes it to change_seq in that statement
+     */
+    @Transactional(propagation = Propagation.MANDATORY)
+    public long nextChangeSeq(UUID projectId) {
+        return issueRepository.reserveChangeSeq(projectId, 1);
+    }
+
+    /**
+     * Tombstone an issue that is about to be deleted together with its descendants (ON DELETE CASCADE)
+     */
+    @Transactional(propagation = Propagation.MANDATORY)
+    public void recordDelete(Issue issue) {
+        int deleted = issueRepository.insertSubtreeTombstones(issue.getId(), issue.getProject().getId());
+        recordParentChange(issue.getParentIssue());
+        log.debug("Tombstoned {} issues under {}", deleted, issue.getKey());
+    }
+
+    /**
+     * Number the issues of loads that bypass IssueService and move every project's sequence past them
+     */
+    @Transactional
+    public void rebuild() {
+        int numbered = issueRepository.numberUnsequencedIssues();
+        int projects = issueRepository.advanceChangeSeqToIssues();
+        log.info("Change sequences rebuilt: {} issues numbered, {} projects", numbered, projects);
+    }
+
+    private void recordParentChange(Issue parent) {
+        if (parent != null) {
+            issueRepository.updateChangeSeq(parent.getId(),
+                    issueRepository.reserveChangeSeq(parent.getProject().getId(), 1));
+        }
+    }
+}
@@ -0,0 +1,154 @@
+package com.minipgmt.service;
+
+import com.minipgmt.domain.Comment;
+import com.minipgmt.domain.Issue;
+import com.minipgmt.domain.User;
+import com.minipgmt.dto.CommentDto;
+import com.minipgmt.dto.CursorPageDto;
+import com.minipgmt.dto.UserSummaryDto;
+import com.minipgmt.repository.CommentRepository;
+import com.minipgmt.repository.IssueRepository;
+import com.minipgmt.repository.UserRepository;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.Pageable;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.util.List;
+import java.util.UUID;
+import java.util.stream.Collectors;
+
+/**
+ * Comment Service
+ * Business logic for issue comments.
+ * Each issue's comment_count is bumped with an atomic increment in the transaction that adds or
+ * removes a comment, so issue lists read the count instead of counting comments per issue.
+ */
+@Service
+@RequiredArgsConstructor
+@Slf4j
+public class CommentService {
+
+    private static final int MAX_PAGE_SIZE = 100;
+
+    private final CommentRepository commentRepository;
+    private final IssueRepository issueRepository;
+    private final UserRepository userRepository;
+    private final ChangeFeedService changeFeed;
+
+    /**
+     * Get a page of an issue's comments, oldest first
+     */
+    @Transactional(readOnly = true)
+    public CursorPageDto<CommentDto> getComments(String issueKey, String cursor, int limit) {
+        Issue issue = issueRepository.findByKey(issueKey)
+                .orElseThrow(() -> new RuntimeException("Issue not found: " + issueKey));
+        int pageSize = Math.max(1, Math.min(limit, MAX_PAGE_SIZE));
+
+        // Fetch one extra row to know whether another page exists
+        Pageable firstRows = PageRequest.ofSize(pageSize + 1);
+        List<Comment> rows;
+        if (cursor == null || cursor.isEmpty()) {
+            rows = commentRepository.findFirstPage(issue.getId(), firstRows);
+        } else {
+            KeysetCursor after = KeysetCursor.decode(cursor);
+            rows = commentRepository.findPageAfter(issue.getId(), after.getCreatedAt(), after.getId(), firstRows);
+        }
+
+        boolean hasMore = rows.size() > pageSize;
+        List<Comment> page = hasMore ? rows.subList(0, pageSize) : rows;
+        Comment last = page.isEmpty() ? null : page.get(page.size() - 1);
+
+        return CursorPageDto.<CommentDto>builder()
+                .items(page.stream().map(comment -> mapToDto(comment, issue.getKey())).collect(Collectors.toList()))
+                .nextCursor(hasMore ? new KeysetCursor(last.getCreatedAt(), last.getId()).encode() : null)
+                .build();
+    }
+
+    /**
+     * Comment on an issue
+     */
+    @Transactional
+    public CommentDto addComment(String issueKey, CommentDto dto, UUID userId) {
+        Issue issue = issueRepository.findByKey(issueKey)
+                .orElseThrow(() -> new RuntimeException("Issue not found: " + issueKey));
+
+        User user = userRepository.findById(userId)
+                .orElseThrow(() -> new RuntimeException("User not found"));
+
+        Comment comment = Comment.builder()
+                .issue(issue)
+                .user(user)
+                .content(dto.getContent())
+                .build();
+
+        comment = commentRepository.save(comment);
+        issueRepository.addCommentCount(issue.getId(), 1, changeFeed.nextChangeSeq(issue.getProject().getId()));
+        log.info("Comment added to issue {} by user {}", issue.getKey(), userId);
+
+        return mapToDto(comment, issue.getKey());
+    }
+
+    /**
+     * Edit a comment (only its author may edit it)
+     */
+    @Transactional
+    public CommentDto updateComment(UUID commentId, CommentDto dto, UUID userId) {
+        Comment comment = findOwnComment(commentId, userId, "edit");
+
+        comment.setContent(dto.getContent());
+        comment = commentRepository.save(comment);
+        log.info("Comment updated: {}", commentId);
+
+        return mapToDto(comment, comment.getIssue().getKey());
+    }
+
+    /**
+     * Delete a comment (only its author may delete it)
+     */
+    @Transactional
+    public void deleteComment(UUID commentId, UUID userId) {
+        Comment comment = findOwnComment(commentId, userId, "delete");
+        Issue issue = comment.getIssue();
+
+        commentRepository.delete(comment);
+        issueRepository.addCommentCount(issue.getId(), -1, changeFeed.nextChangeSeq(issue.getProject().getId()));
+        log.info("Comment deleted: {}", commentId);
+    }
+
+    private Comment findOwnComment(UUID commentId, UUID userId, String action) {
+        Comment comment = commentRepository.findWithIssueById(commentId)
+                .orElseThrow(() -> new RuntimeException("Comment not found: " + commentId));
+
+        if (!comment.getUser().getId().equals(userId)) {
+            throw new RuntimeException("Only the author can " + action + " a comment");
+        }
+        return comment;
+    }
+
+    private CommentDto mapToDto(Comment comment, String issueKey) {
+        return CommentDto.builder()
+                .id(comment.getId())
+                .issueKey(issueKey)
+                .user(mapUserToSummaryDto(comment.getUser()))
+                .content(comment.getContent())
+                .createdAt(comment.getCreatedAt())
+                .updatedAt(comment.getUpdatedAt())
+                .build();
+    }
+
+    /**
+     * Map User to UserSummaryDto
+     */
+    private UserSummaryDto mapUserToSummaryDto(User user) {
+        return UserSummaryDto.builder()
+                .id(user.getId())
+                .name(user.getName())
+                .email(user.getEmail())
+                .avatarUrl(user.getAvatarUrl())
+                .role(user.getRole().name().toLowerCase())
+                .build();
+    }
+}
@@ -0,0 +1,167 @@
+package com.minipgmt.service;
+
+import com.minipgmt.domain.Issue;
+import com.minipgmt.dto.DashboardDto;
+import com.minipgmt.repository.IssueRepository;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.scheduling.concurrent.ThreadPoolTaskExecutor;
+import org.springframework.stereotype.Service;
+
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.EnumSet;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.UUID;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.Executor;
+import java.util.stream.Collectors;
+
+/**
+ * Dashboard Service
+ * Computes every dashboard panel with a dedicated aggregate query, in parallel,
+ * and caches the composite per user for a short TTL
+ */
+@Service
+@Slf4j
+public class DashboardService {
+
+    private static final EnumSet<Issue.IssuePriority> CRITICAL_PRIORITIES =
+            EnumSet.of(Issue.IssuePriority.HIGHEST, Issue.IssuePriority.HIGH);
+
+    private final IssueRepository issueRepository;
+    private final Executor executor;
+    private final Map<UUID, CachedDashboard> cache = new ConcurrentHashMap<>();
+
+    @Value("${app.dashboard.cache-ttl-seconds:30}")
+    private long cacheTtlSeconds;
+
+    @Value("${app.dashboard.due-soon-days:7}")
+    private int dueSoonDays;
+
+    @Value("${app.dashboard.critical-limit:10}")
+    private int criticalLimit;
+
+    public DashboardService(
+            IssueRepository issueRepository,
+            @Qualifier("dashboardExecutor") ThreadPoolTaskExecutor executor
+    ) {
+        this.issueRepository = issueRepository;
+        this.executor = executor;
+    }
+
+    /**
+     * Get dashboard for a user (served from cache while fresh)
+     */
+    public DashboardDto getDashboard(UUID userId) {
+        CachedDashboard cached = cache.get(userId);
+        if (cached != null && cached.expiresAt.isAfter(LocalDateTime.now())) {
+            return cached.dashboard;
+        }
+
+        DashboardDto dashboard = loadDashboard(userId);
+        cache.put(userId, new CachedDashboard(dashboard, LocalDateTime.now().plusSeconds(cacheTtlSeconds)));
+        return dashboard;
+    }
+
+    /**
+     * Drop expired cache entries
+     */
+    @Scheduled(fixedDelay = 60000)
+    public void evictExpired() {
+        LocalDateTime now = LocalDateTime.now();
+        cache.values().removeIf(entry -> entry.expiresAt.isBefore(now));
+    }
+
+    /**
+     * Run each panel's aggregate query concurrently (each in its own read-only transaction)
+     */
+    private DashboardDto loadDashboard(UUID userId) {
+        CompletableFuture<List<DashboardDto.ProjectHealthDto>> projects =
+                CompletableFuture.supplyAsync(() -> loadProjectHealth(userId), executor);
+        CompletableFuture<List<DashboardDto.AssigneeWorkloadDto>> workload =
+                CompletableFuture.supplyAsync(() -> loadWorkload(userId), executor);
+        CompletableFuture<List<DashboardDto.CriticalIssueDto>> criticalIssues =
+                CompletableFuture.supplyAsync(() -> loadCriticalIssues(userId), executor);
+
+        CompletableFuture.allOf(projects, workload, criticalIssues).join();
+
+        return DashboardDto.builder()
+                .projects(projects.join())
+                .workload(workload.join())
+                .criticalIssues(criticalIssues.join())
+                .generatedAt(LocalDateTime.now())
+                .build();
+    }
+
+    private List<DashboardDto.ProjectHealthDto> loadProjectHealth(UUID userId) {
+        Map<String, DashboardDto.ProjectHealthDto> byProject = new LinkedHashMap<>();
+
+        for (IssueRepository.ProjectStatusCount row : issueRepository.countByStatusForMember(userId)) {
+            DashboardDto.ProjectHealthDto project = byProject.computeIfAbsent(row.getProjectKey(), key ->
+                    DashboardDto.ProjectHealthDto.builder()
+                            .key(key)
+                            .name(row.getProjectName())
+                            .health(row.getHealth() != null ? row.getHealth().getValue() : null)
+                            .totalIssues(0L)
+                            .statusCounts(new LinkedHashMap<>())
+                            .build());
+
+            if (row.getStatus() != null) {
+                project.getStatusCounts().merge(row.getStatus(), row.getCount(), Long::sum);
+                project.setTotalIssues(project.getTotalIssues() + row.getCount());
+            }
+        }
+
+        return new ArrayList<>(byProject.values());
+    }
+
+    private List<DashboardDto.AssigneeWorkloadDto> loadWorkload(UUID userId) {
+        return issueRepository.sumOpenPointsByAssigneeForMember(userId).stream()
+                .map(row -> DashboardDto.AssigneeWorkloadDto.builder()
+                        .assigneeId(row.getAssigneeId())
+                        .name(row.getAssigneeName())
+                        .avatarUrl(row.getAvatarUrl())
+                        .openIssues(row.getOpenIssues())
+                        .openPoints(row.getOpenPoints())
+                        .build())
+                .collect(Collectors.toList());
+    }
+
+    private List<DashboardDto.CriticalIssueDto> loadCriticalIssues(UUID userId) {
+        LocalDate dueBefore = LocalDate.now().plusDays(dueSoonDays);
+
+        return issueRepository.findCriticalDueForMember(
+                        userId, CRITICAL_PRIORITIES, dueBefore, PageRequest.of(0, criticalLimit)).stream()
+                .map(row -> DashboardDto.CriticalIssueDto.builder()
+                        .key(row.getKey())
+                        .title(row.getTitle())
+                        .priority(row.getPriority().name().toLowerCase())
+                        .status(row.getStatus())
+                        .dueDate(row.getDueDate())
+                        .projectKey(row.getProjectKey())
+                        .assigneeName(row.getAssigneeName())
+                        .build())
+                .collect(Collectors.toList());
+    }
+
+    /**
+     * Cached dashboard with its expiry time
+     */
+    private static class CachedDashboard {
+        private final DashboardDto dashboard;
+        private final LocalDateTime expiresAt;
+
+        CachedDashboard(DashboardDto dashboard, LocalDateTime expiresAt) {
+            this.dashboard = dashboard;
+            this.expiresAt = expiresAt;
+        }
+    }
+}
@@ -0,0 +1,395 @@
+package com.minipgmt.service;
+
+import lombok.Value;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.UUID;
+
+/**
+ * Dependency graph of one project.
+ *
+ * Issues are numbered densely and every per-issue attribute lives in a primitive array indexed by
+ * that number. An edge u -> v means u blocks v; outgoing and incoming edges, and the members of
+ * every epic, are growable int arrays per node, so links are added and removed in place.
+ * Cross-project dependencies are not part of the graph. All methods synchronize on the graph.
+ */
+final class DependencyGraph {
+
+    private static final int[] EMPTY = new int[0];
+
+    private final long version;
+    private final long loadedAtNanos;
+    private final Map<UUID, Integer> index;
+
+    private int nodeCount;
+    private String[] keys;
+    private boolean[] done;
+    private int[] points;
+    private int[] epic;
+
+    private int[][] out;
+    private int[] outSize;
+    private int[][] in;
+    private int[] inSize;
+    private int[][] members;
+    private int[] memberSize;
+    private int edgeCount;
+
+    // scratch for traversals: stamp[v] == epoch marks v as visited in the current traversal
+    private int[] stamp;
+    private int[] slot;
+    private int epoch;
+
+    private DependencyGraph(int capacity, long version) {
+        this.version = version;
+        this.loadedAtNanos = System.nanoTime();
+        this.index = new HashMap<>(capacity * 4 / 3 + 1);
+        allocate(Math.max(capacity, 16));
+    }
+
+    /**
+     * Build the graph from the rows of {@code IssueLinkRepository.findDependencyGraphRows}
+     */
+    static DependencyGraph load(List<Object[]> rows, long version) {
+        DependencyGraph graph = new DependencyGraph(rows.size(), version);
+        for (Object[] row : rows) {
+            UUID issueId = (UUID) row[0];
+            if (!graph.index.containsKey(issueId)) {
+                graph.appendNode(issueId, (String) row[1], isDone((String) row[2]), (Integer) row[3]);
+            }
+        }
+        for (Object[] row : rows) {
+            int node = graph.index.get((UUID) row[0]);
+            if (row[4] != null && graph.epic[node] < 0) {
+                graph.assignEpic(node, (UUID) row[4]);
+            }
+            Integer blocked = row[5] != null ? graph.index.get((UUID) row[5]) : null;
+            if (blocked != null) {
+                graph.appendEdge(node, blocked);
+            }
+        }
+        return graph;
+    }
+
+    static boolean isDone(String status) {
+        return "done".equalsIgnoreCase(status);
+    }
+
+    long getVersion() {
+        return version;
+    }
+
+    long getLoadedAtNanos() {
+        return loadedAtNanos;
+    }
+
+    synchronized int getNodeCount() {
+        return nodeCount;
+    }
+
+    synchronized int getEdgeCount() {
+        return edgeCount;
+    }
+
+    /**
+     * Add a newly created issue
+     */
+    synchronized void addNode(UUID issueId, String key, String status, Integer storyPoints, UUID epicId) {
+        if (index.containsKey(issueId)) {
+            return;
+        }
+        int node = appendNode(issueId, key, isDone(status), storyPoints);
+        if (epicId != null) {
+            assignEpic(node, epicId);
+        }
+    }
+
+    /**
+     * Apply a status or story point change
+     */
+    synchronized void updateNode(UUID issueId, String status, Integer storyPoints) {
+        Integer node = index.get(issueId);
+        if (node != null) {
+            done[node] = isDone(status);
+            points[node] = weightOf(storyPoints);
+        }
+    }
+
+    synchronized boolean hasEdge(UUID blockerId, UUID blockedId) {
+        Integer u = index.get(blockerId);
+        Integer v = index.get(blockedId);
+        return u != null && v != null && indexOf(out[u], outSize[u], v) >= 0;
+    }
+
+    /**
+     * Add blocker -> blocked unless the blocked issue already (transitively) blocks the blocker.
+     * Check and insert happen under one lock, so concurrent links on this instance cannot close a cycle
+     * between them; DependencyGraphService serializes links made through different instances.
+     *
+     * @return false if the edge would create a cycle
+     */
+    synchronized boolean addEdgeIfAcyclic(UUID blockerId, UUID blockedId) {
+        int u = index.get(blockerId);
+        int v = index.get(blockedId);
+        if (u == v || reaches(v, u)) {
+            return false;
+        }
+        appendEdge(u, v);
+        return true;
+    }
+
+    synchronized void removeEdge(UUID blockerId, UUID blockedId) {
+        Integer u = index.get(blockerId);
+        Integer v = index.get(blockedId);
+        if (u == null || v == null) {
+            return;
+        }
+        int at = indexOf(out[u], outSize[u], v);
+        if (at < 0) {
+            return;
+        }
+        out[u][at] = out[u][--outSize[u]];
+        int back = indexOf(in[v], inSize[v], u);
+        in[v][back] = in[v][--inSize[v]];
+        edgeCount--;
+    }
+
+    /**
+     * Unfinished issues blocking an issue, directly and through chains of unfinished blockers
+     */
+    synchronized Blockers blockersOf(UUID issueId) {
+        Integer start = index.get(issueId);
+        if (start == null) {
+            return new Blockers(List.of(), List.of());
+        }
+        int visit = nextEpoch();
+        stamp[start] = visit;
+        List<String> direct = new ArrayList<>();
+        List<String> transitive = new ArrayList<>();
+        int[] stack = new int[Math.min(nodeCount, 64)];
+        int top = 0;
+        stack[top++] = start;
+        while (top > 0) {
+            int node = stack[--top];
+            for (int i = 0; i < inSize[node]; i++) {
+                int blocker = in[node][i];
+                if (done[blocker] || stamp[blocker] == visit) {
+                    continue;
+                }
+                stamp[blocker] = visit;
+                if (node == start) {
+                    direct.add(keys[blocker]);
+                }
+                transitive.add(keys[blocker]);
+                if (top == stack.length) {
+                    stack = Arrays.copyOf(stack, stack.length * 2);
+                }
+                stack[top++] = blocker;
+            }
+        }
+        return new Blockers(direct, transitive);
+    }
+
+    /**
+     * Longest chain of remaining work among the issues of an epic, in O(V + E) of the epic's
+     * subgraph: Kahn's topological order with a longest-path relaxation. Unfinished issues weigh
+     * their story points (unestimated issues count as 1), finished issues weigh nothing.
+     * Issues on a cycle (only possible in data written before cycle checks) are left out.
+     */
+    synchronized CriticalPath criticalPathOf(UUID epicId) {
+        Integer e = index.get(epicId);
+        if (e == null || memberSize[e] == 0) {
+            return new CriticalPath(List.of(), 0, 0);
+        }
+        int n = memberSize[e];
+        int[] member = members[e];
+        int visit = nextEpoch();
+        for (int i = 0; i < n; i++) {
+            stamp[member[i]] = visit;
+            slot[member[i]] = i;
+        }
+
+        int[] indegree = new int[n];
+        for (int i = 0; i < n; i++) {
+            int node = member[i];
+            for (int j = 0; j < inSize[node]; j++) {
+                if (stamp[in[node][j]] == visit) {
+                    indegree[i]++;
+                }
+            }
+        }
+
+        long[] distance = new long[n];
+        int[] previous = new int[n];
+        int[] queue = new int[n];
+        int head = 0;
+        int tail = 0;
+        for (int i = 0; i < n; i++) {
+            previous[i] = -1;
+            distance[i] = remainingWeight(member[i]);
+            if (indegree[i] == 0) {
+                queue[tail++] = i;
+            }
+        }
+        int last = -1;
+        while (head < tail) {
+            int i = queue[head++];
+            if (last < 0 || distance[i] > distance[last]) {
+                last = i;
+            }
+            int node = member[i];
+            for (int j = 0; j < outSize[node]; j++) {
+                int next = out[node][j];
+                if (stamp[next] != visit) {
+                    continue;
+                }
+                int k = slot[next];
+                long candidate = distance[i] + remainingWeight(next);
+                if (candidate > distance[k]) {
+                    distance[k] = candidate;
+                    previous[k] = i;
+                }
+                if (--indegree[k] == 0) {
+                    queue[tail++] = k;
+                }
+            }
+        }
+
+        List<String> path = new ArrayList<>();
+        for (int i = last; i >= 0; i = previous[i]) {
+            path.add(keys[member[i]]);
+        }
+        Collections.reverse(path);
+        return new CriticalPath(path, last >= 0 ? distance[last] : 0, n);
+    }
+
+    /**
+     * Depth-first search along outgoing edges
+     */
+    private boolean reaches(int from, int target) {
+        int visit = nextEpoch();
+        int[] stack = new int[Math.min(nodeCount, 64)];
+        int top = 0;
+        stack[top++] = from;
+        stamp[from] = visit;
+        while (top > 0) {
+            int node = stack[--top];
+            if (node == target) {
+                return true;
+            }
+            for (int i = 0; i < outSize[node]; i++) {
+                int next = out[node][i];
+                if (stamp[next] != visit) {
+                    stamp[next] = visit;
+                    if (top == stack.length) {
+                        stack = Arrays.copyOf(stack, stack.length * 2);
+                    }
+                    stack[top++] = next;
+                }
+            }
+        }
+        return false;
+    }
+
+    private long remainingWeight(int node) {
+        return done[node] ? 0 : points[node];
+    }
+
+    private static int weightOf(Integer storyPoints) {
+        return storyPoints != null ? storyPoints : 1;
+    }
+
+    private int nextEpoch() {
+        if (epoch == Integer.MAX_VALUE) {
+            Arrays.fill(stamp, 0);
+            epoch = 0;
+        }
+        return ++epoch;
+    }
+
+    private int appendNode(UUID issueId, String key, boolean isDone, Integer storyPoints) {
+        if (nodeCount == keys.length) {
+            allocate(keys.length * 2);
+        }
+        int node = nodeCount++;
+        index.put(issueId, node);
+        keys[node] = key;
+        done[node] = isDone;
+        points[node] = weightOf(storyPoints);
+        epic[node] = -1;
+        out[node] = EMPTY;
+        in[node] = EMPTY;
+        members[node] = EMPTY;
+        return node;
+    }
+
+    private void assignEpic(int node, UUID epicId) {
+        Integer e = index.get(epicId);
+        if (e != null) {
+            epic[node] = e;
+            members[e] = append(members[e], memberSize[e]++, node);
+        }
+    }
+
+    private void appendEdge(int u, int v) {
+        out[u] = append(out[u], outSize[u]++, v);
+        in[v] = append(in[v], inSize[v]++, u);
+        edgeCount++;
+    }
+
+    private static int[] append(int[] list, int size, int value) {
+        if (size == list.length) {
+            list = Arrays.copyOf(list, Math.max(4, size * 2));
+        }
+        list[size] = value;
+        return list;
+    }
+
+    private static int indexOf(int[] list, int size, int value) {
+        for (int i = 0; i < size; i++) {
+            if (list[i] == value) {
+                return i;
+            }
+        }
+        return -1;
+    }
+
+    private void allocate(int capacity) {
+        keys = keys == null ? new String[capacity] : Arrays.copyOf(keys, capacity);
+        done = done == null ? new boolean[capacity] : Arrays.copyOf(done, capacity);
+        points = points == null ? new int[capacity] : Arrays.copyOf(points, capacity);
+        epic = epic == null ? new int[capacity] : Arrays.copyOf(epic, capacity);
+        out = out == null ? new int[capacity][] : Arrays.copyOf(out, capacity);
+        outSize = outSize == null ? new int[capacity] : Arrays.copyOf(outSize, capacity);
+        in = in == null ? new int[capacity][] : Arrays.copyOf(in, capacity);
+        inSize = inSize == null ? new int[capacity] : Arrays.copyOf(inSize, capacity);
+        members = members == null ? new int[capacity][] : Arrays.copyOf(members, capacity);
+        memberSize = memberSize == null ? new int[capacity] : Arrays.copyOf(memberSize, capacity);
+        stamp = stamp == null ? new int[capacity] : Arrays.copyOf(stamp, capacity);
+        slot = slot == null ? new int[capacity] : Arrays.copyOf(slot, capacity);
+    }
+
+    /**
+     * Unfinished blockers of an issue, by key
+     */
+    @Value
+    static class Blockers {
+        List<String> direct;
+        List<String> transitive;
+    }
+
+    /**
+     * Critical path of an epic, blockers first
+     */
+    @Value
+    static class CriticalPath {
+        List<String> keys;
+        long remainingPoints;
+        int issueCount;
+    }
+}
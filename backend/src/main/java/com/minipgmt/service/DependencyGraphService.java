@@ -0,0 +1,221 @@
+package com.minipgmt.service;
+
+import com.minipgmt.domain.Issue;
+import com.minipgmt.exception.InvalidLinkException;
+import com.minipgmt.repository.IssueLinkRepository;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.util.HashMap;
+import java.util.Map;
+import java.util.UUID;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.TimeUnit;
+import java.util.function.Consumer;
+
+/**
+ * Dependency Graph Service
+ * Keeps one {@link DependencyGraph} per project in memory, loaded with a single query on first use
+ * and updated in place when links, statuses or story points change.
+ *
+ * Changes are applied when they are made, inside the writer's transaction; a rollback evicts the
+ * graph so the next reader reloads it. Every change also bumps a per-project version, and a graph
+ * loaded concurrently with a change is only cached if the version did not move while it loaded.
+ * The cache is per instance: graphs are dropped after app.dependency-graph.max-age-seconds so
+ * changes made through other instances are picked up, and new dependencies are checked for cycles
+ * under a per-project advisory lock against the committed links.
+ */
+@Service
+@RequiredArgsConstructor
+@Slf4j
+public class DependencyGraphService {
+
+    private final IssueLinkRepository issueLinkRepository;
+    private final Map<UUID, DependencyGraph> graphs = new ConcurrentHashMap<>();
+    private final Map<UUID, Long> versions = new HashMap<>();
+
+    @Value("${app.dependency-graph.max-age-seconds:600}")
+    private long maxAgeSeconds;
+
+    /**
+     * Unfinished blockers of an issue (served from the cached graph)
+     */
+    public DependencyGraph.Blockers getBlockers(Issue issue) {
+        return graph(issue.getProject().getId()).blockersOf(issue.getId());
+    }
+
+    /**
+     * Critical path of an epic (served from the cached graph)
+     */
+    public DependencyGraph.CriticalPath getCriticalPath(Issue epic) {
+        return graph(epic.getProject().getId()).criticalPathOf(epic.getId());
+    }
+
+    /**
+     * Add a blocker -> blocked dependency, rejecting duplicates and cycles.
+     * Must be called in the transaction that stores the link. Link creation is serialized per project
+     * in the database and checked against a freshly loaded graph, since the cached one can miss links
+     * made through other instances.
+     */
+    public void addDependency(UUID projectId, Issue blocker, Issue blocked) {
+        issueLinkRepository.lockProjectDependencies(projectId);
+        long version;
+        synchronized (versions) {
+            version = bump(projectId);
+            graphs.remove(projectId);
+        }
+        DependencyGraph graph = graph(projectId);
+        if (graph.hasEdge(blocker.getId(), blocked.getId())) {
+            throw new InvalidLinkException(blocker.getKey() + " already blocks " + blocked.getKey());
+        }
+        if (!graph.addEdgeIfAcyclic(blocker.getId(), blocked.getId())) {
+            throw new InvalidLinkException("Dependency cycle: " + blocked.getKey() + " already blocks "
+                    + blocker.getKey() + ", directly or through other issues");
+        }
+        afterCompletion(projectId, version, graph);
+    }
+
+    /**
+     * Remove a blocker -> blocked dependency
+     */
+    public void removeDependency(UUID projectId, UUID blockerId, UUID blockedId) {
+        apply(projectId, graph -> graph.removeEdge(blockerId, blockedId));
+    }
+
+    /**
+     * Add a newly created issue
+     */
+    public void onIssueCreated(Issue issue) {
+        UUID epicId = epicIdOf(issue);
+        apply(issue.getProject().getId(), graph -> graph.addNode(
+                issue.getId(), issue.getKey(), issue.getStatus(), issue.getStoryPoints(), epicId));
+    }
+
+    /**
+     * Apply an issue update; a changed type or parent moves issues between epics, so the graph is reloaded
+     */
+    public void onIssueUpdated(Issue issue, boolean hierarchyChanged) {
+        UUID projectId = issue.getProject().getId();
+        if (hierarchyChanged) {
+            invalidate(projectId);
+        } else {
+            apply(projectId, graph -> graph.updateNode(issue.getId(), issue.getStatus(), issue.getStoryPoints()));
+        }
+    }
+
+    /**
+     * Deleting an issue removes its subtasks and links as well, so the graph is reloaded
+     */
+    public void onIssueDeleted(Issue issue) {
+        invalidate(issue.getProject().getId());
+    }
+
+    /**
+     * Drop graphs older than the maximum age
+     */
+    @Scheduled(fixedDelay = 60000)
+    public void evictExpired() {
+        long oldest = System.nanoTime() - TimeUnit.SECONDS.toNanos(maxAgeSeconds);
+        graphs.values().removeIf(graph -> graph.getLoadedAtNanos() - oldest < 0);
+    }
+
+    private DependencyGraph graph(UUID projectId) {
+        DependencyGraph graph = graphs.get(projectId);
+        if (graph != null) {
+            return graph;
+        }
+
+        long version = versionOf(projectId);
+        long start = System.nanoTime();
+        graph = DependencyGraph.load(issueLinkRepository.findDependencyGraphRows(projectId), version);
+        log.debug("Dependency graph of project {} loaded: {} issues, {} links in {} ms", projectId,
+                graph.getNodeCount(), graph.getEdgeCount(), TimeUnit.NANOSECONDS.toMillis(System.nanoTime() - start));
+
+        synchronized (versions) {
+            if (versionOf(projectId) != version) {
+                return graph; // changed while loading: good for this caller, not for the cache
+            }
+            DependencyGraph cached = graphs.putIfAbsent(projectId, graph);
+            return cached != null ? cached : graph;
+        }
+    }
+
+    /**
+     * Apply a change to the cached graph, if any
+     */
+    private void apply(UUID projectId, Consumer<DependencyGraph> change) {
+        DependencyGraph graph;
+        long version;
+        synchronized (versions) {
+            version = bump(projectId);
+            graph = graphs.get(projectId);
+        }
+        if (graph != null) {
+            change.accept(graph);
+        }
+        afterCompletion(projectId, version, graph);
+    }
+
+    private void invalidate(UUID projectId) {
+        long version;
+        synchronized (versions) {
+            version = bump(projectId);
+            graphs.remove(projectId);
+        }
+        afterCompletion(projectId, version, null);
+    }
+
+    /**
+     * Once the transaction ends, evict the changed graph on rollback, and any graph loaded while
+     * the change was still uncommitted (it cannot contain the change) on commit
+     */
+    private void afterCompletion(UUID projectId, long version, DependencyGraph changed) {
+        if (!TransactionSynchronizationManager.isSynchronizationActive()) {
+            return;
+        }
+        TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+            @Override
+            public void afterCompletion(int status) {
+                synchronized (versions) {
+                    bump(projectId);
+                    DependencyGraph current = graphs.get(projectId);
+                    boolean stale = status == STATUS_COMMITTED
+                            ? current != changed && current != null && current.getVersion() >= version
+                            : current == changed;
+                    if (current != null && stale) {
+                        graphs.remove(projectId, current);
+                    }
+                }
+            }
+        });
+    }
+
+    private long bump(UUID projectId) {
+        synchronized (versions) {
+            return versions.merge(projectId, 1L, Long::sum);
+        }
+    }
+
+    private long versionOf(UUID projectId) {
+        synchronized (versions) {
+            return versions.getOrDefault(projectId, 0L);
+        }
+    }
+
+    private static UUID epicIdOf(Issue issue) {
+        Issue parent = issue.getParentIssue();
+        if (parent == null) {
+            return null;
+        }
+        if (parent.getType() == Issue.IssueType.EPIC) {
+            return parent.getId();
+        }
+        Issue grandparent = parent.getParentIssue();
+        return grandparent != null && grandparent.getType() == Issue.IssueType.EPIC ? grandparent.getId() : null;
+    }
+}
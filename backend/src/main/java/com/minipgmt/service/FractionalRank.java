@@ -0,0 +1,99 @@
+package com.minipgmt.service;
+
+/**
+ * Lexicographic fractional ranks: base-36 strings read as fractions 0.d1d2d3... and compared bytewise.
+ * Between any two ranks there is always another one, so moving a card rewrites only that card.
+ * Ranks never end in '0', which keeps that property. Rebalanced ranks have {@value #WIDTH} digits
+ * (V10 board_rank_at); appends step upwards at that width instead of halving the remaining space.
+ */
+public final class FractionalRank {
+
+    static final String DIGITS = "0123456789abcdefghijklmnopqrstuvwxyz";
+    static final int WIDTH = 8;
+
+    private static final int BASE = DIGITS.length();
+    private static final long SPACE = 2821109907456L; // 36^8
+    private static final long APPEND_STEP = 46656L;   // 36^3: ~30 million appends above a rebalanced column
+
+    private FractionalRank() {
+    }
+
+    /**
+     * Evenly spaced rank for position 1..total of a column, the same as V10 board_rank_at (used by bulk loaders)
+     */
+    public static String at(long position, long total) {
+        return encode(position * (SPACE / 2 / (total + 1)));
+    }
+
+    /**
+     * A rank strictly between lower and upper; null lower means the top of the column, null upper the bottom
+     */
+    public static String between(String lower, String upper) {
+        String a = lower != null ? lower : "";
+        if (upper != null && a.compareTo(upper) >= 0) {
+            throw new IllegalArgumentException("Rank " + lower + " is not below " + upper);
+        }
+        if (upper == null && lower != null) {
+            String appended = stepAbove(lower);
+            if (appended != null) {
+                return appended;
+            }
+        }
+        return midpoint(a, upper);
+    }
+
+    /**
+     * Midpoint of two ranks digit by digit; a may be empty (0), b null (1)
+     */
+    private static String midpoint(String a, String b) {
+        if (b != null) {
+            int common = 0;
+            while (common < b.length() && digitAt(a, common) == b.charAt(common)) {
+                common++;
+            }
+            if (common > 0) {
+                return b.substring(0, common) + midpoint(a.length() > common ? a.substring(common) : "", b.substring(common));
+            }
+        }
+        int digitA = a.isEmpty() ? 0 : DIGITS.indexOf(a.charAt(0));
+        int digitB = b != null ? DIGITS.indexOf(b.charAt(0)) : BASE;
+        if (digitB - digitA > 1) {
+            return String.valueOf(DIGITS.charAt((digitA + digitB) / 2));
+        }
+        if (b != null && b.length() > 1) {
+            return b.substring(0, 1);
+        }
+        return DIGITS.charAt(digitA) + midpoint(a.isEmpty() ? "" : a.substring(1), null);
+    }
+
+    /**
+     * The next {@value #WIDTH}-digit rank a fixed step above, or null when the key space is used up
+     */
+    private static String stepAbove(String rank) {
+        StringBuilder prefix = new StringBuilder(rank.length() > WIDTH ? rank.substring(0, WIDTH) : rank);
+        while (prefix.length() < WIDTH) {
+            prefix.append('0');
+        }
+        long value = Long.parseLong(prefix.toString(), BASE) + APPEND_STEP;
+        return value < SPACE ? encode(value) : null;
+    }
+
+    /**
+     * {@value #WIDTH} base-36 digits without trailing zeros
+     */
+    private static String encode(long value) {
+        StringBuilder digits = new StringBuilder(Long.toString(value, BASE));
+        while (digits.length() < WIDTH) {
+            digits.insert(0, '0');
+        }
+        int end = digits.length();
+        while (end > 1 && digits.charAt(end - 1) == '0') {
+            end--;
+        }
+        return digits.substring(0, end);
+    }
+
+    private static char digitAt(String rank, int index) {
+        return index < rank.length() ? rank.charAt(index) : '0';
+    }
+}
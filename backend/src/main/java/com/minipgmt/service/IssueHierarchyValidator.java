@@ -3,6 +3,7 @@ package com.minipgmt.service;
 import com.minipgmt.domain.Issue;
 import com.minipgmt.domain.Issue.IssueType;
 import com.minipgmt.exception.InvalidHierarchyException;
+import com.minipgmt.jfr.OperationContext;
 import com.minipgmt.repository.IssueRepository;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
@@ -126,6 +127,7 @@ public class IssueHierarchyValidator {
 
             // Get the parent's parent
             Issue parent = issueRepository.findById(currentParentId).orElse(null);
+            OperationContext.rowCount(visited.size());
             if (parent == null) {
                 break;
             }
@@ -206,6 +208,8 @@ public class IssueHierarchyValidator {
 
         Issue parent = issueRepository.findById(parentIssueId)
                 .orElseThrow(() -> new InvalidHierarchyException("Parent issue not found"));
+        OperationContext.rowCount(1);
+        OperationContext.projectKey(parent.getProject().getKey());
 
         // If parent already has a parent, adding a child would create 3 levels
         if (parent.getParentIssue() != null) {
@@ -0,0 +1,150 @@
+package com.minipgmt.service;
+
+import com.minipgmt.domain.Issue;
+import com.minipgmt.domain.IssueLink;
+import com.minipgmt.dto.BlockedStateDto;
+import com.minipgmt.dto.CriticalPathDto;
+import com.minipgmt.dto.IssueLinkDto;
+import com.minipgmt.exception.InvalidLinkException;
+import com.minipgmt.repository.IssueLinkRepository;
+import com.minipgmt.repository.IssueRepository;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.util.List;
+import java.util.UUID;
+import java.util.stream.Collectors;
+
+/**
+ * Issue Link Service
+ * Links between issues; blocks / is_blocked_by links also feed the project dependency graph
+ */
+@Service
+@RequiredArgsConstructor
+@Slf4j
+public class IssueLinkService {
+
+    private final IssueLinkRepository issueLinkRepository;
+    private final IssueRepository issueRepository;
+    private final DependencyGraphService dependencyGraphs;
+
+    /**
+     * Get links from or to an issue
+     */
+    @Transactional(readOnly = true)
+    public List<IssueLinkDto> getLinks(String issueKey) {
+        Issue issue = findIssue(issueKey);
+        return issueLinkRepository.findByIssueId(issue.getId()).stream()
+                .map(this::mapToDto)
+                .collect(Collectors.toList());
+    }
+
+    /**
+     * Link an issue (the source) to another issue
+     */
+    @Transactional
+    public IssueLinkDto createLink(String issueKey, IssueLinkDto dto) {
+        IssueLink.LinkType linkType = IssueLink.LinkType.valueOf(dto.getType().toUpperCase());
+        Issue source = findIssue(issueKey);
+        Issue target = findIssue(dto.getTargetIssueKey());
+
+        if (source.getId().equals(target.getId())) {
+            throw new InvalidLinkException("An issue cannot be linked to itself");
+        }
+        if (issueLinkRepository.existsBySourceIssueIdAndTargetIssueIdAndLinkType(source.getId(), target.getId(), linkType)) {
+            throw new InvalidLinkException("Link already exists");
+        }
+
+        IssueLink link = IssueLink.builder()
+                .sourceIssue(source)
+                .targetIssue(target)
+                .linkType(linkType)
+                .build();
+
+        if (linkType.isDependency()) {
+            UUID projectId = source.getProject().getId();
+            if (!projectId.equals(target.getProject().getId())) {
+                throw new InvalidLinkException("Dependencies can only link issues of the same project");
+            }
+            dependencyGraphs.addDependency(projectId, link.getBlocker(), link.getBlocked());
+        }
+
+        link = issueLinkRepository.save(link);
+        log.info("Issue link created: {} {} {}", source.getKey(), linkType, target.getKey());
+        return mapToDto(link);
+    }
+
+    /**
+     * Delete a link of an issue
+     */
+    @Transactional
+    public void deleteLink(String issueKey, UUID linkId) {
+        IssueLink link = issueLinkRepository.findById(linkId)
+                .filter(found -> found.getSourceIssue().getKey().equals(issueKey)
+                        || found.getTargetIssue().getKey().equals(issueKey))
+                .orElseThrow(() -> new RuntimeException("Issue link not found: " + linkId));
+
+        issueLinkRepository.delete(link);
+        if (link.getLinkType().isDependency()) {
+            dependencyGraphs.removeDependency(link.getSourceIssue().getProject().getId(),
+                    link.getBlocker().getId(), link.getBlocked().getId());
+        }
+        log.info("Issue link deleted: {}", linkId);
+    }
+
+    /**
+     * Whether an issue is blocked by unfinished issues, directly or transitively
+     */
+    @Transactional(readOnly = true)
+    public BlockedStateDto getBlockedState(String issueKey) {
+        Issue issue = findIssue(issueKey);
+        DependencyGraph.Blockers blockers = dependencyGraphs.getBlockers(issue);
+        return BlockedStateDto.builder()
+                .issueKey(issue.getKey())
+                .blocked(!blockers.getDirect().isEmpty())
+                .blockedBy(blockers.getDirect())
+                .transitiveBlockers(blockers.getTransitive())
+                .build();
+    }
+
+    /**
+     * Critical path of an epic
+     */
+    @Transactional(readOnly = true)
+    public CriticalPathDto getCriticalPath(String epicKey) {
+        Issue epic = findIssue(epicKey);
+        if (epic.getType() != Issue.IssueType.EPIC) {
+            throw new RuntimeException("Critical path is only available for epics: " + epicKey);
+        }
+        DependencyGraph.CriticalPath criticalPath = dependencyGraphs.getCriticalPath(epic);
+        return CriticalPathDto.builder()
+                .epicKey(epic.getKey())
+                .path(criticalPath.getKeys())
+                .remainingPoints(criticalPath.getRemainingPoints())
+                .issueCount(criticalPath.getIssueCount())
+                .build();
+    }
+
+    private Issue findIssue(String key) {
+        return issueRepository.findByKey(key)
+                .orElseThrow(() -> new RuntimeException("Issue not found: " + key));
+    }
+
+    /**
+     * Map IssueLink entity to DTO
+     */
+    private IssueLinkDto mapToDto(IssueLink link) {
+        return IssueLinkDto.builder()
+                .id(link.getId())
+                .type(link.getLinkType().name().toLowerCase())
+                .sourceIssueKey(link.getSourceIssue().getKey())
+                .sourceIssueTitle(link.getSourceIssue().getTitle())
+                .targetIssueKey(link.getTargetIssue().getKey())
+                .targetIssueTitle(link.getTargetIssue().getTitle())
+                .targetIssueStatus(link.getTargetIssue().getStatus())
+                .createdAt(link.getCreatedAt())
+                .build();
+    }
+}
@@ -4,18 +4,33 @@ import com.minipgmt.domain.Issue;
 import com.minipgmt.domain.Project;
 import com.minipgmt.domain.Sprint;
 import com.minipgmt.domain.User;
+import com.minipgmt.dto.BoardMoveDto;
+import com.minipgmt.dto.ChangeFeedDto;
+import com.minipgmt.dto.DeletedIssueDto;
 import com.minipgmt.dto.IssueDto;
+import com.minipgmt.dto.IssueTreeNodeDto;
 import com.minipgmt.dto.UserSummaryDto;
+import com.minipgmt.event.DomainEventPublisher;
+import com.minipgmt.event.DomainEventType;
+import com.minipgmt.jfr.OperationContext;
 import com.minipgmt.repository.IssueRepository;
+import com.minipgmt.repository.IssueRepository.IssueTombstone;
+import com.minipgmt.repository.IssueRepository.IssueTreeRow;
+import com.minipgmt.repository.IssueRepository.ProgressRollup;
 import com.minipgmt.repository.ProjectRepository;
 import com.minipgmt.repository.SprintRepository;
 import com.minipgmt.repository.UserRepository;
+import com.minipgmt.service.ProgressRollupService.Contribution;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
+import org.springframework.data.domain.PageRequest;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
+import java.util.ArrayList;
+import java.util.HashMap;
 import java.util.List;
+import java.util.Map;
 import java.util.UUID;
 import java.util.stream.Collectors;
 
@@ -28,11 +43,18 @@ import java.util.stream.Collectors;
 @Slf4j
 public class IssueService {
 
+    private static final int MAX_CHANGES_PAGE_SIZE = 500;
+
     private final IssueRepository issueRepository;
     private final ProjectRepository projectRepository;
     private final UserRepository userRepository;
     private final SprintRepository sprintRepository;
     private final IssueHierarchyValidator hierarchyValidator;
+    private final ProgressRollupService progressRollups;
+    private final DependencyGraphService dependencyGraphs;
+    private final BoardRankService boardRanks;
+    private final ChangeFeedService changeFeed;
+    private final DomainEventPublisher eventPublisher;
 
     /**
      * Get all issues for a project
@@ -42,8 +64,23 @@ public class IssueService {
         Project project = projectRepository.findByKey(projectKey)
                 .orElseThrow(() -> new RuntimeException("Project not found: " + projectKey));
 
-        return issueRepository.findByProjectId(project.getId()).stream()
-                .map(this::mapToDto)
+        // Two queries for the whole board instead of one subtask query per issue
+        List<Issue> children = issueRepository.findChildrenByParentProjectId(project.getId());
+        Map<UUID, List<Issue>> childrenByParentId = children.stream()
+                .collect(Collectors.groupingBy(child -> child.getParentIssue().getId()));
+
+        List<Issue> issues = issueRepository.findByProjectIdWithDetails(project.getId());
+        Map<UUID, ProgressRollup> epicProgress = issueRepository.findEpicProgressByProjectId(project.getId()).stream()
+                .collect(Collectors.toMap(ProgressRollup::getId, rollup -> rollup));
+        OperationContext.rowCount(issues.size() + children.size());
+        return issues.stream()
+                .map(issue -> {
+                    IssueDto dto = mapToDto(issue, childrenByParentId.getOrDefault(issue.getId(), List.of()));
+                    if (issue.getType() == Issue.IssueType.EPIC) {
+                        dto.setProgress(ProgressRollupService.toDto(epicProgress.get(issue.getId())));
+                    }
+                    return dto;
+                })
                 .collect(Collectors.toList());
     }
 
@@ -54,6 +91,7 @@ public class IssueService {
     public IssueDto getIssueByKey(String key) {
         Issue issue = issueRepository.findByKey(key)
                 .orElseThrow(() -> new RuntimeException("Issue not found: " + key));
+        OperationContext.projectKey(issue.getProject().getKey());
         return mapToDto(issue);
     }
 
@@ -85,6 +123,7 @@ public class IssueService {
         // Get project
         Project project = projectRepository.findByKey(dto.getProjectKey())
                 .orElseThrow(() -> new RuntimeException("Project not found: " + dto.getProjectKey()));
+        OperationContext.projectKey(project.getKey());
 
         // Get reporter
         User reporter = userRepository.findById(reporterId)
@@ -102,6 +141,10 @@ public class IssueService {
             throw new RuntimeException("Issue key already exists: " + issueKey);
         }
 
+        // New cards go to the bottom of their board column
+        String status = dto.getStatus() != null ? dto.getStatus() : "todo";
+        String boardRank = boardRanks.rankForAppend(project.getId(), status);
+
         // Build issue
         Issue.IssueBuilder builder = Issue.builder()
                 .key(issueKey)
@@ -109,7 +152,8 @@ public class IssueService {
                 .description(dto.getDescription())
                 .type(Issue.IssueType.valueOf(dto.getType().toUpperCase()))
                 .priority(Issue.IssuePriority.valueOf(dto.getPriority().toUpperCase()))
-                .status(dto.getStatus() != null ? dto.getStatus() : "todo")
+                .status(status)
+                .boardRank(boardRank)
                 .project(project)
                 .reporter(reporter)
                 .storyPoints(dto.getStoryPoints())
@@ -152,7 +196,11 @@ public class IssueService {
         }
 
         Issue issue = builder.build();
+        changeFeed.recordChange(issue, null);
         issue = issueRepository.save(issue);
+        progressRollups.apply(null, progressRollups.contributionOf(issue));
+        dependencyGraphs.onIssueCreated(issue);
+        publishIssueEvent(DomainEventType.ISSUE_CREATED, issue, reporterId);
         log.info("Issue created: {}", issue.getKey());
 
         return mapToDto(issue);
@@ -165,6 +213,10 @@ public class IssueService {
     public IssueDto updateIssue(String key, IssueDto dto) {
         Issue issue = issueRepository.findByKey(key)
                 .orElseThrow(() -> new RuntimeException("Issue not found: " + key));
+        OperationContext.projectKey(issue.getProject().getKey());
+        Contribution progressBefore = progressRollups.contributionOf(issue);
+        Issue formerParent = issue.getParentIssue();
+        Issue.IssueType formerType = issue.getType();
 
         // Update fields if provided
         if (dto.getTitle() != null) {
@@ -179,7 +231,9 @@ public class IssueService {
         if (dto.getPriority() != null) {
             issue.setPriority(Issue.IssuePriority.valueOf(dto.getPriority().toUpperCase()));
         }
-        if (dto.getStatus() != null) {
+        if (dto.getStatus() != null && !dto.getStatus().equals(issue.getStatus())) {
+            // A status change moves the card to the bottom of its new board column
+            issue.setBoardRank(boardRanks.rankForAppend(issue.getProject().getId(), dto.getStatus()));
             issue.setStatus(dto.getStatus());
         }
         if (dto.getStoryPoints() != null) {
@@ -230,12 +284,52 @@ public class IssueService {
             issue.setParentIssue(newParent);
         }
 
+        changeFeed.recordChange(issue, formerParent);
         issue = issueRepository.save(issue);
+        progressRollups.apply(progressBefore, progressRollups.contributionOf(issue));
+        if (issue.getType() != formerType) {
+            progressRollups.applyTypeChange(issue);
+        }
+        dependencyGraphs.onIssueUpdated(issue, dto.getType() != null || dto.getParentIssueId() != null);
+        publishIssueEvent(DomainEventType.ISSUE_UPDATED, issue, null);
         log.info("Issue updated: {}", issue.getKey());
 
         return mapToDto(issue);
     }
 
+    /**
+     * Move an issue on the board: reorder it within its column or drop it into another status column.
+     * Only the moved issue's row is written; a status change also updates rollups and publishes an event.
+     */
+    @Transactional
+    public BoardMoveDto moveIssue(String key, BoardMoveDto move) {
+        Issue issue = issueRepository.findByKey(key)
+                .orElseThrow(() -> new RuntimeException("Issue not found: " + key));
+        String status = move.getStatus() != null ? move.getStatus() : issue.getStatus();
+        boolean statusChanged = !status.equals(issue.getStatus());
+        Contribution progressBefore = statusChanged ? progressRollups.contributionOf(issue) : null;
+
+        issue.setBoardRank(boardRanks.rankForMove(issue, status, move.getAfterKey(), move.getBeforeKey()));
+        issue.setStatus(status);
+        changeFeed.recordChange(issue, null);
+        issue = issueRepository.save(issue);
+
+        if (statusChanged) {
+            progressRollups.apply(progressBefore, progressRollups.contributionOf(issue));
+            dependencyGraphs.onIssueUpdated(issue, false);
+            publishIssueEvent(DomainEventType.ISSUE_UPDATED, issue, null);
+        }
+        log.info("Issue moved: {} to {} at {}", key, status, issue.getBoardRank());
+
+        return BoardMoveDto.builder()
+                .key(issue.getKey())
+                .status(issue.getStatus())
+                .afterKey(move.getAfterKey())
+                .beforeKey(move.getBeforeKey())
+                .boardRank(issue.getBoardRank())
+                .build();
+    }
+
     /**
      * Delete issue
      */
@@ -243,8 +337,14 @@ public class IssueService {
     public void deleteIssue(String key) {
         Issue issue = issueRepository.findByKey(key)
                 .orElseThrow(() -> new RuntimeException("Issue not found: " + key));
+        OperationContext.projectKey(issue.getProject().getKey());
 
+        changeFeed.recordDelete(issue);
+        progressRollups.applyDelete(issue);
+        dependencyGraphs.onIssueDeleted(issue);
+        publishIssueEvent(DomainEventType.ISSUE_DELETED, issue, null);
         issueRepository.delete(issue);
+        OperationContext.rowCount(1);
         log.info("Issue deleted: {}", key);
     }
 
@@ -255,6 +355,7 @@ public class IssueService {
     public List<IssueDto> getSubtasks(String parentKey) {
         Issue parentIssue = issueRepository.findByKey(parentKey)
                 .orElseThrow(() -> new RuntimeException("Parent issue not found: " + parentKey));
+        OperationContext.projectKey(parentIssue.getProject().getKey());
 
         return issueRepository.findByParentIssueId(parentIssue.getId()).stream()
                 .map(this::mapToDtoWithoutSubtasks) // Prevent infinite recursion
@@ -272,9 +373,183 @@ public class IssueService {
     }
 
     /**
-     * Map Issue entity to DTO with subtasks populated
+     * Get an issue with all of its descendants (one recursive query)
+     */
+    @Transactional(readOnly = true)
+    public IssueTreeNodeDto getIssueTree(String key) {
+        List<IssueTreeRow> rows = issueRepository.findTreeByRootKey(key);
+        if (rows.isEmpty()) {
+            throw new RuntimeException("Issue not found: " + key);
+        }
+        OperationContext.rowCount(rows.size());
+        return buildTree(rows).get(0);
+    }
+
+    /**
+     * Get the issue hierarchy of a project: top-level issues with all descendants (one recursive query)
+     */
+    @Transactional(readOnly = true)
+    public List<IssueTreeNodeDto> getProjectHierarchy(String projectKey) {
+        List<IssueTreeRow> rows = issueRepository.findHierarchyByProjectKey(projectKey);
+        // Only an empty result needs a second query to tell "no issues" from "no project"
+        if (rows.isEmpty() && !projectRepository.existsByKey(projectKey)) {
+            throw new RuntimeException("Project not found: " + projectKey);
+        }
+        OperationContext.rowCount(rows.size());
+        return buildTree(rows);
+    }
+
+    /**
+     * Issues of a project created, changed or deleted after change number since, oldest change first.
+     * The work is proportional to the number of changes, not to the size of the project.
+     */
+    @Transactional(readOnly = true)
+    public ChangeFeedDto getChanges(String projectKey, long since, int limit) {
+        Project project = projectRepository.findByKey(projectKey)
+                .orElseThrow(() -> new RuntimeException("Project not found: " + projectKey));
+        int pageSize = Math.max(1, Math.min(limit, MAX_CHANGES_PAGE_SIZE));
+
+        // Read the sequence first: every change numbered up to it has committed, later ones wait for the next poll
+        long upTo = issueRepository.findChangeSeq(project.getId()).orElse(0L);
+        List<Issue> changed = issueRepository.findChangedSince(project.getId(), since, upTo, PageRequest.of(0, pageSize + 1));
+        List<IssueTombstone> tombstones = issueRepository.findTombstonesSince(project.getId(), since, upTo, pageSize + 1);
+
+        // Merge both by change number, one extra row of either telling whether another page exists
+        List<Issue> issues = new ArrayList<>();
+        List<DeletedIssueDto> deleted = new ArrayList<>();
+        long last = upTo;
+        int i = 0;
+        int t = 0;
+        while (issues.size() + deleted.size() < pageSize && (i < changed.size() || t < tombstones.size())) {
+            if (t == tombstones.size() || (i < changed.size() && changed.get(i).getChangeSeq() < tombstones.get(t).getChangeSeq())) {
+                Issue issue = changed.get(i++);
+                issues.add(issue);
+                last = issue.getChangeSeq();
+            } else {
+                IssueTombstone tombstone = tombstones.get(t++);
+                deleted.add(DeletedIssueDto.builder()
+                        .id(tombstone.getIssueId())
+                        .key(tombstone.getIssueKey())
+                        .changeSeq(tombstone.getChangeSeq())
+                        .build());
+                last = tombstone.getChangeSeq();
+            }
+        }
+        boolean hasMore = i < changed.size() || t < tombstones.size();
+
+        OperationContext.rowCount(issues.size() + deleted.size());
+        return ChangeFeedDto.builder()
+                .projectKey(project.getKey())
+                .since(since)
+                .changeSeq(hasMore ? last : upTo)
+                .hasMore(hasMore)
+                .issues(mapToDtos(issues))
+                .deleted(deleted)
+                .build();
+    }
+
+    /**
+     * Map issues to DTOs with two queries for all of their subtasks and epic progress
+     */
+    private List<IssueDto> mapToDtos(List<Issue> issues) {
+        List<UUID> parentIds = new ArrayList<>();
+        List<UUID> epicIds = new ArrayList<>();
+        for (Issue issue : issues) {
+            if (hierarchyValidator.canHaveChildren(issue.getType())) {
+                parentIds.add(issue.getId());
+            }
+            if (issue.getType() == Issue.IssueType.EPIC) {
+                epicIds.add(issue.getId());
+            }
+        }
+        Map<UUID, List<Issue>> childrenByParentId = parentIds.isEmpty() ? Map.of()
+                : issueRepository.findChildrenByParentIds(parentIds).stream()
+                        .collect(Collectors.groupingBy(child -> child.getParentIssue().getId()));
+        Map<UUID, ProgressRollup> epicProgress = epicIds.isEmpty() ? Map.of()
+                : issueRepository.findEpicProgressByIds(epicIds).stream()
+                        .collect(Collectors.toMap(ProgressRollup::getId, rollup -> rollup));
+
+        return issues.stream()
+                .map(issue -> {
+                    IssueDto dto = mapToDto(issue, childrenByParentId.getOrDefault(issue.getId(), List.of()));
+                    if (issue.getType() == Issue.IssueType.EPIC) {
+                        dto.setProgress(ProgressRollupService.toDto(epicProgress.get(issue.getId())));
+                    }
+                    return dto;
+                })
+                .collect(Collectors.toList());
+    }
+
+    /**
+     * Link tree rows to their parents in O(n); rows whose parent is not in the result are roots
+     */
+    private static List<IssueTreeNodeDto> buildTree(List<IssueTreeRow> rows) {
+        Map<UUID, IssueTreeNodeDto> nodesById = new HashMap<>(rows.size() * 4 / 3 + 1);
+        for (IssueTreeRow row : rows) {
+            nodesById.put(row.getId(), IssueTreeNodeDto.builder()
+                    .id(row.getId())
+                    .key(row.getKey())
+                    .title(row.getTitle())
+                    .type(row.getType().toLowerCase())
+                    .priority(row.getPriority().toLowerCase())
+                    .status(row.getStatus())
+                    .storyPoints(row.getStoryPoints())
+                    .assignee(row.getAssigneeId() != null ? UserSummaryDto.builder()
+                            .id(row.getAssigneeId())
+                            .name(row.getAssigneeName())
+                            .avatarUrl(row.getAssigneeAvatarUrl())
+                            .build() : null)
+                    .children(new ArrayList<>())
+                    .build());
+        }
+
+        List<IssueTreeNodeDto> roots = new ArrayList<>();
+        for (IssueTreeRow row : rows) {
+            IssueTreeNodeDto node = nodesById.get(row.getId());
+            IssueTreeNodeDto parent = row.getParentIssueId() != null ? nodesById.get(row.getParentIssueId()) : null;
+            if (parent != null) {
+                parent.getChildren().add(node);
+            } else {
+                roots.add(node);
+            }
+        }
+        return roots;
+    }
+
+    /**
+     * Record an issue event in the outbox (same transaction as the mutation)
+     */
+    private void publishIssueEvent(DomainEventType type, Issue issue, UUID actorId) {
+        Map<String, Object> payload = new HashMap<>();
+        payload.put("key", issue.getKey());
+        payload.put("projectId", issue.getProject().getId());
+        payload.put("projectKey", issue.getProject().getKey());
+        payload.put("title", issue.getTitle());
+        payload.put("status", issue.getStatus());
+        if (actorId != null) {
+            payload.put("actorId", actorId);
+        }
+        eventPublisher.publish(type, issue.getId(), payload);
+    }
+
+    /**
+     * Map Issue entity to DTO with subtasks populated (and rolled-up progress for epics)
      */
     private IssueDto mapToDto(Issue issue) {
+        List<Issue> children = hierarchyValidator.canHaveChildren(issue.getType())
+                ? issueRepository.findByParentIssueId(issue.getId())
+                : List.of();
+        IssueDto dto = mapToDto(issue, children);
+        if (issue.getType() == Issue.IssueType.EPIC) {
+            dto.setProgress(ProgressRollupService.toDto(issueRepository.findEpicProgress(issue.getId()).orElse(null)));
+        }
+        return dto;
+    }
+
+    /**
+     * Map Issue entity to DTO with already loaded children as subtasks
+     */
+    private IssueDto mapToDto(Issue issue, List<Issue> children) {
         IssueDto.IssueDtoBuilder builder = IssueDto.builder()
                 .id(issue.getId())
                 .key(issue.getKey())
@@ -283,6 +558,7 @@ public class IssueService {
                 .type(issue.getType().name().toLowerCase())
                 .priority(issue.getPriority().name().toLowerCase())
                 .status(issue.getStatus())
+                .boardRank(issue.getBoardRank())
                 .projectKey(issue.getProject().getKey())
                 .sprintId(issue.getSprint() != null ? issue.getSprint().getId() : null)
                 .parentIssueId(issue.getParentIssue() != null ? issue.getParentIssue().getId() : null)
@@ -292,10 +568,11 @@ public class IssueService {
                 .dueDate(issue.getDueDate())
                 .estimateHours(issue.getEstimateHours())
                 .loggedHours(issue.getLoggedHours())
-                .commentCount(0L) // TODO: Count from comment repository
-                .attachmentCount(0L) // TODO: Count from attachment repository
+                .commentCount((long) issue.getCommentCount())
+                .attachmentCount((long) issue.getAttachmentCount())
                 .createdAt(issue.getCreatedAt())
-                .updatedAt(issue.getUpdatedAt());
+                .updatedAt(issue.getUpdatedAt())
+                .changeSeq(issue.getChangeSeq());
 
         // Add parent issue key if it has a parent
         if (issue.getParentIssue() != null) {
@@ -304,7 +581,7 @@ public class IssueService {
 
         // Populate subtasks if issue can have children
         if (hierarchyValidator.canHaveChildren(issue.getType())) {
-            List<IssueDto> subtasks = issueRepository.findByParentIssueId(issue.getId()).stream()
+            List<IssueDto> subtasks = children.stream()
                     .map(this::mapToDtoWithoutSubtasks) // Prevent infinite recursion
                     .collect(Collectors.toList());
             builder.subtasks(subtasks);
@@ -325,6 +602,7 @@ public class IssueService {
                 .type(issue.getType().name().toLowerCase())
                 .priority(issue.getPriority().name().toLowerCase())
                 .status(issue.getStatus())
+                .boardRank(issue.getBoardRank())
                 .projectKey(issue.getProject().getKey())
                 .sprintId(issue.getSprint() != null ? issue.getSprint().getId() : null)
                 .parentIssueId(issue.getParentIssue() != null ? issue.getParentIssue().getId() : null)
@@ -335,10 +613,11 @@ public class IssueService {
                 .dueDate(issue.getDueDate())
                 .estimateHours(issue.getEstimateHours())
                 .loggedHours(issue.getLoggedHours())
-                .commentCount(0L) // TODO: Count from comment repository
-                .attachmentCount(0L) // TODO: Count from attachment repository
+                .commentCount((long) issue.getCommentCount())
+                .attachmentCount((long) issue.getAttachmentCount())
                 .createdAt(issue.getCreatedAt())
                 .updatedAt(issue.getUpdatedAt())
+                .changeSeq(issue.getChangeSeq())
                 .subtasks(null) // Explicitly null to prevent recursion
                 .build();
     }
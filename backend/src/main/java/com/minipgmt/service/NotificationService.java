@@ -0,0 +1,150 @@
+package com.minipgmt.service;
+
+import com.minipgmt.domain.Notification;
+import com.minipgmt.dto.CursorPageDto;
+import com.minipgmt.dto.NotificationDto;
+import com.minipgmt.event.DomainEvent;
+import com.minipgmt.repository.NotificationRepository;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.context.event.EventListener;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Propagation;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.util.List;
+import java.util.Map;
+import java.util.UUID;
+import java.util.stream.Collectors;
+
+/**
+ * Notification Service
+ * Fans domain events out to project members and tracks unread counts
+ */
+@Service
+@RequiredArgsConstructor
+@Slf4j
+public class NotificationService {
+
+    private static final int MAX_PAGE_SIZE = 100;
+    private static final UUID NO_USER = new UUID(0L, 0L);
+
+    private final NotificationRepository notificationRepository;
+
+    /**
+     * Get a page of notifications for a user, newest first
+     */
+    @Transactional(readOnly = true)
+    public CursorPageDto<NotificationDto> getNotifications(UUID userId, String cursor, int limit) {
+        int pageSize = Math.max(1, Math.min(limit, MAX_PAGE_SIZE));
+
+        // Fetch one extra row to know whether another page exists
+        List<Notification> rows;
+        if (cursor == null || cursor.isEmpty()) {
+            rows = notificationRepository.findFirstPage(userId, pageSize + 1);
+        } else {
+            KeysetCursor after = KeysetCursor.decode(cursor);
+            rows = notificationRepository.findPageBefore(userId, after.getCreatedAt(), after.getId(), pageSize + 1);
+        }
+
+        boolean hasMore = rows.size() > pageSize;
+        List<Notification> page = hasMore ? rows.subList(0, pageSize) : rows;
+        Notification last = page.isEmpty() ? null : page.get(page.size() - 1);
+
+        return CursorPageDto.<NotificationDto>builder()
+                .items(page.stream().map(this::mapToDto).collect(Collectors.toList()))
+                .nextCursor(hasMore ? new KeysetCursor(last.getCreatedAt(), last.getId()).encode() : null)
+                .build();
+    }
+
+    /**
+     * Get unread notification count for a user
+     */
+    @Transactional(readOnly = true)
+    public long getUnreadCount(UUID userId) {
+        return notificationRepository.findUnreadCount(userId).orElse(0L);
+    }
+
+    /**
+     * Notify every member of a project, optionally excluding the user who caused the event
+     */
+    @Transactional
+    public int notifyProjectMembers(UUID projectId, UUID excludeUserId, String title, String message,
+                                    String type, String entityType, UUID entityId) {
+        int recipients = notificationRepository.fanOutToProjectMembers(
+                projectId,
+                excludeUserId != null ? excludeUserId : NO_USER,
+                title, message, type, entityType, entityId
+        );
+        log.debug("Notification '{}' fanned out to {} members of project {}", type, recipients, projectId);
+        return recipients;
+    }
+
+    /**
+     * Mark a single notification as read
+     */
+    @Transactional
+    public void markRead(UUID notificationId, UUID userId) {
+        notificationRepository.markRead(notificationId, userId);
+    }
+
+    /**
+     * Mark all notifications of a user as read
+     */
+    @Transactional
+    public void markAllRead(UUID userId) {
+        notificationRepository.markAllRead(userId);
+        log.info("All notifications marked read for user: {}", userId);
+    }
+
+    /**
+     * Fan issue events out to the members of the issue's project.
+     * Runs in its own transaction so a failure does not roll back the relay batch.
+     */
+    @EventListener(condition = "#event.type.aggregateType == 'Issue'")
+    @Transactional(propagation = Propagation.REQUIRES_NEW)
+    public void onIssueEvent(DomainEvent event) {
+        Map<String, Object> payload = event.getPayload();
+        String key = String.valueOf(payload.get("key"));
+        String title = String.valueOf(payload.get("title"));
+
+        String heading;
+        switch (event.getType()) {
+            case ISSUE_CREATED:
+                heading = "Issue created: " + key;
+                break;
+            case ISSUE_DELETED:
+                heading = "Issue deleted: " + key;
+                break;
+            default:
+                heading = "Issue updated: " + key;
+                break;
+        }
+
+        notifyProjectMembers(
+                UUID.fromString(String.valueOf(payload.get("projectId"))),
+                payload.get("actorId") != null ? UUID.fromString(String.valueOf(payload.get("actorId"))) : null,
+                heading,
+                title,
+                event.getType().name(),
+                "issue",
+                event.getAggregateId()
+        );
+    }
+
+    /**
+     * Map Notification entity to DTO
+     */
+    private NotificationDto mapToDto(Notification notification) {
+        return NotificationDto.builder()
+                .id(notification.getId())
+                .title(notification.getTitle())
+                .message(notification.getMessage())
+                .type(notification.getType())
+                .isRead(notification.getIsRead())
+                .entityType(notification.getEntityType())
+                .entityId(notification.getEntityId())
+                .createdAt(notification.getCreatedAt())
+                .build();
+    }
+}
@@ -0,0 +1,179 @@
+package com.minipgmt.service;
+
+import com.minipgmt.domain.Issue;
+import com.minipgmt.dto.ProgressDto;
+import com.minipgmt.repository.IssueRepository;
+import com.minipgmt.repository.IssueRepository.ProgressRollup;
+import lombok.RequiredArgsConstructor;
+import lombok.Value;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Propagation;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.util.UUID;
+
+/**
+ * Maintains the project_progress and epic_progress rollups.
+ * IssueService takes a {@link Contribution} of an issue before and after a change and applies the
+ * difference as +/- deltas in its own transaction. A project counts all of its issues; an epic counts
+ * its direct children, and is recomputed from them when an issue becomes or stops being an epic.
+ */
+@Service
+@RequiredArgsConstructor
+@Slf4j
+public class ProgressRollupService {
+
+    private final IssueRepository issueRepository;
+
+    /**
+     * What an issue currently adds to its project and epic rollups
+     */
+    public Contribution contributionOf(Issue issue) {
+        Issue parent = issue.getParentIssue();
+        boolean done = isDone(issue.getStatus());
+        long points = issue.getStoryPoints() != null ? issue.getStoryPoints() : 0;
+        return new Contribution(
+                issue.getProject().getId(),
+                parent != null && parent.getType() == Issue.IssueType.EPIC ? parent.getId() : null,
+                done ? 1 : 0,
+                points,
+                done ? points : 0
+        );
+    }
+
+    /**
+     * Apply the difference between two contributions of the same issue; null means the issue did not exist
+     */
+    @Transactional(propagation = Propagation.MANDATORY)
+    public void apply(Contribution before, Contribution after) {
+        if (before != null && after != null) {
+            applyProject(after.getProjectId(), 0,
+                    after.getDoneIssues() - before.getDoneIssues(),
+                    after.getPoints() - before.getPoints(),
+                    after.getDonePoints() - before.getDonePoints());
+        } else if (after != null) {
+            applyProject(after.getProjectId(), 1, after.getDoneIssues(), after.getPoints(), after.getDonePoints());
+        } else if (before != null) {
+            applyProject(before.getProjectId(), -1, -before.getDoneIssues(), -before.getPoints(), -before.getDonePoints());
+        }
+
+        UUID epicBefore = before != null ? before.getEpicId() : null;
+        UUID epicAfter = after != null ? after.getEpicId() : null;
+        if (epicBefore != null && epicBefore.equals(epicAfter)) {
+            applyEpic(epicAfter, 0,
+                    after.getDoneIssues() - before.getDoneIssues(),
+                    after.getPoints() - before.getPoints(),
+                    after.getDonePoints() - before.getDonePoints());
+            return;
+        }
+        // Re-parented: lock the two epic rows in id order so concurrent moves cannot deadlock
+        boolean beforeFirst = epicAfter == null || (epicBefore != null && epicBefore.compareTo(epicAfter) < 0);
+        if (beforeFirst) {
+            removeFromEpic(before);
+            addToEpic(after);
+        } else {
+            addToEpic(after);
+            removeFromEpic(before);
+        }
+    }
+
+    /**
+     * Remove an issue that is about to be deleted together with its descendants (ON DELETE CASCADE)
+     */
+    @Transactional(propagation = Propagation.MANDATORY)
+    public void applyDelete(Issue issue) {
+        Contribution contribution = contributionOf(issue);
+        ProgressRollup subtree = issueRepository.sumSubtreeProgress(issue.getId());
+        applyProject(contribution.getProjectId(), -subtree.getTotalIssues(), -subtree.getDoneIssues(),
+                -subtree.getTotalPoints(), -subtree.getDonePoints());
+        removeFromEpic(contribution);
+        // the epic's own rollup row, if it is one, goes with it by ON DELETE CASCADE
+    }
+
+    /**
+     * An issue's type changed: its children now count towards it (became an epic) or no longer do
+     */
+    @Transactional(propagation = Propagation.MANDATORY)
+    public void applyTypeChange(Issue issue) {
+        issueRepository.deleteEpicProgress(issue.getId());
+        if (issue.getType() == Issue.IssueType.EPIC) {
+            issueRepository.insertEpicProgressFromChildren(issue.getId());
+        }
+    }
+
+    /**
+     * Recompute both rollups from the issues table, for loads that bypass IssueService
+     */
+    @Transactional
+    public void rebuild() {
+        issueRepository.deleteAllProjectProgress();
+        int projects = issueRepository.insertProjectProgressFromIssues();
+        issueRepository.deleteAllEpicProgress();
+        int epics = issueRepository.insertEpicProgressFromIssues();
+        log.info("Progress rollups rebuilt: {} projects, {} epics", projects, epics);
+    }
+
+    public static ProgressDto toDto(ProgressRollup rollup) {
+        if (rollup == null) {
+            return ProgressDto.builder().totalIssues(0L).doneIssues(0L).totalPoints(0L).donePoints(0L).percent(0).build();
+        }
+        return ProgressDto.builder()
+                .totalIssues(rollup.getTotalIssues())
+                .doneIssues(rollup.getDoneIssues())
+                .totalPoints(rollup.getTotalPoints())
+                .donePoints(rollup.getDonePoints())
+                .percent(percent(rollup))
+                .build();
+    }
+
+    public static int percent(ProgressRollup rollup) {
+        if (rollup == null) {
+            return 0;
+        }
+        if (rollup.getTotalPoints() > 0) {
+            return (int) (rollup.getDonePoints() * 100 / rollup.getTotalPoints());
+        }
+        return rollup.getTotalIssues() > 0 ? (int) (rollup.getDoneIssues() * 100 / rollup.getTotalIssues()) : 0;
+    }
+
+    static boolean isDone(String status) {
+        return "done".equalsIgnoreCase(status);
+    }
+
+    private void addToEpic(Contribution contribution) {
+        if (contribution != null && contribution.getEpicId() != null) {
+            applyEpic(contribution.getEpicId(), 1, contribution.getDoneIssues(), contribution.getPoints(), contribution.getDonePoints());
+        }
+    }
+
+    private void removeFromEpic(Contribution contribution) {
+        if (contribution != null && contribution.getEpicId() != null) {
+            applyEpic(contribution.getEpicId(), -1, -contribution.getDoneIssues(), -contribution.getPoints(), -contribution.getDonePoints());
+        }
+    }
+
+    private void applyProject(UUID projectId, long issues, long doneIssues, long points, long donePoints) {
+        if (issues != 0 || doneIssues != 0 || points != 0 || donePoints != 0) {
+            issueRepository.addProjectProgress(projectId, issues, doneIssues, points, donePoints);
+        }
+    }
+
+    private void applyEpic(UUID epicId, long issues, long doneIssues, long points, long donePoints) {
+        if (issues != 0 || doneIssues != 0 || points != 0 || donePoints != 0) {
+            issueRepository.addEpicProgress(epicId, issues, doneIssues, points, donePoints);
+        }
+    }
+
+    /**
+     * An issue's share of its project and epic rollups
+     */
+    @Value
+    public static class Contribution {
+        UUID projectId;
+        UUID epicId; // parent, when the parent is an epic
+        long doneIssues;
+        long points;
+        long donePoints;
+    }
+}
@@ -4,7 +4,12 @@ import com.minipgmt.domain.Project;
 import com.minipgmt.domain.User;
 import com.minipgmt.dto.ProjectDto;
 import com.minipgmt.dto.UserSummaryDto;
+import com.minipgmt.dto.WorkloadDto;
+import com.minipgmt.event.DomainEventPublisher;
+import com.minipgmt.event.DomainEventType;
+import com.minipgmt.jfr.OperationContext;
 import com.minipgmt.repository.IssueRepository;
+import com.minipgmt.repository.IssueRepository.ProgressRollup;
 import com.minipgmt.repository.ProjectRepository;
 import com.minipgmt.repository.UserRepository;
 import lombok.RequiredArgsConstructor;
@@ -12,7 +17,9 @@ import lombok.extern.slf4j.Slf4j;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
+import java.util.HashMap;
 import java.util.List;
+import java.util.Map;
 import java.util.UUID;
 import java.util.stream.Collectors;
 
@@ -28,15 +35,14 @@ public class ProjectService {
     private final ProjectRepository projectRepository;
     private final UserRepository userRepository;
     private final IssueRepository issueRepository;
+    private final DomainEventPublisher eventPublisher;
 
     /**
      * Get all projects
      */
     @Transactional(readOnly = true)
     public List<ProjectDto> getAllProjects() {
-        return projectRepository.findAll().stream()
-                .map(this::mapToDto)
-                .collect(Collectors.toList());
+        return mapToDtos(projectRepository.findAll());
     }
 
     /**
@@ -54,8 +60,30 @@ public class ProjectService {
      */
     @Transactional(readOnly = true)
     public List<ProjectDto> getProjectsByUserId(UUID userId) {
-        return projectRepository.findByMemberId(userId).stream()
-                .map(this::mapToDto)
+        return mapToDtos(projectRepository.findByMemberId(userId));
+    }
+
+    /**
+     * Get open workload of every member of a project
+     */
+    @Transactional(readOnly = true)
+    public List<WorkloadDto> getWorkload(String key) {
+        Project project = projectRepository.findByKey(key)
+                .orElseThrow(() -> new RuntimeException("Project not found: " + key));
+
+        return issueRepository.findWorkloadByProjectId(project.getId()).stream()
+                .map(row -> WorkloadDto.builder()
+                        .member(UserSummaryDto.builder()
+                                .id(row.getUserId())
+                                .name(row.getName())
+                                .email(row.getEmail())
+                                .avatarUrl(row.getAvatarUrl())
+                                .role(row.getRole().toLowerCase())
+                                .build())
+                        .openIssues(row.getOpenIssues())
+                        .openPoints(row.getOpenPoints())
+                        .overdueIssues(row.getOverdueIssues())
+                        .build())
                 .collect(Collectors.toList());
     }
 
@@ -64,6 +92,7 @@ public class ProjectService {
      */
     @Transactional
     public ProjectDto createProject(ProjectDto dto, UUID createdById) {
+        OperationContext.projectKey(dto.getKey());
         // Check if key already exists
         if (projectRepository.existsByKey(dto.getKey())) {
             throw new RuntimeException("Project key already exists: " + dto.getKey());
@@ -79,7 +108,6 @@ public class ProjectService {
                 .health(dto.getHealth() != null ?
                     Project.ProjectHealth.valueOf(dto.getHealth().toUpperCase().replace("TRACK", "_TRACK")) :
                     Project.ProjectHealth.ON_TRACK)
-                .progress(dto.getProgress() != null ? dto.getProgress() : 0)
                 .dueDate(dto.getDueDate())
                 .createdBy(createdBy)
                 .build();
@@ -88,6 +116,7 @@ public class ProjectService {
         project.getMembers().add(createdBy);
 
         project = projectRepository.save(project);
+        publishProjectEvent(DomainEventType.PROJECT_CREATED, project, createdById);
         log.info("Project created: {}", project.getKey());
 
         return mapToDto(project);
@@ -112,14 +141,12 @@ public class ProjectService {
                 dto.getHealth().toUpperCase().replace("TRACK", "_TRACK")
             ));
         }
-        if (dto.getProgress() != null) {
-            project.setProgress(dto.getProgress());
-        }
         if (dto.getDueDate() != null) {
             project.setDueDate(dto.getDueDate());
         }
 
         project = projectRepository.save(project);
+        publishProjectEvent(DomainEventType.PROJECT_UPDATED, project, null);
         log.info("Project updated: {}", project.getKey());
 
         return mapToDto(project);
@@ -133,17 +160,55 @@ public class ProjectService {
         Project project = projectRepository.findByKey(key)
                 .orElseThrow(() -> new RuntimeException("Project not found: " + key));
 
+        publishProjectEvent(DomainEventType.PROJECT_DELETED, project, null);
         projectRepository.delete(project);
+        OperationContext.rowCount(1);
         log.info("Project deleted: {}", key);
     }
 
+    /**
+     * Record a project event in the outbox (same transaction as the mutation)
+     */
+    private void publishProjectEvent(DomainEventType type, Project project, UUID actorId) {
+        Map<String, Object> payload = new HashMap<>();
+        payload.put("key", project.getKey());
+        payload.put("name", project.getName());
+        if (actorId != null) {
+            payload.put("actorId", actorId);
+        }
+        eventPublisher.publish(type, project.getId(), payload);
+    }
+
+    /**
+     * Map Project entities to DTOs with one rollup query for all of them
+     */
+    private List<ProjectDto> mapToDtos(List<Project> projects) {
+        if (projects.isEmpty()) {
+            return List.of();
+        }
+        Map<UUID, ProgressRollup> progress = issueRepository.findProjectProgress(
+                        projects.stream().map(Project::getId).toList()).stream()
+                .collect(Collectors.toMap(ProgressRollup::getId, rollup -> rollup));
+        return projects.stream()
+                .map(project -> mapToDto(project, progress.get(project.getId())))
+                .collect(Collectors.toList());
+    }
+
     /**
      * Map Project entity to DTO
      */
     private ProjectDto mapToDto(Project project) {
-        // Count issues
-        long totalIssues = issueRepository.countByProjectId(project.getId());
-        long completedIssues = issueRepository.findByProjectIdAndStatus(project.getId(), "done").size();
+        return mapToDto(project, issueRepository.findProjectProgress(List.of(project.getId())).stream()
+                .findFirst()
+                .orElse(null));
+    }
+
+    /**
+     * Map Project entity to DTO; progress and issue counts come from the project_progress rollup
+     */
+    private ProjectDto mapToDto(Project project, ProgressRollup progress) {
+        long totalIssues = progress != null ? progress.getTotalIssues() : 0;
+        long completedIssues = progress != null ? progress.getDoneIssues() : 0;
 
         return ProjectDto.builder()
                 .id(project.getId())
@@ -151,7 +216,7 @@ public class ProjectService {
                 .name(project.getName())
                 .description(project.getDescription())
                 .health(project.getHealth() != null ? project.getHealth().getValue() : null)
-                .progress(project.getProgress())
+                .progress(ProgressRollupService.percent(progress))
                 .dueDate(project.getDueDate())
                 .createdBy(mapUserToSummaryDto(project.getCreatedBy()))
                 .members(project.getMembers().stream()
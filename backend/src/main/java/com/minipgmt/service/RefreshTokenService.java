@@ -0,0 +1,204 @@
+package com.minipgmt.service;
+
+import com.minipgmt.domain.AuthSession;
+import com.minipgmt.domain.RefreshToken;
+import com.minipgmt.domain.User;
+import com.minipgmt.exception.InvalidRefreshTokenException;
+import com.minipgmt.repository.AuthSessionRepository;
+import com.minipgmt.repository.RefreshTokenRepository;
+import com.minipgmt.security.RevokedSessions;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.nio.charset.StandardCharsets;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.security.SecureRandom;
+import java.time.LocalDateTime;
+import java.util.Base64;
+import java.util.HexFormat;
+import java.util.UUID;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicReference;
+
+/**
+ * Refresh Token Service
+ * Issues opaque refresh tokens and rotates them on every use.
+ *
+ * Each token is good for one exchange. A token presented again after it was exchanged has been
+ * copied, so the whole session is revoked: the legitimate client and the copy both have to log in again.
+ * Tokens are stored as SHA-256 hashes only; they are random 256-bit values, so no salt or slow hash is needed.
+ */
+@Service
+@Slf4j
+public class RefreshTokenService {
+
+    private static final int TOKEN_BYTES = 32;
+
+    private final AuthSessionRepository sessionRepository;
+    private final RefreshTokenRepository tokenRepository;
+    private final RevokedSessions revokedSessions;
+    private final TransactionTemplate transactionTemplate;
+    private final SecureRandom random = new SecureRandom();
+
+    @Value("${jwt.refresh-expiration}")
+    private long refreshTokenLifetimeMs;
+
+    @Value("${jwt.expiration}")
+    private long accessTokenLifetimeMs;
+
+    @Value("${app.auth.purge-batch-size:1000}")
+    private int purgeBatchSize;
+
+    public RefreshTokenService(
+            AuthSessionRepository sessionRepository,
+            RefreshTokenRepository tokenRepository,
+            RevokedSessions revokedSessions,
+            PlatformTransactionManager transactionManager
+    ) {
+        this.sessionRepository = sessionRepository;
+        this.tokenRepository = tokenRepository;
+        this.revokedSessions = revokedSessions;
+        this.transactionTemplate = new TransactionTemplate(transactionManager);
+    }
+
+    /**
+     * Start a session for a user who just proved who they are, with its first refresh token
+     */
+    public IssuedToken startSession(User user) {
+        return transactionTemplate.execute(status -> {
+            LocalDateTime expiresAt = refreshTokenExpiry();
+            AuthSession session = sessionRepository.save(AuthSession.builder()
+                    .user(user)
+                    .expiresAt(expiresAt)
+                    .build());
+            return new IssuedToken(newToken(session, user, expiresAt), session.getId(), user);
+        });
+    }
+
+    /**
+     * Exchange a refresh token for the next one of its session
+     */
+    public IssuedToken rotate(String rawToken) {
+        AtomicReference<UUID> reusedSession = new AtomicReference<>();
+        IssuedToken issued = transactionTemplate.execute(status -> {
+            RefreshToken token = tokenRepository.findForUpdateByTokenHash(hash(rawToken))
+                    .orElseThrow(() -> new InvalidRefreshTokenException("Invalid refresh token"));
+            AuthSession session = token.getSession();
+            LocalDateTime now = LocalDateTime.now();
+
+            if (session.getRevokedAt() != null || token.getExpiresAt().isBefore(now)) {
+                throw new InvalidRefreshTokenException("Refresh token expired or revoked");
+            }
+            if (token.getUsedAt() != null) {
+                session.setRevokedAt(now);
+                reusedSession.set(session.getId());
+                return null;
+            }
+
+            User user = token.getUser();
+            if (!user.getIsActive()) {
+                throw new InvalidRefreshTokenException("User account is inactive");
+            }
+            token.setUsedAt(now);
+            return new IssuedToken(newToken(session, user, refreshTokenExpiry()), session.getId(), user);
+        });
+
+        UUID sessionId = reusedSession.get();
+        if (sessionId != null) {
+            revokedSessions.add(sessionId);
+            log.warn("Refresh token of session {} was used twice; session revoked", sessionId);
+            throw new InvalidRefreshTokenException("Refresh token already used; session revoked");
+        }
+        return issued;
+    }
+
+    /**
+     * Revoke a session: its refresh tokens stop working, and its access tokens are rejected from now on
+     */
+    public void revokeSession(UUID sessionId) {
+        Integer revoked = transactionTemplate.execute(status -> sessionRepository.revoke(sessionId, LocalDateTime.now()));
+        if (revoked != null && revoked > 0) {
+            revokedSessions.add(sessionId);
+        }
+    }
+
+    /**
+     * Revoke the session a refresh token belongs to
+     */
+    public void revokeSessionOf(String rawToken) {
+        tokenRepository.findByTokenHash(hash(rawToken))
+                .ifPresent(token -> revokeSession(token.getSession().getId()));
+    }
+
+    /**
+     * Delete expired tokens, and sessions that expired or were revoked longer than an access token lifetime ago,
+     * in batches of their own transactions
+     */
+    @Scheduled(fixedDelayString = "${app.auth.purge-interval-ms:3600000}")
+    public void purge() {
+        LocalDateTime now = LocalDateTime.now();
+        LocalDateTime revokedBefore = now.minusNanos(TimeUnit.MILLISECONDS.toNanos(accessTokenLifetimeMs));
+        long startedAt = System.nanoTime();
+
+        long sessions = 0;
+        int deleted;
+        do {
+            deleted = transactionTemplate.execute(status ->
+                    sessionRepository.deleteFinished(now, revokedBefore, purgeBatchSize));
+            sessions += deleted;
+        } while (deleted == purgeBatchSize);
+
+        long tokens = 0;
+        do {
+            deleted = transactionTemplate.execute(status -> tokenRepository.deleteExpired(now, purgeBatchSize));
+            tokens += deleted;
+        } while (deleted == purgeBatchSize);
+
+        if (sessions > 0 || tokens > 0) {
+            log.info("Purged {} sessions and {} refresh tokens in {} ms", sessions, tokens,
+                    TimeUnit.NANOSECONDS.toMillis(System.nanoTime() - startedAt));
+        }
+    }
+
+    /**
+     * Store a new token for a session and move the session's expiry to the token's
+     */
+    private String newToken(AuthSession session, User user, LocalDateTime expiresAt) {
+        byte[] bytes = new byte[TOKEN_BYTES];
+        random.nextBytes(bytes);
+        String rawToken = Base64.getUrlEncoder().withoutPadding().encodeToString(bytes);
+
+        tokenRepository.save(RefreshToken.builder()
+                .session(session)
+                .user(user)
+                .tokenHash(hash(rawToken))
+                .expiresAt(expiresAt)
+                .build());
+        session.setExpiresAt(expiresAt);
+        return rawToken;
+    }
+
+    private LocalDateTime refreshTokenExpiry() {
+        return LocalDateTime.now().plusNanos(TimeUnit.MILLISECONDS.toNanos(refreshTokenLifetimeMs));
+    }
+
+    private static String hash(String rawToken) {
+        try {
+            MessageDigest digest = MessageDigest.getInstance("SHA-256");
+            return HexFormat.of().formatHex(digest.digest(rawToken.getBytes(StandardCharsets.UTF_8)));
+        } catch (NoSuchAlgorithmException e) {
+            throw new IllegalStateException(e);
+        }
+    }
+
+    /**
+     * A new refresh token, the session it belongs to, and its user
+     */
+    public record IssuedToken(String refreshToken, UUID sessionId, User user) {
+    }
+}
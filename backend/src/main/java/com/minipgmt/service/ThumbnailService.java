@@ -0,0 +1,216 @@
+package com.minipgmt.service;
+
+import com.minipgmt.repository.ThumbnailJobRepository;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.scheduling.concurrent.ThreadPoolTaskExecutor;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.annotation.Propagation;
+import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import javax.imageio.IIOImage;
+import javax.imageio.ImageIO;
+import javax.imageio.ImageReadParam;
+import javax.imageio.ImageReader;
+import javax.imageio.ImageWriteParam;
+import javax.imageio.ImageWriter;
+import javax.imageio.stream.ImageInputStream;
+import javax.imageio.stream.ImageOutputStream;
+import java.awt.Color;
+import java.awt.Graphics2D;
+import java.awt.RenderingHints;
+import java.awt.image.BufferedImage;
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.Iterator;
+import java.util.List;
+import java.util.Optional;
+import java.util.Set;
+import java.util.concurrent.Semaphore;
+
+/**
+ * Thumbnail Service
+ * Generates JPEG thumbnails of image attachments in the background.
+ *
+ * Uploads only queue a row in thumbnail_jobs, inside the transaction that creates the attachment, so
+ * queued work survives restarts and uploads do not wait for it. A poller claims as many due jobs as
+ * there are idle workers in the bounded thumbnailExecutor. Thumbnails are kept per blob, next to it
+ * (see {@link AttachmentStorage#thumbnailPath}), so attachments sharing content share a thumbnail.
+ */
+@Service
+@Slf4j
+public class ThumbnailService {
+
+    private static final String DONE = "DONE";
+    private static final String SKIPPED = "SKIPPED";
+
+    private static final float JPEG_QUALITY = 0.85f;
+    private static final int MAX_ERROR_LENGTH = 1000;
+
+    private final ThumbnailJobRepository jobRepository;
+    private final AttachmentStorage storage;
+    private final ThreadPoolTaskExecutor executor;
+    private final TransactionTemplate transactionTemplate;
+    private final Semaphore idleWorkers;
+    private final Set<String> readableMimeTypes = Set.of(ImageIO.getReaderMIMETypes());
+
+    @Value("${app.thumbnails.size:256}")
+    private int size;
+
+    @Value("${app.thumbnails.max-attempts:3}")
+    private int maxAttempts;
+
+    @Value("${app.thumbnails.lease-seconds:300}")
+    private long leaseSeconds;
+
+    @Value("${app.thumbnails.retry-delay-seconds:60}")
+    private long retryDelaySeconds;
+
+    public ThumbnailService(
+            ThumbnailJobRepository jobRepository,
+            AttachmentStorage storage,
+            @Qualifier("thumbnailExecutor") ThreadPoolTaskExecutor executor,
+            PlatformTransactionManager transactionManager
+    ) {
+        this.jobRepository = jobRepository;
+        this.storage = storage;
+        this.executor = executor;
+        this.transactionTemplate = new TransactionTemplate(transactionManager);
+        this.idleWorkers = new Semaphore(executor.getMaxPoolSize());
+    }
+
+    /**
+     * Queue a thumbnail for a blob just attached with the given MIME type, if that is an image type ImageIO reads
+     */
+    @Transactional(propagation = Propagation.MANDATORY)
+    public void enqueue(String sha256, String mimeType) {
+        if (mimeType != null && readableMimeTypes.contains(mimeType.toLowerCase())) {
+            jobRepository.enqueue(sha256);
+        }
+    }
+
+    /**
+     * The thumbnail of a blob, once generated
+     */
+    public Optional<Path> findThumbnail(String sha256) {
+        Path thumbnail = storage.resolve(storage.thumbnailPath(sha256));
+        return Files.isRegularFile(thumbnail) ? Optional.of(thumbnail) : Optional.empty();
+    }
+
+    /**
+     * Hand due jobs to idle workers
+     */
+    @Scheduled(fixedDelayString = "${app.thumbnails.poll-interval-ms:1000}")
+    public void poll() {
+        int idle = idleWorkers.availablePermits();
+        if (idle == 0) {
+            return;
+        }
+
+        List<String> claimed = transactionTemplate.execute(status ->
+                jobRepository.claimDue(idle, maxAttempts, leaseSeconds));
+        for (String sha256 : claimed) {
+            idleWorkers.acquireUninterruptibly();
+            try {
+                executor.execute(() -> {
+                    try {
+                        generate(sha256);
+                    } finally {
+                        idleWorkers.release();
+                    }
+                });
+            } catch (RuntimeException e) {
+                // the claim's lease runs out and the job is picked up again
+                idleWorkers.release();
+                log.warn("Could not start thumbnail job {}: {}", sha256, e.getMessage());
+            }
+        }
+    }
+
+    private void generate(String sha256) {
+        long startedAt = System.nanoTime();
+        Path target = storage.resolve(storage.thumbnailPath(sha256));
+        try {
+            boolean rendered = render(storage.resolve(storage.blobPath(sha256)), target);
+            Integer finished = transactionTemplate.execute(status ->
+                    jobRepository.finish(sha256, rendered ? DONE : SKIPPED, rendered ? null : "Not a readable image"));
+            if (finished == null || finished == 0) {
+                // the blob was collected meanwhile
+                storage.deleteQuietly(target);
+            }
+            log.debug("Thumbnail {} {} in {} ms", sha256, rendered ? "generated" : "skipped",
+                    (System.nanoTime() - startedAt) / 1_000_000);
+        } catch (Exception e) {
+            String error = e.getClass().getSimpleName() + ": " + e.getMessage();
+            transactionTemplate.executeWithoutResult(status -> jobRepository.fail(sha256,
+                    error.length() > MAX_ERROR_LENGTH ? error.substring(0, MAX_ERROR_LENGTH) : error,
+                    maxAttempts, retryDelaySeconds));
+            log.warn("Thumbnail {} failed: {}", sha256, error);
+        }
+    }
+
+    /**
+     * Scale an image to fit size x size and write it as JPEG. Large images are decoded with source
+     * subsampling, so decoding needs memory for about twice the thumbnail's edge, not the full image.
+     * Returns false when no ImageIO reader understands the file.
+     */
+    private boolean render(Path source, Path target) throws IOException {
+        BufferedImage image;
+        try (ImageInputStream in = ImageIO.createImageInputStream(source.toFile())) {
+            if (in == null) {
+                throw new IOException("Blob file is missing");
+            }
+            Iterator<ImageReader> readers = ImageIO.getImageReaders(in);
+            if (!readers.hasNext()) {
+                return false;
+            }
+            ImageReader reader = readers.next();
+            try {
+                reader.setInput(in, true, true);
+                int longestEdge = Math.max(reader.getWidth(0), reader.getHeight(0));
+                int subsampling = Math.max(1, longestEdge / (2 * size));
+                ImageReadParam param = reader.getDefaultReadParam();
+                param.setSourceSubsampling(subsampling, subsampling, 0, 0);
+                image = reader.read(0, param);
+            } finally {
+                reader.dispose();
+            }
+        }
+
+        double scale = Math.min(1.0, (double) size / Math.max(image.getWidth(), image.getHeight()));
+        int width = Math.max(1, (int) Math.round(image.getWidth() * scale));
+        int height = Math.max(1, (int) Math.round(image.getHeight() * scale));
+        BufferedImage thumbnail = new BufferedImage(width, height, BufferedImage.TYPE_INT_RGB);
+        Graphics2D graphics = thumbnail.createGraphics();
+        try {
+            graphics.setRenderingHint(RenderingHints.KEY_INTERPOLATION, RenderingHints.VALUE_INTERPOLATION_BILINEAR);
+            graphics.setRenderingHint(RenderingHints.KEY_RENDERING, RenderingHints.VALUE_RENDER_QUALITY);
+            graphics.setColor(Color.WHITE); // JPEG has no transparency
+            graphics.fillRect(0, 0, width, height);
+            graphics.drawImage(image, 0, 0, width, height, null);
+        } finally {
+            graphics.dispose();
+        }
+
+        storage.writeAtomically(target, temp -> writeJpeg(thumbnail, temp));
+        return true;
+    }
+
+    private void writeJpeg(BufferedImage image, Path file) throws IOException {
+        ImageWriter writer = ImageIO.getImageWritersByFormatName("jpeg").next();
+        try (ImageOutputStream out = ImageIO.createImageOutputStream(file.toFile())) {
+            ImageWriteParam param = writer.getDefaultWriteParam();
+            param.setCompressionMode(ImageWriteParam.MODE_EXPLICIT);
+            param.setCompressionQuality(JPEG_QUALITY);
+            writer.setOutput(out);
+            writer.write(null, new IIOImage(image, null, null), param);
+        } finally {
+            writer.dispose();
+        }
+    }
+}
@@ -0,0 +1,178 @@
+package com.minipgmt.service;
+
+import com.minipgmt.domain.Issue;
+import com.minipgmt.domain.TimeLog;
+import com.minipgmt.domain.User;
+import com.minipgmt.dto.TimeLogDto;
+import com.minipgmt.dto.TimesheetDto;
+import com.minipgmt.dto.UserSummaryDto;
+import com.minipgmt.repository.IssueRepository;
+import com.minipgmt.repository.TimeLogRepository;
+import com.minipgmt.repository.UserRepository;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.math.BigDecimal;
+import java.time.DayOfWeek;
+import java.time.LocalDate;
+import java.time.temporal.TemporalAdjusters;
+import java.util.List;
+import java.util.Map;
+import java.util.TreeMap;
+import java.util.UUID;
+import java.util.stream.Collectors;
+
+/**
+ * Time Log Service
+ * Business logic for time tracking and timesheets
+ */
+@Service
+@RequiredArgsConstructor
+@Slf4j
+public class TimeLogService {
+
+    private final TimeLogRepository timeLogRepository;
+    private final IssueRepository issueRepository;
+    private final UserRepository userRepository;
+
+    /**
+     * Get time logs for an issue
+     */
+    @Transactional(readOnly = true)
+    public List<TimeLogDto> getTimeLogsByIssue(String issueKey) {
+        Issue issue = issueRepository.findByKey(issueKey)
+                .orElseThrow(() -> new RuntimeException("Issue not found: " + issueKey));
+
+        return timeLogRepository.findByIssueIdOrderByLoggedDateDescCreatedAtDesc(issue.getId()).stream()
+                .map(timeLog -> mapToDto(timeLog, issue.getKey()))
+                .collect(Collectors.toList());
+    }
+
+    /**
+     * Log time against an issue.
+     * The issue's logged_hours total is bumped with an atomic increment instead of a
+     * read-modify-write, so concurrent loggers never lose each other's hours.
+     */
+    @Transactional
+    public TimeLogDto logTime(TimeLogDto dto, UUID userId) {
+        Issue issue = issueRepository.findByKey(dto.getIssueKey())
+                .orElseThrow(() -> new RuntimeException("Issue not found: " + dto.getIssueKey()));
+
+        User user = userRepository.findById(userId)
+                .orElseThrow(() -> new RuntimeException("User not found"));
+
+        TimeLog timeLog = TimeLog.builder()
+                .issue(issue)
+                .user(user)
+                .hours(dto.getHours())
+                .description(dto.getDescription())
+                .loggedDate(dto.getLoggedDate() != null ? dto.getLoggedDate() : LocalDate.now())
+                .build();
+
+        timeLog = timeLogRepository.save(timeLog);
+        issueRepository.addLoggedHours(issue.getId(), timeLog.getHours());
+        log.info("Logged {}h on issue {} by user {}", timeLog.getHours(), issue.getKey(), userId);
+
+        return mapToDto(timeLog, issue.getKey());
+    }
+
+    /**
+     * Delete a time log (only its author may delete it)
+     */
+    @Transactional
+    public void deleteTimeLog(UUID timeLogId, UUID userId) {
+        TimeLog timeLog = timeLogRepository.findById(timeLogId)
+                .orElseThrow(() -> new RuntimeException("Time log not found: " + timeLogId));
+
+        if (!timeLog.getUser().getId().equals(userId)) {
+            throw new RuntimeException("Only the author can delete a time log");
+        }
+
+        timeLogRepository.delete(timeLog);
+        issueRepository.addLoggedHours(timeLog.getIssue().getId(), timeLog.getHours().negate());
+        log.info("Time log deleted: {}", timeLogId);
+    }
+
+    /**
+     * Get a user's timesheet for the week (Monday to Sunday) containing the given date
+     */
+    @Transactional(readOnly = true)
+    public TimesheetDto getWeeklyTimesheet(UUID userId, LocalDate dayInWeek) {
+        LocalDate weekStart = dayInWeek.with(TemporalAdjusters.previousOrSame(DayOfWeek.MONDAY));
+        LocalDate weekEnd = weekStart.plusDays(6);
+
+        List<TimesheetDto.EntryDto> entries = timeLogRepository
+                .sumHoursByDayAndIssue(userId, weekStart, weekEnd.plusDays(1)).stream()
+                .map(entry -> TimesheetDto.EntryDto.builder()
+                        .date(entry.getLoggedDate())
+                        .issueKey(entry.getIssueKey())
+                        .issueTitle(entry.getIssueTitle())
+                        .hours(entry.getHours())
+                        .build())
+                .collect(Collectors.toList());
+
+        BigDecimal total = entries.stream()
+                .map(TimesheetDto.EntryDto::getHours)
+                .reduce(BigDecimal.ZERO, BigDecimal::add);
+
+        return TimesheetDto.builder()
+                .weekStart(weekStart)
+                .weekEnd(weekEnd)
+                .totalHours(total)
+                .entries(entries)
+                .build();
+    }
+
+    /**
+     * Get a user's total hours per week for the weeks overlapping [from, to]
+     */
+    @Transactional(readOnly = true)
+    public List<TimesheetDto.WeekTotalDto> getWeeklyTotals(UUID userId, LocalDate from, LocalDate to) {
+        LocalDate start = from.with(TemporalAdjusters.previousOrSame(DayOfWeek.MONDAY));
+        LocalDate end = to.with(TemporalAdjusters.nextOrSame(DayOfWeek.SUNDAY)).plusDays(1);
+
+        // Database aggregates per day; days are folded into ISO weeks here (at most 7 rows per week)
+        Map<LocalDate, BigDecimal> totals = new TreeMap<>();
+        for (TimeLogRepository.DailyHours day : timeLogRepository.sumHoursByDay(userId, start, end)) {
+            LocalDate weekStart = day.getLoggedDate().with(TemporalAdjusters.previousOrSame(DayOfWeek.MONDAY));
+            totals.merge(weekStart, day.getHours(), BigDecimal::add);
+        }
+
+        return totals.entrySet().stream()
+                .map(entry -> TimesheetDto.WeekTotalDto.builder()
+                        .weekStart(entry.getKey())
+                        .hours(entry.getValue())
+                        .build())
+                .collect(Collectors.toList());
+    }
+
+    /**
+     * Map TimeLog entity to DTO
+     */
+    private TimeLogDto mapToDto(TimeLog timeLog, String issueKey) {
+        return TimeLogDto.builder()
+                .id(timeLog.getId())
+                .issueKey(issueKey)
+                .user(mapUserToSummaryDto(timeLog.getUser()))
+                .hours(timeLog.getHours())
+                .description(timeLog.getDescription())
+                .loggedDate(timeLog.getLoggedDate())
+                .createdAt(timeLog.getCreatedAt())
+                .build();
+    }
+
+    /**
+     * Map User to UserSummaryDto
+     */
+    private UserSummaryDto mapUserToSummaryDto(User user) {
+        return UserSummaryDto.builder()
+                .id(user.getId())
+                .name(user.getName())
+                .email(user.getEmail())
+                .avatarUrl(user.getAvatarUrl())
+                .role(user.getRole().name().toLowerCase())
+                .build();
+    }
+}
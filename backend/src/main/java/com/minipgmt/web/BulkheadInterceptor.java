@@ -0,0 +1,82 @@
+package com.minipgmt.web;
+
+import com.minipgmt.exception.ServiceBusyException;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.web.servlet.HandlerInterceptor;
+
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Bulkhead Interceptor
+ * Caps concurrent in-flight requests with fair semaphores: one per endpoint class, then one shared by all.
+ *
+ * With virtual threads there is no worker-pool limit any more, so without it thousands of requests
+ * would pile up inside Hikari's connection wait. The shared bulkhead defaults to the size of the
+ * JDBC connection pool and bounds the total; each endpoint class defaults to half of it, so one class
+ * cannot take every permit. Waiting on a semaphore is cheap and bounded by maxWaitMs for both together.
+ */
+@Slf4j
+public class BulkheadInterceptor implements HandlerInterceptor {
+
+    private static final String PERMIT_ATTRIBUTE = BulkheadInterceptor.class.getName() + ".permit";
+
+    private final Semaphore total;
+    private final int defaultPermits;
+    private final Map<String, Integer> permitOverrides;
+    private final long maxWaitMs;
+    private final Map<String, Semaphore> bulkheads = new ConcurrentHashMap<>();
+
+    public BulkheadInterceptor(int totalPermits, int defaultPermits, Map<String, Integer> permitOverrides, long maxWaitMs) {
+        this.total = new Semaphore(totalPermits, true);
+        this.defaultPermits = defaultPermits;
+        this.permitOverrides = permitOverrides;
+        this.maxWaitMs = maxWaitMs;
+    }
+
+    @Override
+    public boolean preHandle(HttpServletRequest request, HttpServletResponse response, Object handler)
+            throws InterruptedException {
+        String endpointClass = EndpointClassifier.classify(request);
+        Semaphore bulkhead = bulkheads.computeIfAbsent(endpointClass,
+                key -> new Semaphore(permitOverrides.getOrDefault(key, defaultPermits), true));
+
+        // the class permit first, so requests held back by their own class do not sit on shared permits
+        long deadline = System.nanoTime() + TimeUnit.MILLISECONDS.toNanos(maxWaitMs);
+        if (!bulkhead.tryAcquire(maxWaitMs, TimeUnit.MILLISECONDS)) {
+            throw busy(endpointClass, endpointClass, request);
+        }
+        try {
+            if (!total.tryAcquire(Math.max(0, deadline - System.nanoTime()), TimeUnit.NANOSECONDS)) {
+                bulkhead.release();
+                throw busy(endpointClass, "all endpoints", request);
+            }
+        } catch (InterruptedException e) {
+            bulkhead.release();
+            throw e;
+        }
+
+        request.setAttribute(PERMIT_ATTRIBUTE, bulkhead);
+        return true;
+    }
+
+    @Override
+    public void afterCompletion(HttpServletRequest request, HttpServletResponse response, Object handler, Exception ex) {
+        Semaphore bulkhead = (Semaphore) request.getAttribute(PERMIT_ATTRIBUTE);
+        if (bulkhead != null) {
+            request.removeAttribute(PERMIT_ATTRIBUTE);
+            total.release();
+            bulkhead.release();
+        }
+    }
+
+    private ServiceBusyException busy(String endpointClass, String full, HttpServletRequest request) {
+        log.warn("Bulkhead '{}' full, rejecting {} {}", full, request.getMethod(), request.getRequestURI());
+        return new ServiceBusyException("Too many concurrent requests for " + endpointClass,
+                Math.max(1, TimeUnit.MILLISECONDS.toSeconds(maxWaitMs)));
+    }
+}
@@ -0,0 +1,70 @@
+package com.minipgmt.web;
+
+import jakarta.servlet.http.HttpServletRequest;
+import org.springframework.web.context.request.RequestAttributes;
+import org.springframework.web.context.request.RequestContextHolder;
+import org.springframework.web.context.request.ServletRequestAttributes;
+import org.springframework.web.servlet.HandlerMapping;
+
+import java.util.Set;
+
+/**
+ * Groups API requests into endpoint classes such as {@code issues:read} or {@code issues:write}.
+ * The class is the first path segment after {@code /api/} plus whether the method mutates state,
+ * so a flood of list calls cannot starve creates and updates on the same resource. Token refresh and
+ * logout form {@code auth:session}, apart from logins and registrations in {@code auth:write}.
+ */
+public final class EndpointClassifier {
+
+    private static final String API_PREFIX = "/api/";
+    private static final String UNMAPPED = "UNMAPPED";
+    private static final String BACKGROUND = "background";
+    private static final Set<String> SESSION_PATHS = Set.of("/api/auth/refresh", "/api/auth/logout");
+    private static final String SESSION = "auth:session";
+
+    private EndpointClassifier() {
+    }
+
+    /**
+     * Classify a request
+     */
+    public static String classify(HttpServletRequest request) {
+        String path = request.getRequestURI().substring(request.getContextPath().length());
+        String access = isRead(request.getMethod()) ? "read" : "write";
+
+        if (!path.startsWith(API_PREFIX)) {
+            return "other:" + access;
+        }
+        if (SESSION_PATHS.contains(path)) {
+            return SESSION;
+        }
+
+        int end = path.indexOf('/', API_PREFIX.length());
+        String resource = end < 0 ? path.substring(API_PREFIX.length()) : path.substring(API_PREFIX.length(), end);
+        return (resource.isEmpty() ? "other" : resource) + ":" + access;
+    }
+
+    /**
+     * Endpoint name for metric tags, e.g. {@code GET /api/issues/{key}}.
+     * Uses the matched handler pattern so path variables do not multiply tag values.
+     */
+    public static String endpoint(HttpServletRequest request) {
+        Object pattern = request.getAttribute(HandlerMapping.BEST_MATCHING_PATTERN_ATTRIBUTE);
+        return request.getMethod() + " " + (pattern != null ? pattern : UNMAPPED);
+    }
+
+    /**
+     * Endpoint of the request bound to the current thread, or {@code background} outside a request
+     */
+    public static String currentEndpoint() {
+        RequestAttributes attributes = RequestContextHolder.getRequestAttributes();
+        if (attributes instanceof ServletRequestAttributes servletAttributes) {
+            return endpoint(servletAttributes.getRequest());
+        }
+        return BACKGROUND;
+    }
+
+    private static boolean isRead(String method) {
+        return "GET".equals(method) || "HEAD".equals(method) || "OPTIONS".equals(method);
+    }
+}
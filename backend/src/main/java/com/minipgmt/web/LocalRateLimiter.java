@@ -0,0 +1,65 @@
+package com.minipgmt.web;
+
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * In-memory {@link RateLimiter} for a single instance.
+ *
+ * Buckets live in a ConcurrentHashMap, whose bins are locked independently, and only while a key's
+ * bucket is first created. After that a request is one get and one compare-and-set on the bucket's
+ * TAT, so requests of different users never contend and requests of one user never block.
+ *
+ * A bucket whose TAT has passed is full, which is the same as having none, so such buckets are
+ * dropped every evictionInterval by whichever request comes first after it.
+ */
+public class LocalRateLimiter implements RateLimiter {
+
+    private final ConcurrentHashMap<String, AtomicLong> buckets = new ConcurrentHashMap<>();
+    private final long evictionIntervalNanos;
+    private final AtomicLong nextEviction;
+
+    public LocalRateLimiter(long evictionIntervalMs) {
+        this.evictionIntervalNanos = TimeUnit.MILLISECONDS.toNanos(evictionIntervalMs);
+        this.nextEviction = new AtomicLong(System.nanoTime() + evictionIntervalNanos);
+    }
+
+    @Override
+    public long acquire(String key, Limit limit) {
+        long now = System.nanoTime();
+        AtomicLong bucket = buckets.get(key);
+        if (bucket == null) {
+            bucket = buckets.computeIfAbsent(key, k -> new AtomicLong(now));
+        }
+
+        while (true) {
+            long tat = bucket.get();
+            long newTat = (tat - now < 0 ? now : tat) + limit.intervalNanos();
+            long wait = newTat - now - limit.toleranceNanos();
+            if (wait > 0) {
+                return wait;
+            }
+            if (bucket.compareAndSet(tat, newTat)) {
+                evictFullBuckets(now);
+                return 0;
+            }
+        }
+    }
+
+    /**
+     * Number of buckets currently held
+     */
+    public int size() {
+        return buckets.size();
+    }
+
+    private void evictFullBuckets(long now) {
+        long due = nextEviction.get();
+        if (now - due < 0 || !nextEviction.compareAndSet(due, now + evictionIntervalNanos)) {
+            return;
+        }
+        // a request racing with the removal may update a dropped bucket; it is then let through uncounted once
+        buckets.values().removeIf(bucket -> bucket.get() - now <= 0);
+    }
+}
@@ -0,0 +1,95 @@
+package com.minipgmt.web;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.minipgmt.config.RateLimitConfig.RateLimitProperties;
+import com.minipgmt.security.JwtAuthenticationFilter;
+import com.minipgmt.security.JwtTokenProvider;
+import io.jsonwebtoken.JwtException;
+import io.micrometer.core.instrument.MeterRegistry;
+import jakarta.servlet.FilterChain;
+import jakarta.servlet.ServletException;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
+import org.springframework.stereotype.Component;
+import org.springframework.util.StringUtils;
+import org.springframework.web.filter.OncePerRequestFilter;
+
+import java.io.IOException;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Rate Limit Filter
+ * Limits API requests per user and endpoint class (see {@link EndpointClassifier}), so one client
+ * polling in a loop cannot take the connection pool from everyone else.
+ *
+ * Runs right before {@link JwtAuthenticationFilter} and takes the user from the token's signed subject,
+ * so a rejected request costs no user lookup and no connection. Requests without a valid token are
+ * limited per client address, which behind a load balancer is the X-Forwarded-For client resolved by
+ * server.forward-headers-strategy. Rejected requests get 429 with Retry-After and are counted in
+ * app.ratelimit.rejected.
+ */
+@Component
+@RequiredArgsConstructor
+@Slf4j
+public class RateLimitFilter extends OncePerRequestFilter {
+
+    private final RateLimiter rateLimiter;
+    private final JwtTokenProvider tokenProvider;
+    private final RateLimitProperties properties;
+    private final MeterRegistry meterRegistry;
+    private final ObjectMapper objectMapper;
+    private final Map<String, RateLimiter.Limit> limits = new ConcurrentHashMap<>();
+
+    @Override
+    protected boolean shouldNotFilter(HttpServletRequest request) {
+        return !properties.isEnabled()
+                || !request.getRequestURI().startsWith(request.getContextPath() + "/api/");
+    }
+
+    @Override
+    protected void doFilterInternal(
+            HttpServletRequest request,
+            HttpServletResponse response,
+            FilterChain filterChain
+    ) throws ServletException, IOException {
+        String endpointClass = EndpointClassifier.classify(request);
+        RateLimiter.Limit limit = limits.computeIfAbsent(endpointClass, properties::limitFor);
+
+        long waitNanos = rateLimiter.acquire(clientKey(request) + "|" + endpointClass, limit);
+        if (waitNanos > 0) {
+            reject(response, endpointClass, waitNanos);
+            return;
+        }
+        filterChain.doFilter(request, response);
+    }
+
+    private String clientKey(HttpServletRequest request) {
+        String jwt = JwtAuthenticationFilter.getJwtFromRequest(request);
+        if (StringUtils.hasText(jwt)) {
+            try {
+                return "user:" + tokenProvider.getUserIdFromToken(jwt);
+            } catch (JwtException | IllegalArgumentException e) {
+                // invalid or expired; JwtAuthenticationFilter reports it
+            }
+        }
+        return "address:" + request.getRemoteAddr();
+    }
+
+    private void reject(HttpServletResponse response, String endpointClass, long waitNanos) throws IOException {
+        long retryAfterSeconds = Math.max(1, (waitNanos + TimeUnit.SECONDS.toNanos(1) - 1) / TimeUnit.SECONDS.toNanos(1));
+        log.debug("Rate limit for '{}' exceeded, retry after {} s", endpointClass, retryAfterSeconds);
+        meterRegistry.counter("app.ratelimit.rejected", "class", endpointClass).increment();
+
+        response.setStatus(HttpStatus.TOO_MANY_REQUESTS.value());
+        response.setHeader(HttpHeaders.RETRY_AFTER, String.valueOf(retryAfterSeconds));
+        response.setContentType(MediaType.APPLICATION_JSON_VALUE);
+        objectMapper.writeValue(response.getOutputStream(), Map.of("message", "Too many requests for " + endpointClass));
+    }
+}
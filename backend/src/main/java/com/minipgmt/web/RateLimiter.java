@@ -0,0 +1,35 @@
+package com.minipgmt.web;
+
+/**
+ * Token-bucket rate limiter, implemented with the generic cell rate algorithm (GCRA).
+ *
+ * Instead of a token count and a refill timestamp, each key keeps a single number: the theoretical
+ * arrival time (TAT) at which its bucket is full again. A request is allowed when pushing the TAT
+ * one emission interval further keeps it within the burst tolerance of now. One number per key
+ * means one compare-and-set locally, or one small Lua script in Redis.
+ */
+public interface RateLimiter {
+
+    /**
+     * Take one request from a key's bucket.
+     * Returns 0 when the request is allowed, otherwise the nanoseconds until it would be.
+     */
+    long acquire(String key, Limit limit);
+
+    /**
+     * A sustained rate as the interval between requests, and a burst as how far ahead of now the TAT may run
+     */
+    record Limit(long intervalNanos, long toleranceNanos) {
+
+        /**
+         * A limit that allows burst requests at once, then requestsPerSecond
+         */
+        public static Limit of(double requestsPerSecond, int burst) {
+            if (requestsPerSecond <= 0 || burst < 1) {
+                throw new IllegalArgumentException("Rate limits need a positive rate and a burst of at least 1");
+            }
+            long interval = Math.max(1, Math.round(1_000_000_000L / requestsPerSecond));
+            return new Limit(interval, interval * burst);
+        }
+    }
+}
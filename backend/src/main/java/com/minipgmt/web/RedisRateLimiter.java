@@ -0,0 +1,94 @@
+package com.minipgmt.web;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.dao.DataAccessException;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.data.redis.core.script.RedisScript;
+
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * {@link RateLimiter} shared by all instances through Redis.
+ *
+ * Each bucket is one Redis key holding its TAT in microseconds of the Redis server's clock, so
+ * instance clocks do not matter. The check and the update run in one Lua script, atomically, and
+ * the key expires once the bucket is full again.
+ *
+ * When Redis fails, requests are limited per instance by the local fallback and Redis is not tried
+ * again for retryInterval, so an outage costs at most one timeout per interval instead of one per request.
+ */
+@Slf4j
+public class RedisRateLimiter implements RateLimiter {
+
+    private static final RedisScript<Long> GCRA = RedisScript.of("""
+            redis.replicate_commands() -- TIME before a write; the default from Redis 5 on
+            local interval = tonumber(ARGV[1])
+            local tolerance = tonumber(ARGV[2])
+            local time = redis.call('TIME')
+            local now = tonumber(time[1]) * 1000000 + tonumber(time[2])
+            local tat = tonumber(redis.call('GET', KEYS[1])) or now
+            if tat < now then
+                tat = now
+            end
+            local new_tat = tat + interval
+            local wait = new_tat - now - tolerance
+            if wait > 0 then
+                return wait
+            end
+            redis.call('SET', KEYS[1], string.format('%d', new_tat), 'PX', math.ceil((new_tat - now) / 1000))
+            return 0
+            """, Long.class);
+
+    private final StringRedisTemplate redisTemplate;
+    private final RateLimiter fallback;
+    private final String keyPrefix;
+    private final long retryIntervalNanos;
+    private final AtomicLong retryAt = new AtomicLong(System.nanoTime());
+    private final Counter failures;
+
+    public RedisRateLimiter(
+            StringRedisTemplate redisTemplate,
+            RateLimiter fallback,
+            String keyPrefix,
+            long retryIntervalMs,
+            MeterRegistry meterRegistry
+    ) {
+        this.redisTemplate = redisTemplate;
+        this.fallback = fallback;
+        this.keyPrefix = keyPrefix;
+        this.retryIntervalNanos = TimeUnit.MILLISECONDS.toNanos(retryIntervalMs);
+        this.failures = Counter.builder("app.ratelimit.redis.failures")
+                .description("Rate limit checks that fell back to local buckets because Redis failed")
+                .register(meterRegistry);
+    }
+
+    @Override
+    public long acquire(String key, Limit limit) {
+        long now = System.nanoTime();
+        long due = retryAt.get();
+        if (now - due < 0) {
+            return fallback.acquire(key, limit);
+        }
+
+        try {
+            Long waitMicros = redisTemplate.execute(GCRA, List.of(keyPrefix + key),
+                    String.valueOf(toMicros(limit.intervalNanos())), String.valueOf(toMicros(limit.toleranceNanos())));
+            return waitMicros == null ? 0 : TimeUnit.MICROSECONDS.toNanos(waitMicros);
+        } catch (DataAccessException e) {
+            failures.increment();
+            if (retryAt.compareAndSet(due, now + retryIntervalNanos)) {
+                log.warn("Redis rate limiting failed, using local buckets for {} ms: {}",
+                        TimeUnit.NANOSECONDS.toMillis(retryIntervalNanos), e.getMessage());
+            }
+            return fallback.acquire(key, limit);
+        }
+    }
+
+    private static long toMicros(long nanos) {
+        return Math.max(1, (nanos + 999) / 1000);
+    }
+}
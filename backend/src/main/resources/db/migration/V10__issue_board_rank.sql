@@ -0,0 +1,45 @@
+-- Board ordering: lexicographic fractional rank per (project, status) column.
+-- Ranks are base-36 digits compared bytewise (COLLATE "C"), so a card can always be placed between two
+-- neighbours by writing only its own row. NULL only right after bulk loads, until the rebalancer ranks them.
+ALTER TABLE issues ADD COLUMN board_rank VARCHAR(255) COLLATE "C";
+
+-- Evenly spaced 8-digit rank for position 1..total, spread over the lower half of the key space so
+-- appends at the bottom of a column can step upwards without growing the rank
+CREATE OR REPLACE FUNCTION board_rank_at(card_position BIGINT, column_size BIGINT) RETURNS VARCHAR
+LANGUAGE plpgsql IMMUTABLE AS $$
+DECLARE
+    digits CONSTANT TEXT := '0123456789abcdefghijklmnopqrstuvwxyz';
+    code BIGINT := card_position * (1410554953728 / (column_size + 1)); -- 36^8 / 2
+    result TEXT := '';
+BEGIN
+    FOR i IN 1..8 LOOP
+        result := substr(digits, (code % 36)::INT + 1, 1) || result;
+        code := code / 36;
+    END LOOP;
+    RETURN rtrim(result, '0');
+END
+$$;
+
+-- Re-ranking is not an edit of the issue: skip the updated_at trigger when only the rank changes.
+-- Moves still get a new updated_at, because the application writes updated_at along with the rank.
+DROP TRIGGER update_issues_updated_at ON issues;
+
+UPDATE issues i
+SET board_rank = board_rank_at(r.card_position, r.column_size)
+FROM (
+    SELECT id,
+           row_number() OVER (PARTITION BY project_id, status ORDER BY created_at, id) AS card_position,
+           count(*) OVER (PARTITION BY project_id, status) AS column_size
+    FROM issues
+) r
+WHERE i.id = r.id;
+
+CREATE TRIGGER update_issues_updated_at BEFORE UPDATE ON issues
+    FOR EACH ROW
+    WHEN (OLD.board_rank IS NOT DISTINCT FROM NEW.board_rank OR OLD.updated_at IS DISTINCT FROM NEW.updated_at)
+    EXECUTE FUNCTION update_updated_at_column();
+
+CREATE INDEX idx_issues_board_rank ON issues (project_id, status, board_rank);
+
+-- Finds columns with unranked cards without scanning the table
+CREATE INDEX idx_issues_unranked ON issues (project_id, status) WHERE board_rank IS NULL;
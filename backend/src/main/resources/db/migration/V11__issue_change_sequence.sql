@@ -0,0 +1,41 @@
+-- Delta sync: every issue change gets the next number of its project's change sequence.
+-- Clients ask for the changes after the highest number they have seen (GET /api/projects/{key}/changes).
+CREATE TABLE project_change_seq (
+    project_id UUID PRIMARY KEY REFERENCES projects(id) ON DELETE CASCADE,
+    last_seq BIGINT NOT NULL
+);
+
+ALTER TABLE issues ADD COLUMN change_seq BIGINT NOT NULL DEFAULT 0;
+
+-- Deleted issues, so clients can drop them from their copy
+CREATE TABLE issue_tombstones (
+    issue_id UUID PRIMARY KEY,
+    project_id UUID NOT NULL REFERENCES projects(id) ON DELETE CASCADE,
+    issue_key VARCHAR(20) NOT NULL,
+    change_seq BIGINT NOT NULL,
+    deleted_at TIMESTAMP NOT NULL DEFAULT CURRENT_TIMESTAMP
+);
+
+-- Sequence bookkeeping is not an edit of the issue either: like rank-only updates (V10), updates that
+-- only move board_rank or change_seq keep updated_at. Application writes set updated_at themselves.
+DROP TRIGGER update_issues_updated_at ON issues;
+
+UPDATE issues i
+SET change_seq = r.seq
+FROM (
+    SELECT id, row_number() OVER (PARTITION BY project_id ORDER BY updated_at, id) AS seq
+    FROM issues
+) r
+WHERE i.id = r.id;
+
+CREATE TRIGGER update_issues_updated_at BEFORE UPDATE ON issues
+    FOR EACH ROW
+    WHEN (OLD.updated_at IS DISTINCT FROM NEW.updated_at
+          OR (OLD.board_rank IS NOT DISTINCT FROM NEW.board_rank AND OLD.change_seq = NEW.change_seq))
+    EXECUTE FUNCTION update_updated_at_column();
+
+INSERT INTO project_change_seq (project_id, last_seq)
+SELECT project_id, MAX(change_seq) FROM issues GROUP BY project_id;
+
+CREATE INDEX idx_issues_project_change_seq ON issues (project_id, change_seq);
+CREATE INDEX idx_issue_tombstones_project_change_seq ON issue_tombstones (project_id, change_seq);
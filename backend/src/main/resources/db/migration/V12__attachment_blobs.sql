@@ -0,0 +1,26 @@
+-- Content-addressed attachment storage: one file per distinct content, named by its SHA-256.
+-- Attachments reference their blob; blobs no attachment references are removed by a background job.
+CREATE TABLE attachment_blobs (
+    sha256 VARCHAR(64) PRIMARY KEY,
+    size BIGINT NOT NULL,
+    created_at TIMESTAMP NOT NULL DEFAULT CURRENT_TIMESTAMP,
+    last_used_at TIMESTAMP NOT NULL DEFAULT CURRENT_TIMESTAMP
+);
+
+ALTER TABLE attachments ADD COLUMN sha256 VARCHAR(64) REFERENCES attachment_blobs(sha256);
+CREATE INDEX idx_attachments_sha256 ON attachments(sha256);
+
+-- Resumable uploads in progress: bytes received so far are kept in a temporary file per upload
+CREATE TABLE attachment_uploads (
+    id UUID PRIMARY KEY DEFAULT uuid_generate_v4(),
+    issue_id UUID NOT NULL REFERENCES issues(id) ON DELETE CASCADE,
+    user_id UUID NOT NULL REFERENCES users(id),
+    filename VARCHAR(500) NOT NULL,
+    mime_type VARCHAR(100),
+    total_size BIGINT NOT NULL CHECK (total_size >= 0),
+    received BIGINT NOT NULL DEFAULT 0 CHECK (received >= 0 AND received <= total_size),
+    created_at TIMESTAMP NOT NULL DEFAULT CURRENT_TIMESTAMP,
+    updated_at TIMESTAMP NOT NULL DEFAULT CURRENT_TIMESTAMP
+);
+
+CREATE INDEX idx_attachment_uploads_updated_at ON attachment_uploads(updated_at);
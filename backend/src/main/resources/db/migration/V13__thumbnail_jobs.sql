@@ -0,0 +1,19 @@
+-- Thumbnail generation queue, one job per image blob. Workers claim due jobs with FOR UPDATE SKIP LOCKED
+-- and push run_after out by a lease, so a job whose worker died is picked up again once the lease ends.
+CREATE TABLE thumbnail_jobs (
+    sha256 VARCHAR(64) PRIMARY KEY REFERENCES attachment_blobs(sha256) ON DELETE CASCADE,
+    status VARCHAR(20) NOT NULL DEFAULT 'PENDING', -- PENDING, DONE, FAILED, SKIPPED (not a readable image)
+    attempts INTEGER NOT NULL DEFAULT 0,
+    last_error TEXT,
+    run_after TIMESTAMP NOT NULL DEFAULT CURRENT_TIMESTAMP,
+    created_at TIMESTAMP NOT NULL DEFAULT CURRENT_TIMESTAMP,
+    updated_at TIMESTAMP NOT NULL DEFAULT CURRENT_TIMESTAMP
+);
+
+CREATE INDEX idx_thumbnail_jobs_pending ON thumbnail_jobs(run_after) WHERE status = 'PENDING';
+
+-- Images uploaded before the queue existed
+INSERT INTO thumbnail_jobs (sha256)
+SELECT DISTINCT sha256 FROM attachments
+WHERE sha256 IS NOT NULL AND mime_type LIKE 'image/%'
+ON CONFLICT DO NOTHING;
@@ -0,0 +1,29 @@
+-- Comment and attachment counts kept on issues, so issue lists need no COUNT(*) per issue.
+-- Maintained by atomic increments in the statement that adds or removes a comment or attachment.
+ALTER TABLE issues
+    ADD COLUMN comment_count INTEGER NOT NULL DEFAULT 0,
+    ADD COLUMN attachment_count INTEGER NOT NULL DEFAULT 0;
+
+-- Counter bookkeeping keeps updated_at, like rank and sequence updates (V10, V11)
+DROP TRIGGER update_issues_updated_at ON issues;
+
+UPDATE issues i
+SET comment_count = c.count
+FROM (SELECT issue_id, COUNT(*) AS count FROM comments GROUP BY issue_id) c
+WHERE i.id = c.issue_id;
+
+UPDATE issues i
+SET attachment_count = a.count
+FROM (SELECT issue_id, COUNT(*) AS count FROM attachments GROUP BY issue_id) a
+WHERE i.id = a.issue_id;
+
+CREATE TRIGGER update_issues_updated_at BEFORE UPDATE ON issues
+    FOR EACH ROW
+    WHEN (OLD.updated_at IS DISTINCT FROM NEW.updated_at
+          OR (OLD.board_rank IS NOT DISTINCT FROM NEW.board_rank AND OLD.change_seq = NEW.change_seq
+              AND OLD.comment_count = NEW.comment_count AND OLD.attachment_count = NEW.attachment_count))
+    EXECUTE FUNCTION update_updated_at_column();
+
+-- Comments are paged per issue in (created_at, id) order
+DROP INDEX idx_comments_issue_id;
+CREATE INDEX idx_comments_issue_created ON comments(issue_id, created_at, id);
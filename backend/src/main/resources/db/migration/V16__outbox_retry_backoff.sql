@@ -0,0 +1,5 @@
+-- V16: Back off between outbox dispatch attempts
+-- A failed event is not claimed again before next_attempt_at, so a listener fault
+-- that lasts a few seconds no longer uses up every attempt and dead-letters the event.
+
+ALTER TABLE outbox_events ADD COLUMN next_attempt_at TIMESTAMP;
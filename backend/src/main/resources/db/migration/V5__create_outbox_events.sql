@@ -0,0 +1,21 @@
+-- V5: Transactional outbox for domain events
+-- Rows are written in the same transaction as the mutation that produced them
+-- and drained asynchronously by OutboxRelay, so side effects never fire for
+-- rolled-back transactions and never add latency to the API request.
+
+CREATE TABLE outbox_events (
+    id BIGSERIAL PRIMARY KEY,
+    aggregate_type VARCHAR(50) NOT NULL,
+    aggregate_id UUID NOT NULL,
+    event_type VARCHAR(100) NOT NULL,
+    payload JSONB NOT NULL,
+    attempts INTEGER NOT NULL DEFAULT 0,
+    last_error TEXT,
+    created_at TIMESTAMP NOT NULL DEFAULT CURRENT_TIMESTAMP,
+    processed_at TIMESTAMP
+);
+
+-- Partial index keeps the relay's "next pending batch" lookup small no matter
+-- how many processed rows are waiting for the retention purge
+CREATE INDEX idx_outbox_events_pending ON outbox_events(id) WHERE processed_at IS NULL;
+CREATE INDEX idx_outbox_events_processed_at ON outbox_events(processed_at) WHERE processed_at IS NOT NULL;
@@ -0,0 +1,18 @@
+-- V6: Per-user unread notification counters
+-- Maintained atomically alongside notification inserts and mark-read updates so
+-- that the unread badge is a primary-key lookup instead of a COUNT(*) scan.
+
+CREATE TABLE notification_counters (
+    user_id UUID PRIMARY KEY REFERENCES users(id) ON DELETE CASCADE,
+    unread_count BIGINT NOT NULL DEFAULT 0 CHECK (unread_count >= 0)
+);
+
+-- Backfill from existing notifications
+INSERT INTO notification_counters (user_id, unread_count)
+SELECT user_id, COUNT(*)
+FROM notifications
+WHERE is_read = FALSE
+GROUP BY user_id;
+
+-- Supports keyset pagination of a user's notifications (newest first)
+CREATE INDEX idx_notifications_user_created ON notifications(user_id, created_at DESC, id DESC);
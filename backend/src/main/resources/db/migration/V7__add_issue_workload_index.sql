@@ -0,0 +1,9 @@
+-- V7: Covering index for the team workload projection
+-- The workload query groups a project's issues by assignee and only reads
+-- status, story_points and due_date, so with these INCLUDE columns it can be
+-- answered with an index-only scan instead of visiting the issues heap.
+
+CREATE INDEX IF NOT EXISTS idx_issues_project_assignee_workload
+    ON issues(project_id, assignee_id) INCLUDE (status, story_points, due_date);
+
+COMMENT ON INDEX idx_issues_project_assignee_workload IS 'Covering index for per-assignee workload aggregation';
@@ -0,0 +1,43 @@
+-- V8: Incremental progress rollups per project and per epic
+-- Maintained by IssueService with +/- deltas in the same transaction as the issue change,
+-- so project and epic progress are primary-key lookups instead of scans over their issues.
+-- An issue is done when its status is DONE (case-insensitive); missing story points count as 0.
+
+-- Every issue of the project
+CREATE TABLE project_progress (
+    project_id UUID PRIMARY KEY REFERENCES projects(id) ON DELETE CASCADE,
+    total_issues BIGINT NOT NULL DEFAULT 0,
+    done_issues BIGINT NOT NULL DEFAULT 0,
+    total_points BIGINT NOT NULL DEFAULT 0,
+    done_points BIGINT NOT NULL DEFAULT 0
+);
+
+-- Direct children (stories, tasks, bugs) of the epic
+CREATE TABLE epic_progress (
+    epic_id UUID PRIMARY KEY REFERENCES issues(id) ON DELETE CASCADE,
+    total_issues BIGINT NOT NULL DEFAULT 0,
+    done_issues BIGINT NOT NULL DEFAULT 0,
+    total_points BIGINT NOT NULL DEFAULT 0,
+    done_points BIGINT NOT NULL DEFAULT 0
+);
+
+-- Backfill from existing issues
+INSERT INTO project_progress (project_id, total_issues, done_issues, total_points, done_points)
+SELECT project_id,
+       COUNT(*),
+       COUNT(*) FILTER (WHERE UPPER(status) = 'DONE'),
+       COALESCE(SUM(story_points), 0),
+       COALESCE(SUM(story_points) FILTER (WHERE UPPER(status) = 'DONE'), 0)
+FROM issues
+GROUP BY project_id;
+
+INSERT INTO epic_progress (epic_id, total_issues, done_issues, total_points, done_points)
+SELECT c.parent_issue_id,
+       COUNT(*),
+       COUNT(*) FILTER (WHERE UPPER(c.status) = 'DONE'),
+       COALESCE(SUM(c.story_points), 0),
+       COALESCE(SUM(c.story_points) FILTER (WHERE UPPER(c.status) = 'DONE'), 0)
+FROM issues c
+JOIN issues e ON e.id = c.parent_issue_id
+WHERE e.type = 'EPIC'
+GROUP BY c.parent_issue_id;
@@ -0,0 +1,10 @@
+-- Issue links: store link types as Java enum names, like the other enum columns (V3)
+ALTER TABLE issue_links DROP CONSTRAINT IF EXISTS issue_links_link_type_check;
+
+UPDATE issue_links SET link_type = UPPER(link_type);
+
+ALTER TABLE issue_links ADD CONSTRAINT issue_links_link_type_check
+    CHECK (link_type IN ('BLOCKS', 'IS_BLOCKED_BY', 'RELATES_TO', 'DUPLICATES', 'IS_DUPLICATED_BY'));
+
+-- Links of an issue are looked up from both ends; the unique key only covers the source side
+CREATE INDEX IF NOT EXISTS idx_issue_links_target_issue_id ON issue_links (target_issue_id);